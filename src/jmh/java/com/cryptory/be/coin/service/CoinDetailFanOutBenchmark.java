@@ -0,0 +1,80 @@
+package com.cryptory.be.coin.service;
+
+import com.cryptory.be.global.util.StructuredFanOut;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+// CoinServiceImpl.getCoinDetail 응답 시간 비교 (각 조회는 지연만 흉내)
+// - sequential: 코인 조회 후 차트 -> 현재가 -> 이슈 순서대로 (기존 방식, 합계 ≈ coin + charts + ticker + issues)
+// - fanOut: 코인 조회 후 세 조회를 StructuredFanOut으로 동시에 (≈ coin + max(charts, ticker, issues))
+// executor=virtual은 Java 21에서만 (./gradlew -PjavaVersion=21 jmh), Java 17에서는 해당 조합만 실패
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class CoinDetailFanOutBenchmark {
+
+    private static final long COIN_MS = 5;
+    private static final long CHARTS_MS = 30;
+    private static final long TICKER_MS = 60;
+    private static final long ISSUES_MS = 20;
+
+    @Param({"platform", "virtual"})
+    private String executor;
+
+    private ThreadPoolTaskExecutor platformExecutor;
+    private StructuredFanOut structuredFanOut;
+
+    @Setup
+    public void setUp() {
+        if ("virtual".equals(executor)) {
+            SimpleAsyncTaskExecutor virtualExecutor = new SimpleAsyncTaskExecutor("fanout-");
+            virtualExecutor.setVirtualThreads(true);
+            structuredFanOut = new StructuredFanOut(virtualExecutor, 3000);
+            return;
+        }
+        platformExecutor = new ThreadPoolTaskExecutor();
+        platformExecutor.setCorePoolSize(32);
+        platformExecutor.setMaxPoolSize(32);
+        platformExecutor.setThreadNamePrefix("fanout-");
+        platformExecutor.initialize();
+        structuredFanOut = new StructuredFanOut(platformExecutor, 3000);
+    }
+
+    @TearDown
+    public void tearDown() {
+        if (platformExecutor != null) {
+            platformExecutor.shutdown();
+        }
+    }
+
+    @Benchmark
+    public int sequential() throws InterruptedException {
+        int coin = io(COIN_MS);
+        int charts = io(CHARTS_MS);
+        int ticker = io(TICKER_MS);
+        int issues = io(ISSUES_MS);
+        return coin + charts + ticker + issues;
+    }
+
+    @Benchmark
+    public int fanOut() throws Exception {
+        int coin = io(COIN_MS);
+        try (StructuredFanOut.Scope scope = structuredFanOut.open()) {
+            Supplier<Integer> charts = scope.fork(() -> io(CHARTS_MS));
+            Supplier<Integer> ticker = scope.fork(() -> io(TICKER_MS));
+            Supplier<Integer> issues = scope.fork(() -> io(ISSUES_MS));
+            scope.join();
+            return coin + charts.get() + ticker.get() + issues.get();
+        }
+    }
+
+    // 블로킹 I/O 대기 흉내
+    private static int io(long millis) throws InterruptedException {
+        Thread.sleep(millis);
+        return 1;
+    }
+}
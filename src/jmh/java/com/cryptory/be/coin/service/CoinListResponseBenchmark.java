@@ -0,0 +1,119 @@
+package com.cryptory.be.coin.service;
+
+import com.cryptory.be.coin.domain.CoinSymbolEnum;
+import com.cryptory.be.coin.dto.CoinDto;
+import com.cryptory.be.global.response.ApiResponse;
+import com.cryptory.be.openapi.dto.Ticker;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.HttpStatus;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+// GET /api/v1/coins 요청 하나 처리량 비교 (코인/현재가 조회는 이미 끝났다고 보고 응답 만드는 부분만)
+// - current: CoinDto 변환 + ApiResponse + Jackson 직렬화 (기존 방식)
+// - cachedIdentity / cachedGzip: Accept-Encoding 확인 후 미리 만든 바이트 복사 (CoinListResponseCache)
+// - cachedNotModified: If-None-Match가 같아 304로 끝나는 경우
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class CoinListResponseBenchmark {
+
+    @Param({"7", "50"})
+    private int coinCount;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final ByteArrayOutputStream out = new ByteArrayOutputStream(64 * 1024);
+
+    private List<CoinDto> template;
+    private Map<String, Ticker> tickerMap;
+    private CoinListResponseCache.CachedResponse cached;
+    private String ifNoneMatch;
+
+    @Setup
+    public void setUp() throws IOException {
+        CoinSymbolEnum[] symbols = CoinSymbolEnum.values();
+        template = new ArrayList<>();
+        List<Ticker> tickers = new ArrayList<>();
+        for (int i = 0; i < coinCount; i++) {
+            CoinSymbolEnum symbol = symbols[i % symbols.length];
+            String market = "KRW-" + symbol.name() + i;
+            template.add(CoinDto.builder()
+                    .coinId((long) i)
+                    .koreanName("코인" + i)
+                    .englishName("coin" + i)
+                    .code(market)
+                    .coinSymbol(symbol.toCoinSymbol())
+                    .build());
+
+            Ticker ticker = new Ticker();
+            ticker.setMarket(market);
+            ticker.setTradePrice(10_000.0 + i);
+            ticker.setSignedChangePrice(-120.0 + i);
+            ticker.setSignedChangeRate(-0.012);
+            tickers.add(ticker);
+        }
+        tickerMap = tickers.stream().collect(Collectors.toMap(Ticker::getMarket, Function.identity()));
+
+        byte[] identity = objectMapper.writeValueAsBytes(new ApiResponse<CoinDto>(HttpStatus.OK, current0()));
+        cached = new CoinListResponseCache.CachedResponse(1, "\"etag\"", "\"etag-gzip\"", List.of(),
+                identity, CoinListResponseCache.gzip(identity));
+        ifNoneMatch = cached.gzipEtag();
+    }
+
+    @Benchmark
+    public int current() throws IOException {
+        out.reset();
+        objectMapper.writeValue(out, new ApiResponse<CoinDto>(HttpStatus.OK, current0()));
+        return out.size();
+    }
+
+    @Benchmark
+    public int cachedIdentity() {
+        return write(CoinListResponseCache.acceptsGzip(null));
+    }
+
+    @Benchmark
+    public int cachedGzip() {
+        return write(CoinListResponseCache.acceptsGzip("gzip, deflate, br"));
+    }
+
+    @Benchmark
+    public boolean cachedNotModified() {
+        boolean gzip = CoinListResponseCache.acceptsGzip("gzip, deflate, br");
+        return (gzip ? cached.gzipEtag() : cached.etag()).equals(ifNoneMatch);
+    }
+
+    private int write(boolean gzip) {
+        out.reset();
+        byte[] body = gzip ? cached.gzip() : cached.identity();
+        out.write(body, 0, body.length);
+        return out.size();
+    }
+
+    // CoinServiceImpl.getCoins의 DTO 조립 부분
+    private List<CoinDto> current0() {
+        return template.stream()
+                .map(coin -> {
+                    Ticker ticker = tickerMap.get(coin.getCode());
+                    return CoinDto.builder()
+                            .coinId(coin.getCoinId())
+                            .koreanName(coin.getKoreanName())
+                            .englishName(coin.getEnglishName())
+                            .code(coin.getCode().substring(4))
+                            .coinSymbol(coin.getCoinSymbol())
+                            .tradePrice(ticker.getTradePrice())
+                            .signedChangePrice(ticker.getSignedChangePrice())
+                            .signedChangeRate(ticker.getSignedChangeRate())
+                            .build();
+                })
+                .toList();
+    }
+}
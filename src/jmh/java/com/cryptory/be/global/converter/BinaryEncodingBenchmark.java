@@ -0,0 +1,163 @@
+package com.cryptory.be.global.converter;
+
+import com.cryptory.be.chart.dto.ChartDto;
+import com.cryptory.be.coin.domain.CoinSymbolEnum;
+import com.cryptory.be.coin.dto.CoinDetailDto;
+import com.cryptory.be.coin.dto.CoinDto;
+import com.cryptory.be.global.response.ApiResponse;
+import com.cryptory.be.issue.dto.IssueDto;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import org.msgpack.jackson.dataformat.MessagePackFactory;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.HttpStatus;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// 응답 형식별 인코딩 시간 비교 (코인 상세 = 일봉 N개 + 이슈, 코인 목록)
+// - json: 기존 MappingJackson2HttpMessageConverter와 같은 ObjectMapper
+// - cbor / msgpack / protobuf: MessageConverterConfig에 등록한 컨버터와 같은 설정
+// 응답 크기는 보조 카운터(Sizes)로 결과 표에 함께 나옴: bytes = 이 형식, jsonBytes = 같은 응답의 JSON
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class BinaryEncodingBenchmark {
+
+    @Param({"json", "cbor", "msgpack", "protobuf"})
+    private String format;
+
+    @Param({"300"})
+    private int candleCount;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final ByteArrayOutputStream out = new ByteArrayOutputStream(128 * 1024);
+
+    private ApiResponse<CoinDetailDto> coinDetail;
+    private ApiResponse<CoinDto> coinList;
+    private ObjectWriter detailWriter;
+    private ObjectWriter listWriter;
+    private int jsonDetailBytes;
+    private int jsonListBytes;
+
+    @Setup
+    public void setUp() throws IOException {
+        coinDetail = new ApiResponse<>(HttpStatus.OK, coinDetail(candleCount));
+        coinList = new ApiResponse<>(HttpStatus.OK, coins(50));
+
+        switch (format) {
+            case "json" -> {
+                detailWriter = objectMapper.writer();
+                listWriter = objectMapper.writer();
+            }
+            case "cbor" -> {
+                detailWriter = objectMapper.copyWith(new CBORFactory()).writer();
+                listWriter = detailWriter;
+            }
+            case "msgpack" -> {
+                detailWriter = objectMapper.copyWith(new MessagePackFactory()).writer();
+                listWriter = detailWriter;
+            }
+            case "protobuf" -> {
+                ProtobufJacksonHttpMessageConverter converter = new ProtobufJacksonHttpMessageConverter(objectMapper);
+                detailWriter = converter.writer(coinDetail, CoinDetailDto.class);
+                listWriter = converter.writer(coinList, CoinDto.class);
+            }
+            default -> throw new IllegalArgumentException(format);
+        }
+
+        jsonDetailBytes = objectMapper.writeValueAsBytes(coinDetail).length;
+        jsonListBytes = objectMapper.writeValueAsBytes(coinList).length;
+    }
+
+    // 응답 크기 보고용 (EVENTS 카운터에 누적하지 않고 매번 대입하므로 값이 곧 크기)
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Sizes {
+        public long bytes;
+        public long jsonBytes;
+    }
+
+    @Benchmark
+    public int encodeCoinDetail(Sizes sizes) throws IOException {
+        out.reset();
+        detailWriter.writeValue(out, coinDetail);
+        sizes.bytes = out.size();
+        sizes.jsonBytes = jsonDetailBytes;
+        return out.size();
+    }
+
+    @Benchmark
+    public int encodeCoinList(Sizes sizes) throws IOException {
+        out.reset();
+        listWriter.writeValue(out, coinList);
+        sizes.bytes = out.size();
+        sizes.jsonBytes = jsonListBytes;
+        return out.size();
+    }
+
+    private static CoinDetailDto coinDetail(int candles) {
+        List<ChartDto> charts = new ArrayList<>(candles);
+        List<IssueDto> issues = new ArrayList<>();
+        for (int i = 0; i < candles; i++) {
+            double open = 100_000_000 + i * 12_345.67;
+            ChartDto chart = ChartDto.builder()
+                    .chartId((long) i + 1)
+                    .date(String.format("2024-%02d-%02dT00:00:00", i / 28 % 12 + 1, i % 28 + 1))
+                    .openingPrice(open)
+                    .highPrice(open * 1.031)
+                    .lowPrice(open * 0.977)
+                    .tradePrice(open * 1.004)
+                    .changeRate(0.004 + i * 1e-6)
+                    .build();
+            charts.add(chart);
+            if (i % 30 == 0) {
+                issues.add(IssueDto.builder()
+                        .issueId((long) i + 1)
+                        .chartId(chart.getChartId())
+                        .date(chart.getDate())
+                        .openingPrice(chart.getOpeningPrice())
+                        .highPrice(chart.getHighPrice())
+                        .lowPrice(chart.getLowPrice())
+                        .tradePrice(chart.getTradePrice())
+                        .build());
+            }
+        }
+        return CoinDetailDto.builder()
+                .coinId(1L)
+                .koreanName("비트코인")
+                .englishName("Bitcoin")
+                .code("BTC")
+                .coinSymbol(CoinSymbolEnum.BTC.toCoinSymbol())
+                .tradePrice(143_250_000.5)
+                .signedChangeRate(-0.00865)
+                .signedChangePrice(-1_250_000.0)
+                .timestamp("2025-01-01 09:00:00")
+                .chartList(charts)
+                .issueList(issues)
+                .build();
+    }
+
+    private static List<CoinDto> coins(int count) {
+        CoinSymbolEnum[] symbols = CoinSymbolEnum.values();
+        List<CoinDto> coins = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            CoinSymbolEnum symbol = symbols[i % symbols.length];
+            coins.add(CoinDto.builder()
+                    .coinId((long) i + 1)
+                    .koreanName("코인" + i)
+                    .englishName(symbol.name())
+                    .code("KRW-" + symbol.name())
+                    .coinSymbol(symbol.toCoinSymbol())
+                    .tradePrice(10_000 + i * 731.5)
+                    .signedChangePrice(-120.0 + i)
+                    .signedChangeRate(-0.012 + i * 0.0004)
+                    .build());
+        }
+        return coins;
+    }
+}
@@ -0,0 +1,104 @@
+package com.cryptory.be.global.util;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.text.ParseException;
+import java.text.SimpleDateFormat;
+import java.time.*;
+import java.time.format.DateTimeFormatter;
+import java.util.Date;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+// 기존 DateFormat 구현(복사본)과 FastDateFormat 비교
+// cached: 같은 값 반복(뉴스 목록, 티커 재조회), uncached: 매번 다른 값
+// B/op는 gc 프로파일러(gc.alloc.rate.norm)로 확인
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class DateFormatBenchmark {
+
+    private static final DateTimeFormatter INPUT_DATE_FORMAT = DateTimeFormatter.ofPattern("yyyyMMdd");
+    private static final DateTimeFormatter INPUT_TIME_FORMAT = DateTimeFormatter.ofPattern("HHmmss");
+    private static final DateTimeFormatter OUTPUT_DATE_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm");
+
+    private static final int SAMPLES = 4096;
+
+    private final String[] pubDates = new String[SAMPLES];
+    private final String[] tradeDates = new String[SAMPLES];
+    private final String[] tradeTimes = new String[SAMPLES];
+    private int cursor;
+
+    @Setup
+    public void setUp() {
+        DateTimeFormatter rfc = DateTimeFormatter.ofPattern("EEE, dd MMM yyyy HH:mm:ss Z", Locale.ENGLISH);
+        ZonedDateTime base = ZonedDateTime.of(2025, 2, 17, 9, 0, 0, 0, ZoneId.of("Asia/Seoul"));
+        for (int i = 0; i < SAMPLES; i++) {
+            ZonedDateTime time = base.plusMinutes(37L * i);
+            pubDates[i] = rfc.format(time);
+            tradeDates[i] = time.format(INPUT_DATE_FORMAT);
+            tradeTimes[i] = time.format(INPUT_TIME_FORMAT);
+        }
+    }
+
+    private int next() {
+        cursor = (cursor + 1) & (SAMPLES - 1);
+        return cursor;
+    }
+
+    @Benchmark
+    public String newsDateLegacy() throws ParseException {
+        return legacyFormatNewsDate(pubDates[next()]);
+    }
+
+    @Benchmark
+    public String newsDateUncached() {
+        return FastDateFormat.formatNewsDateUncached(pubDates[next()]);
+    }
+
+    @Benchmark
+    public String newsDateCached() {
+        return FastDateFormat.formatNewsDate(pubDates[next() & 15]);
+    }
+
+    @Benchmark
+    public long newsEpochSecondLegacy() {
+        return ZonedDateTime.parse(pubDates[next()], DateTimeFormatter.RFC_1123_DATE_TIME).toEpochSecond();
+    }
+
+    @Benchmark
+    public long newsEpochSecondFast() {
+        return FastDateFormat.parseRfc1123EpochSecond(pubDates[next()]);
+    }
+
+    @Benchmark
+    public String tradeTimeLegacy() {
+        int i = next();
+        return legacyFormatTradeTime(tradeDates[i], tradeTimes[i]);
+    }
+
+    @Benchmark
+    public String tradeTimeUncached() {
+        int i = next();
+        return FastDateFormat.formatTradeTimeUncached(tradeDates[i], tradeTimes[i]);
+    }
+
+    @Benchmark
+    public String tradeTimeCached() {
+        int i = next() & 15;
+        return FastDateFormat.formatTradeTime(tradeDates[i], tradeTimes[i]);
+    }
+
+    private static String legacyFormatNewsDate(String inputDate) throws ParseException {
+        SimpleDateFormat inputFormat = new SimpleDateFormat("EEE, dd MMM yyyy HH:mm:ss Z", Locale.ENGLISH);
+        SimpleDateFormat outputFormat = new SimpleDateFormat("yyyy-MM-dd");
+        Date date = inputFormat.parse(inputDate);
+        return outputFormat.format(date);
+    }
+
+    private static String legacyFormatTradeTime(String tradeDate, String tradeTime) {
+        LocalDate date = LocalDate.parse(tradeDate, INPUT_DATE_FORMAT);
+        LocalTime time = LocalTime.parse(tradeTime, INPUT_TIME_FORMAT);
+        return LocalDateTime.of(date, time).format(OUTPUT_DATE_FORMAT);
+    }
+}
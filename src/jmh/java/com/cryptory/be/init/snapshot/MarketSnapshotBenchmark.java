@@ -0,0 +1,103 @@
+package com.cryptory.be.init.snapshot;
+
+import com.cryptory.be.openapi.dto.Candle;
+import com.cryptory.be.openapi.dto.Market;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+// 시작 시 데이터 적재: 스냅샷 파일 읽기(warm)와 업비트 JSON 응답 파싱(cold) 비교
+// cold는 같은 데이터를 JSON 바이트로 미리 만들어 두고 파싱만 측정 (네트워크 왕복은 제외, 실제 cold 시작은 이보다 훨씬 느림)
+// InitDataLoad 전체 경로는 측정하지 않음: 적재는 JPA 저장소/트랜잭션(Spring 컨텍스트)과 업비트 호출(UpbitClient의 고정 URL)이 필요하고,
+// DB 저장 비용은 두 경로가 같으므로 차이는 데이터 출처(업비트 API 마켓 1회 + 코인당 일봉 최대 2회 vs 이 파일 읽기)에서만 난다.
+// 실제 시작 시간 차이는 init.phase 타이머(phase=COINS, CHARTS)와 "Initial data load 경과시간" 로그를 스냅샷 유무별로 비교
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class MarketSnapshotBenchmark {
+
+    private static final int MARKET_COUNT = 250;
+    private static final int SERIES_COUNT = 5;
+    private static final int CANDLE_COUNT = 200;
+
+    private static final TypeReference<List<Market>> MARKETS = new TypeReference<>() {
+    };
+    private static final TypeReference<List<Candle>> CANDLES = new TypeReference<>() {
+    };
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private Path path;
+    private byte[] marketsJson;
+    private List<byte[]> candlesJson;
+
+    @Setup
+    public void setUp() throws IOException {
+        List<Market> markets = new ArrayList<>();
+        for (int i = 0; i < MARKET_COUNT; i++) {
+            Market market = new Market();
+            market.setMarket("KRW-C" + i);
+            market.setKoreanName("코인" + i);
+            market.setEnglishName("coin" + i);
+            markets.add(market);
+        }
+
+        Map<String, List<Candle>> candles = new LinkedHashMap<>();
+        LocalDateTime start = LocalDateTime.of(2024, 1, 1, 0, 0);
+        for (int i = 0; i < SERIES_COUNT; i++) {
+            String market = markets.get(i).getMarket();
+            List<Candle> series = new ArrayList<>();
+            for (int j = 0; j < CANDLE_COUNT; j++) {
+                Candle candle = new Candle();
+                candle.setMarket(market);
+                candle.setCandleDateTime(start.plusDays(j) + ":00");
+                candle.setOpeningPrice(1000 + j);
+                candle.setHighPrice(1100 + j);
+                candle.setLowPrice(900 + j);
+                candle.setTradePrice(1050 + j);
+                candle.setChangePrice(50);
+                candle.setChangeRate(0.05);
+                series.add(candle);
+            }
+            candles.put(market, series);
+        }
+
+        path = Files.createTempFile("market-snapshot", ".bin");
+        MarketSnapshotCodec.write(new MarketSnapshot(System.currentTimeMillis(), markets, candles), path);
+
+        marketsJson = objectMapper.writeValueAsBytes(markets);
+        candlesJson = new ArrayList<>();
+        for (List<Candle> series : candles.values()) {
+            candlesJson.add(objectMapper.writeValueAsBytes(series));
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(path);
+    }
+
+    @Benchmark
+    public MarketSnapshot warm() throws IOException {
+        return MarketSnapshotCodec.read(path);
+    }
+
+    @Benchmark
+    public int cold() throws IOException {
+        int count = objectMapper.readValue(marketsJson, MARKETS).size();
+        for (byte[] json : candlesJson) {
+            count += objectMapper.readValue(json, CANDLES).size();
+        }
+        return count;
+    }
+}
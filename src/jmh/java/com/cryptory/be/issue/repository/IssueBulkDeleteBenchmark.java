@@ -0,0 +1,153 @@
+package com.cryptory.be.issue.repository;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.sql.*;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// 이슈 일괄 삭제: 기존 방식(엔티티 조회 + 행마다 UPDATE)과 청크 단위 벌크 UPDATE 비교 (H2 메모리 DB)
+// 기존 방식은 Hibernate 기본 설정(배치 미사용)에서 나가는 SQL과 같은 모양으로 재현
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class IssueBulkDeleteBenchmark {
+
+    private static final int TOTAL_ISSUES = 20000;
+    private static final int CHUNK_SIZE = 1000; // IssueService.DELETE_CHUNK_SIZE
+
+    @Param({"100", "1000", "10000"})
+    private int deleteCount;
+
+    private Connection connection;
+    private List<Long> ids;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        connection = DriverManager.getConnection("jdbc:h2:mem:issue-bench;DB_CLOSE_DELAY=-1");
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE coins (id BIGINT PRIMARY KEY, korean_name VARCHAR(50), code VARCHAR(20))");
+            statement.execute("CREATE TABLE charts (id BIGINT PRIMARY KEY, coin_id BIGINT, date VARCHAR(10), trade_price DOUBLE)");
+            statement.execute("CREATE TABLE issues (id BIGINT PRIMARY KEY, coin_id BIGINT, chart_id BIGINT, title VARCHAR(255), "
+                    + "content TEXT, news_title VARCHAR(255), source VARCHAR(255), type VARCHAR(20), request_count BIGINT, "
+                    + "user_id BIGINT, is_deleted BOOLEAN, date DATE, created_at TIMESTAMP, updated_at TIMESTAMP)");
+            statement.execute("INSERT INTO coins VALUES (1, '비트코인', 'KRW-BTC')");
+        }
+        try (PreparedStatement chart = connection.prepareStatement("INSERT INTO charts VALUES (?, 1, ?, 100.0)");
+             PreparedStatement issue = connection.prepareStatement("INSERT INTO issues VALUES (?, 1, ?, ?, ?, ?, ?, 'MANUAL', 0, 1, FALSE, CURRENT_DATE, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)")) {
+            for (long id = 1; id <= TOTAL_ISSUES; id++) {
+                chart.setLong(1, id);
+                chart.setString(2, "2025-01-01");
+                chart.addBatch();
+                issue.setLong(1, id);
+                issue.setLong(2, id);
+                issue.setString(3, "이슈 " + id);
+                issue.setString(4, "요약 내용 ".repeat(20));
+                issue.setString(5, "뉴스 제목 " + id);
+                issue.setString(6, "출처");
+                issue.addBatch();
+            }
+            chart.executeBatch();
+            issue.executeBatch();
+        }
+
+        ids = new ArrayList<>(deleteCount);
+        for (long id = 1; id <= deleteCount; id++) {
+            ids.add(id * 2); // 존재하는 id 사이사이로
+        }
+    }
+
+    @Setup(Level.Invocation)
+    public void restore() throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.executeUpdate("UPDATE issues SET is_deleted = FALSE WHERE is_deleted = TRUE");
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP ALL OBJECTS");
+        }
+        connection.close();
+    }
+
+    @Benchmark
+    public int loadAndUpdateEach() throws SQLException {
+        // findAllById (EAGER coin, chart 조인) -> 엔티티마다 dirty checking UPDATE
+        List<Long> found = new ArrayList<>(ids.size());
+        try (PreparedStatement select = connection.prepareStatement(
+                "SELECT i.*, c.*, ch.* FROM issues i LEFT JOIN coins c ON c.id = i.coin_id "
+                        + "LEFT JOIN charts ch ON ch.id = i.chart_id WHERE i.id IN (" + placeholders(ids.size()) + ")")) {
+            bind(select, ids, 1);
+            try (ResultSet rs = select.executeQuery()) {
+                while (rs.next()) {
+                    found.add(rs.getLong(1));
+                }
+            }
+        }
+
+        int affected = 0;
+        try (PreparedStatement update = connection.prepareStatement(
+                "UPDATE issues SET chart_id = ?, coin_id = ?, content = ?, date = ?, is_deleted = ?, news_title = ?, "
+                        + "request_count = ?, source = ?, title = ?, type = ?, user_id = ?, updated_at = ? WHERE id = ?")) {
+            Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+            for (Long id : found) {
+                update.setLong(1, id);
+                update.setLong(2, 1L);
+                update.setString(3, "요약 내용 ".repeat(20));
+                update.setDate(4, Date.valueOf("2025-01-01"));
+                update.setBoolean(5, true);
+                update.setString(6, "뉴스 제목 " + id);
+                update.setLong(7, 0L);
+                update.setString(8, "출처");
+                update.setString(9, "이슈 " + id);
+                update.setString(10, "MANUAL");
+                update.setLong(11, 1L);
+                update.setTimestamp(12, now);
+                update.setLong(13, id);
+                affected += update.executeUpdate();
+            }
+        }
+        return affected;
+    }
+
+    @Benchmark
+    public int chunkedBulkUpdate() throws SQLException {
+        // IssueRepository.findExistingIds + softDeleteByIds 를 청크마다
+        int affected = 0;
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        for (int from = 0; from < ids.size(); from += CHUNK_SIZE) {
+            List<Long> chunk = ids.subList(from, Math.min(from + CHUNK_SIZE, ids.size()));
+            try (PreparedStatement select = connection.prepareStatement(
+                    "SELECT id FROM issues WHERE id IN (" + placeholders(chunk.size()) + ")")) {
+                bind(select, chunk, 1);
+                try (ResultSet rs = select.executeQuery()) {
+                    while (rs.next()) {
+                        rs.getLong(1);
+                    }
+                }
+            }
+            try (PreparedStatement update = connection.prepareStatement(
+                    "UPDATE issues SET is_deleted = TRUE, updated_at = ? WHERE id IN (" + placeholders(chunk.size()) + ") AND is_deleted = FALSE")) {
+                update.setTimestamp(1, now);
+                bind(update, chunk, 2);
+                affected += update.executeUpdate();
+            }
+        }
+        return affected;
+    }
+
+    private static String placeholders(int count) {
+        return String.join(",", Collections.nCopies(count, "?"));
+    }
+
+    private static void bind(PreparedStatement statement, List<Long> values, int firstIndex) throws SQLException {
+        for (int i = 0; i < values.size(); i++) {
+            statement.setLong(firstIndex + i, values.get(i));
+        }
+    }
+}
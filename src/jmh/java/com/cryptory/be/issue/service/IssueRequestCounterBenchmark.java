@@ -0,0 +1,49 @@
+package com.cryptory.be.issue.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+// 인기 이슈 하나에 64개 스레드가 동시에 요청 횟수를 올릴 때 비교
+// - lockedReadModifyWrite: 요청마다 행 잠금 후 읽고 쓰는 방식(synchronized로 근사)
+// - atomicLong: 단일 CAS 변수
+// - issueRequestCounter: IssueRequestCounter.increment (LongAdder, DB 반영은 별도 주기)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Threads(64)
+public class IssueRequestCounterBenchmark {
+
+    private static final Long HOT_ISSUE_ID = 1L;
+
+    private final Object rowLock = new Object();
+    private long row;
+    private final AtomicLong atomic = new AtomicLong();
+    private IssueRequestCounter counter;
+
+    @Setup
+    public void setUp() {
+        counter = new IssueRequestCounter(null, null, new SimpleMeterRegistry()); // flush는 호출하지 않음
+    }
+
+    @Benchmark
+    public long lockedReadModifyWrite() {
+        synchronized (rowLock) {
+            long current = row;
+            row = current + 1;
+            return row;
+        }
+    }
+
+    @Benchmark
+    public long atomicLong() {
+        return atomic.incrementAndGet();
+    }
+
+    @Benchmark
+    public void issueRequestCounter() {
+        counter.increment(HOT_ISSUE_ID);
+    }
+}
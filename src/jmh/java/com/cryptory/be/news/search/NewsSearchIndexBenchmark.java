@@ -0,0 +1,93 @@
+package com.cryptory.be.news.search;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+// 기사 100만 건 기준 색인 구성 시간(SingleShot)과 검색 지연(AverageTime)
+@Fork(value = 1, jvmArgsAppend = {"-Xms6g", "-Xmx6g"})
+public class NewsSearchIndexBenchmark {
+
+    private static final String[] WORDS = {
+            "비트코인", "이더리움", "리플", "도지코인", "에이다", "솔라나", "코인", "가상자산", "거래소", "업비트",
+            "상승", "하락", "반감기", "규제", "투자자", "시장", "급등", "급락", "전망", "분석",
+            "ETF", "SEC", "금리", "달러", "채굴", "지갑", "해킹", "상장", "폐지", "거래량"
+    };
+    private static final String[] KEYWORDS = {"비트코인", "이더리움", "리플", "도지코인", "에이다", "코인"};
+    private static final String[] QUERIES = {"비트코인 ETF", "이더리움 상승", "코인 규제 전망", "도지코인", "거래소 해킹", "반감기 채굴"};
+
+    @State(Scope.Benchmark)
+    public static class Corpus {
+        @Param({"1000000"})
+        public int articles;
+
+        String[] titles;
+        String[] descriptions;
+
+        @Setup(Level.Trial)
+        public void generate() {
+            SplittableRandom random = new SplittableRandom(42);
+            titles = new String[articles];
+            descriptions = new String[articles];
+            for (int i = 0; i < articles; i++) {
+                titles[i] = sentence(random, 6);
+                descriptions[i] = sentence(random, 24);
+            }
+        }
+
+        NewsSearchIndex build() {
+            NewsSearchIndex index = new NewsSearchIndex();
+            for (int i = 0; i < articles; i++) {
+                index.add(i + 1L, titles[i], descriptions[i], List.of(KEYWORDS[i % KEYWORDS.length]));
+            }
+            return index;
+        }
+
+        private static String sentence(SplittableRandom random, int words) {
+            StringBuilder sb = new StringBuilder();
+            for (int w = 0; w < words; w++) {
+                if (w > 0) {
+                    sb.append(' ');
+                }
+                sb.append(WORDS[random.nextInt(WORDS.length)]);
+            }
+            return sb.toString();
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class BuiltIndex {
+        NewsSearchIndex index;
+        int cursor;
+
+        @Setup(Level.Trial)
+        public void build(Corpus corpus) {
+            index = corpus.build();
+        }
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(iterations = 1)
+    @Measurement(iterations = 3)
+    public NewsSearchIndex buildIndex(Corpus corpus) {
+        return corpus.build();
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public List<NewsSearchIndex.Hit> searchTop20(BuiltIndex state) {
+        return state.index.search(QUERIES[state.cursor++ % QUERIES.length], null, 20);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public List<NewsSearchIndex.Hit> searchTop20ByCoin(BuiltIndex state) {
+        return state.index.search(QUERIES[state.cursor++ % QUERIES.length], "비트코인", 20);
+    }
+}
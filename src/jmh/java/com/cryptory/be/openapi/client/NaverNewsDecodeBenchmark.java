@@ -0,0 +1,61 @@
+package com.cryptory.be.openapi.client;
+
+import com.cryptory.be.openapi.dto.NaverNews;
+import com.google.gson.Gson;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import com.google.gson.reflect.TypeToken;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// 네이버 뉴스 응답 형태의 JSON으로 기존 파싱(문자열 + JsonObject + 재바인딩)과 스트리밍 파싱 비교
+// resources/naver/news-display-*.json은 실제 응답을 녹화한 것이 아니라 같은 필드 구성으로 만든 합성 데이터
+// (제목/요약은 코인 키워드 조합, <b> 태그와 &quot; 엔티티 포함, 링크는 example 도메인) - 실제 응답과 길이/문자 분포가 다를 수 있음
+// B/op는 gc 프로파일러(gc.alloc.rate.norm)로 확인
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class NaverNewsDecodeBenchmark {
+
+    @Param({"news-display-10.json", "news-display-100.json"})
+    private String payload;
+
+    private byte[] body;
+
+    @Setup
+    public void setUp() throws IOException {
+        try (InputStream in = getClass().getResourceAsStream("/naver/" + payload)) {
+            body = in.readAllBytes();
+        }
+    }
+
+    @Benchmark
+    public List<NaverNews> legacy() throws IOException {
+        String responseBody;
+        try (BufferedReader lineReader = new BufferedReader(new InputStreamReader(new ByteArrayInputStream(body)))) {
+            StringBuilder builder = new StringBuilder();
+            String line;
+            while ((line = lineReader.readLine()) != null) {
+                builder.append(line);
+            }
+            responseBody = builder.toString();
+        }
+
+        Gson gson = new Gson();
+        JsonObject jsonObject = gson.fromJson(responseBody, JsonObject.class);
+        JsonArray itemsArray = jsonObject.getAsJsonArray("items");
+        return gson.fromJson(itemsArray, new TypeToken<List<NaverNews>>(){}.getType());
+    }
+
+    @Benchmark
+    public List<NaverNews> streaming() throws IOException {
+        return NaverClient.readItems(new ByteArrayInputStream(body));
+    }
+}
@@ -0,0 +1,128 @@
+package com.cryptory.be.openapi.client;
+
+import com.cryptory.be.openapi.dto.Ticker;
+import com.sun.net.httpserver.HttpServer;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.client.RestTemplate;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.springframework.http.HttpMethod.GET;
+
+// 응답이 느린 로컬 업비트 스텁(delayMs 지연)에 동시 요청 concurrency개를 보내고 모두 끝날 때까지의 시간 비교
+// - blocking: 요청 스레드 workerThreads개(Tomcat 스레드 풀 역할)가 RestTemplate으로 응답을 기다림 (UpbitClient 방식)
+//   -> 한 번에 workerThreads개만 진행되므로 대략 ceil(concurrency / workerThreads) * delayMs
+// - reactive: 같은 스레드 수 제한 없이 WebClient 동시 요청 (ReactiveUpbitClient 방식) -> 대략 delayMs
+// 요청 스레드 수(= 스레드 스택 메모리)를 고정했을 때 같은 시간 안에 처리할 수 있는 동시 요청 수 차이를 보기 위한 것, 할당량은 gc 프로파일러로 확인
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class SlowUpbitLoadBenchmark {
+
+    private static final String TICKER_JSON = "[{\"market\":\"KRW-BTC\",\"trade_date\":\"20250101\",\"trade_time\":\"000000\","
+            + "\"trade_price\":143250000.0,\"change\":\"FALL\",\"signed_change_price\":-1250000.0,\"signed_change_rate\":-0.00865}]";
+
+    @Param({"200"})
+    private long delayMs;
+
+    @Param({"64", "256"})
+    private int concurrency;
+
+    @Param({"16"})
+    private int workerThreads;
+
+    private HttpServer stub;
+    private ExecutorService stubExecutor;
+    private ExecutorService requestThreads;
+    private ConnectionProvider connectionProvider;
+
+    private String baseUrl;
+    private RestTemplate restTemplate;
+    private ReactiveUpbitClient reactiveClient;
+
+    @Setup
+    public void setUp() throws IOException {
+        // 스텁은 병목이 되지 않도록 요청마다 스레드
+        stubExecutor = Executors.newCachedThreadPool();
+        stub = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 1024);
+        stub.createContext("/v1/ticker", exchange -> {
+            try {
+                Thread.sleep(delayMs);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            byte[] body = TICKER_JSON.getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        stub.setExecutor(stubExecutor);
+        stub.start();
+        baseUrl = "http://127.0.0.1:" + stub.getAddress().getPort() + "/v1/";
+
+        requestThreads = Executors.newFixedThreadPool(workerThreads);
+        restTemplate = new RestTemplate();
+
+        connectionProvider = ConnectionProvider.builder("upbit-stub")
+                .maxConnections(concurrency)
+                .pendingAcquireMaxCount(concurrency * 4)
+                .build();
+        reactiveClient = new ReactiveUpbitClient(WebClient.builder()
+                .baseUrl(baseUrl)
+                .clientConnector(new ReactorClientHttpConnector(HttpClient.create(connectionProvider)))
+                .build());
+    }
+
+    @TearDown
+    public void tearDown() {
+        stub.stop(0);
+        stubExecutor.shutdownNow();
+        requestThreads.shutdownNow();
+        connectionProvider.dispose();
+    }
+
+    @Benchmark
+    public int blocking() throws Exception {
+        List<Future<List<Ticker>>> futures = new ArrayList<>(concurrency);
+        for (int i = 0; i < concurrency; i++) {
+            futures.add(requestThreads.submit(() -> restTemplate.exchange(
+                    baseUrl + "ticker?markets=KRW-BTC",
+                    GET,
+                    null,
+                    new ParameterizedTypeReference<List<Ticker>>() {
+                    }
+            ).getBody()));
+        }
+        int received = 0;
+        for (Future<List<Ticker>> future : futures) {
+            received += future.get().size();
+        }
+        return received;
+    }
+
+    @Benchmark
+    public int reactive() {
+        return Flux.range(0, concurrency)
+                .flatMap(i -> reactiveClient.getTickers("KRW-BTC"), concurrency)
+                .map(List::size)
+                .reduce(0, Integer::sum)
+                .block();
+    }
+}
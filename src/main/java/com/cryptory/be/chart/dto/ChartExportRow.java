@@ -0,0 +1,7 @@
+package com.cryptory.be.chart.dto;
+
+// 차트 내보내기용 프로젝션 (엔티티가 아니라 영속성 컨텍스트에 쌓이지 않음)
+public record ChartExportRow(Long chartId, String date,
+                             Double openingPrice, Double highPrice, Double lowPrice, Double tradePrice,
+                             Double changeRate, Double changePrice) {
+}
@@ -0,0 +1,5 @@
+package com.cryptory.be.chart.dto;
+
+// 코인 차트 데이터 버전 (마지막 일봉 날짜 + 일봉 수, 업비트 동기화로 일봉이 추가되면 바뀜)
+public record ChartVersion(String latestDate, long count) {
+}
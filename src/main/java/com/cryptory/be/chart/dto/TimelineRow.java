@@ -0,0 +1,7 @@
+package com.cryptory.be.chart.dto;
+
+// 차트 한 줄 + (있으면) 그날의 이슈, 타임라인 조회용 프로젝션
+public record TimelineRow(Long chartId, String date,
+                          Double openingPrice, Double highPrice, Double lowPrice, Double tradePrice, Double changeRate,
+                          Long issueId, String issueTitle) {
+}
@@ -1,22 +1,67 @@
 package com.cryptory.be.chart.repository;
 
 import com.cryptory.be.chart.domain.Chart;
+import com.cryptory.be.chart.dto.ChartExportRow;
+import com.cryptory.be.chart.dto.ChartVersion;
+import com.cryptory.be.chart.dto.TimelineRow;
+import jakarta.persistence.QueryHint;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.HibernateHints.HINT_READ_ONLY;
 
 @Repository
 public interface ChartRepository extends JpaRepository<Chart, Long> {
     List<Chart> findAllByCoinId(Long coinId);
 
+    // 초기 적재 시 이미 받은 코인인지 확인
+    boolean existsByCoinId(Long coinId);
+
+    // 코인의 가장 최근 차트 날짜 (업비트 동기화 시 이후 일봉만 추가)
+    @Query("SELECT MAX(c.date) FROM Chart c WHERE c.coin.id = :coinId")
+    Optional<String> findLatestDate(@Param("coinId") Long coinId);
+
+    // 응답 ETag용 차트 버전 (본문 조회 없이)
+    @Query("SELECT new com.cryptory.be.chart.dto.ChartVersion(MAX(c.date), COUNT(c)) FROM Chart c WHERE c.coin.id = :coinId")
+    ChartVersion findVersion(@Param("coinId") Long coinId);
+
     //Optional<Chart> findByDateAndCoinId(String date, Long coinId);
 
     @Query("SELECT c FROM Chart c WHERE c.date LIKE :dateStr AND c.coin.id = :coinId")
     Optional<Chart> findByDateAndCoinId(@Param("dateStr") String dateStr, @Param("coinId") Long coinId);
 
+    // 이상 변동 감지용, 마지막으로 본 날짜 이후 차트를 날짜순으로
+    @Query("SELECT c FROM Chart c WHERE c.coin.id = :coinId AND c.date > :afterDate ORDER BY c.date")
+    List<Chart> findAfterDate(@Param("coinId") Long coinId, @Param("afterDate") String afterDate);
+
+    // 날짜순 차트 + 같은 차트에 등록된(삭제되지 않은) 이슈를 한 번의 left join으로
+    // date는 "yyyy-MM-ddTHH:mm:ss" 문자열이라 문자열 비교로 범위 조회 (to는 미포함)
+    // 호출하는 쪽에서 트랜잭션 안에서 소비하고 닫아야 한다.
+    @QueryHints({@QueryHint(name = HINT_FETCH_SIZE, value = "500"), @QueryHint(name = HINT_READ_ONLY, value = "true")})
+    @Query("SELECT new com.cryptory.be.chart.dto.TimelineRow(c.id, c.date, c.openingPrice, c.highPrice, c.lowPrice, "
+            + "c.tradePrice, c.changeRate, i.id, i.title) "
+            + "FROM Chart c LEFT JOIN Issue i ON i.chart = c AND i.isDeleted = false "
+            + "WHERE c.coin.id = :coinId AND c.date >= :from AND c.date < :to "
+            + "ORDER BY c.date, c.id")
+    Stream<TimelineRow> streamTimeline(@Param("coinId") Long coinId, @Param("from") String from, @Param("to") String to);
+
+    // 날짜순 차트 내보내기, 범위 조건과 소비 방식은 streamTimeline과 같다.
+    // MySQL은 useCursorFetch=true여야 fetch size 단위로 읽는다. (MysqlCursorFetchConfig가 풀마다 설정)
+    @QueryHints({@QueryHint(name = HINT_FETCH_SIZE, value = "500"), @QueryHint(name = HINT_READ_ONLY, value = "true")})
+    @Query("SELECT new com.cryptory.be.chart.dto.ChartExportRow(c.id, c.date, c.openingPrice, c.highPrice, c.lowPrice, "
+            + "c.tradePrice, c.changeRate, c.changePrice) "
+            + "FROM Chart c "
+            + "WHERE c.coin.id = :coinId AND c.date >= :from AND c.date < :to "
+            + "ORDER BY c.date, c.id")
+    Stream<ChartExportRow> streamExport(@Param("coinId") Long coinId, @Param("from") String from, @Param("to") String to);
+
 }
@@ -0,0 +1,132 @@
+package com.cryptory.be.chart.service;
+
+import com.cryptory.be.chart.dto.ChartExportRow;
+import com.cryptory.be.chart.dto.ChartVersion;
+import com.cryptory.be.chart.dto.TimelineRow;
+import com.cryptory.be.chart.exception.ChartErrorCode;
+import com.cryptory.be.chart.exception.ChartException;
+import com.cryptory.be.chart.repository.ChartRepository;
+import com.cryptory.be.coin.exception.CoinErrorCode;
+import com.cryptory.be.coin.exception.CoinException;
+import com.cryptory.be.coin.repository.CoinRepository;
+import com.cryptory.be.global.response.ApiResponseStreamWriter;
+import com.cryptory.be.global.response.ResourceVersion;
+import com.cryptory.be.issue.dto.IssueVersion;
+import com.cryptory.be.issue.repository.IssueRepository;
+import com.fasterxml.jackson.core.JsonGenerator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDate;
+import java.util.stream.Stream;
+
+/**
+ * 코인 차트 타임라인 (캔들 + 이슈 표시), 차트 내보내기
+ * DB에서 날짜순으로 읽으면서 바로 응답 스트림에 쓴다. (중간 리스트 없음, 형태는 ApiResponseStreamWriter 참고)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class ChartTimelineService {
+
+    private static final String MIN_DATE = "0000";
+    private static final String MAX_DATE = "9999";
+
+    private final ChartRepository chartRepository;
+    private final CoinRepository coinRepository;
+    private final IssueRepository issueRepository;
+    private final ApiResponseStreamWriter responseWriter;
+
+    /**
+     * @param from 포함, null이면 처음부터
+     * @param to   포함, null이면 끝까지
+     */
+    public void writeTimeline(Long coinId, LocalDate from, LocalDate to, OutputStream out) throws IOException {
+        validate(coinId, from, to);
+
+        try (Stream<TimelineRow> rows = chartRepository.streamTimeline(coinId, fromKey(from), toKey(to))) {
+            responseWriter.write(out, rows.iterator(), ChartTimelineService::writeRow);
+        }
+    }
+
+    /**
+     * 코인의 전체(또는 기간) 일봉을 날짜순으로, 행 수와 관계없이 일정한 메모리로 쓴다.
+     * @param from 포함, null이면 처음부터
+     * @param to   포함, null이면 끝까지
+     */
+    public void writeExport(Long coinId, LocalDate from, LocalDate to, OutputStream out) throws IOException {
+        validate(coinId, from, to);
+
+        try (Stream<ChartExportRow> rows = chartRepository.streamExport(coinId, fromKey(from), toKey(to))) {
+            int count = responseWriter.write(out, rows.iterator());
+            log.debug("Exported {} charts for coin {}", count, coinId);
+        }
+    }
+
+    // 타임라인 ETag: 차트 버전 + 이슈 버전 + 조회 범위 (본문 조회 없이 집계 쿼리 두 번)
+    // 차트에는 수정 시각이 없어 Last-Modified는 쓰지 않음
+    public ResourceVersion getTimelineVersion(Long coinId, LocalDate from, LocalDate to) {
+        validate(coinId, from, to);
+        ChartVersion charts = chartRepository.findVersion(coinId);
+        IssueVersion issues = issueRepository.findVersion(coinId);
+        return ResourceVersion.of(-1, "timeline", coinId, from, to,
+                charts.latestDate(), charts.count(), issues.updatedAt(), issues.count());
+    }
+
+    // 내보내기 ETag: 차트 버전 + 조회 범위
+    public ResourceVersion getExportVersion(Long coinId, LocalDate from, LocalDate to) {
+        validate(coinId, from, to);
+        ChartVersion charts = chartRepository.findVersion(coinId);
+        return ResourceVersion.of(-1, "export", coinId, from, to, charts.latestDate(), charts.count());
+    }
+
+    // 검증 실패는 아무것도 쓰기 전에 예외로 (공통 예외 처리로 응답)
+    private void validate(Long coinId, LocalDate from, LocalDate to) {
+        if (from != null && to != null && from.isAfter(to)) {
+            throw new ChartException(ChartErrorCode.INVALID_DATE_RANGE);
+        }
+        if (!coinRepository.existsById(coinId)) {
+            throw new CoinException(CoinErrorCode.COIN_DATA_MISSING);
+        }
+    }
+
+    private static String fromKey(LocalDate from) {
+        return from == null ? MIN_DATE : from.toString();
+    }
+
+    private static String toKey(LocalDate to) {
+        return to == null ? MAX_DATE : to.plusDays(1).toString();
+    }
+
+    private static void writeRow(JsonGenerator generator, TimelineRow row) throws IOException {
+        generator.writeStartObject();
+        generator.writeNumberField("chartId", row.chartId());
+        generator.writeStringField("date", row.date());
+        writeNumber(generator, "openingPrice", row.openingPrice());
+        writeNumber(generator, "highPrice", row.highPrice());
+        writeNumber(generator, "lowPrice", row.lowPrice());
+        writeNumber(generator, "tradePrice", row.tradePrice());
+        writeNumber(generator, "changeRate", row.changeRate());
+        // 이슈가 있는 날만 issue 필드 추가
+        if (row.issueId() != null) {
+            generator.writeObjectFieldStart("issue");
+            generator.writeNumberField("issueId", row.issueId());
+            generator.writeStringField("title", row.issueTitle());
+            generator.writeEndObject();
+        }
+        generator.writeEndObject();
+    }
+
+    private static void writeNumber(JsonGenerator generator, String field, Double value) throws IOException {
+        if (value == null) {
+            generator.writeNullField(field);
+        } else {
+            generator.writeNumberField(field, value);
+        }
+    }
+}
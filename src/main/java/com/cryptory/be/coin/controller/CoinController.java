@@ -1,18 +1,31 @@
 package com.cryptory.be.coin.controller;
 
-import java.util.List;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
 import java.util.NoSuchElementException;
+import java.util.Optional;
 
+import com.cryptory.be.chart.service.ChartTimelineService;
 import com.cryptory.be.coin.dto.CoinDetailDto;
+import com.cryptory.be.coin.dto.CoinDto;
 import com.cryptory.be.coin.dto.CoinNewsDto;
+import com.cryptory.be.coin.service.CoinListResponseCache;
+import com.cryptory.be.global.converter.BinaryMediaTypes;
 import com.cryptory.be.global.response.ApiResponse;
+import com.cryptory.be.global.response.CursorPage;
+import com.cryptory.be.global.response.ResourceVersion;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
-import com.cryptory.be.coin.dto.CoinDto;
 import com.cryptory.be.coin.service.CoinService;
 
 @Slf4j
@@ -22,14 +35,38 @@ import com.cryptory.be.coin.service.CoinService;
 public class CoinController {
 
 	private final CoinService coinService;
+	private final ChartTimelineService chartTimelineService;
+	private final CoinListResponseCache coinListResponseCache;
 	
-	// 코인 목록 조회
+	// 코인 목록 조회 - 현재가 스냅샷마다 한 번 직렬화한 응답을 그대로 (If-None-Match가 같으면 304)
+	// Accept가 바이너리 형식(CBOR, MessagePack, Protobuf)이면 캐시된 목록을 해당 컨버터로 직렬화
 	@GetMapping
-	public ApiResponse<CoinDto> getCoins() throws Exception {
-		
-		List<CoinDto> coinList = coinService.getCoins();
+	public ResponseEntity<?> getCoins(@RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+									  @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept,
+									  WebRequest webRequest) {
+
+		CoinListResponseCache.CachedResponse cached = coinListResponseCache.get();
+		if (BinaryMediaTypes.isRequested(accept)) {
+			return ResponseEntity.ok()
+					.varyBy(HttpHeaders.ACCEPT)
+					.body(new ApiResponse<CoinDto>(HttpStatus.OK, cached.coins()));
+		}
+
+		boolean gzip = CoinListResponseCache.acceptsGzip(acceptEncoding);
+		String etag = gzip ? cached.gzipEtag() : cached.etag();
+
+		if (webRequest.checkNotModified(etag)) {
+			return null; // 304, 본문 없음
+		}
 
-		return new ApiResponse<>(HttpStatus.OK, coinList);
+		ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+				.contentType(MediaType.APPLICATION_JSON)
+				.eTag(etag)
+				.varyBy(HttpHeaders.ACCEPT, HttpHeaders.ACCEPT_ENCODING);
+		if (gzip) {
+			response.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+		}
+		return response.body(gzip ? cached.gzip() : cached.identity());
 	}
 	
 	// 특정 코인 상세 조회
@@ -42,13 +79,50 @@ public class CoinController {
 		
 	}
 	
-	// 특정 코인 뉴스 조회 - 네이버 뉴스
+	// 특정 코인 뉴스 조회 - 네이버 뉴스 (가져온 시각이 같으면 304)
 	@GetMapping("/{coinId}/news")
-	public ApiResponse<CoinNewsDto> searchCoinNews(@PathVariable("coinId") Long coinId) {
-		List<CoinNewsDto> coinNewsList = coinService.getCoinNews(coinId);
+	public ApiResponse<CoinNewsDto> searchCoinNews(@PathVariable("coinId") Long coinId,
+												   @RequestParam(value = "cursor", required = false) String cursor,
+												   @RequestParam(value = "size", defaultValue = "10") int size,
+												   WebRequest webRequest) {
+		Optional<ResourceVersion> version = coinService.getCoinNewsVersion(coinId, cursor, size);
+		if (version.isPresent() && version.get().checkNotModified(webRequest)) {
+			return null; // 304
+		}
+		CursorPage<CoinNewsDto> coinNewsList = coinService.getCoinNews(coinId, cursor, size);
 		return new ApiResponse<>(HttpStatus.OK, coinNewsList);
 	}
 
+	// 특정 코인 차트 타임라인 - 날짜순 캔들 + 이슈 표시 (응답 스트림으로 바로 작성, 차트/이슈 버전이 같으면 304)
+	@GetMapping(value = "/{coinId}/timeline", produces = MediaType.APPLICATION_JSON_VALUE)
+	public void getCoinTimeline(@PathVariable("coinId") Long coinId,
+								@RequestParam(value = "from", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+								@RequestParam(value = "to", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+								WebRequest webRequest,
+								HttpServletResponse response) throws IOException {
+		if (chartTimelineService.getTimelineVersion(coinId, from, to).checkNotModified(webRequest)) {
+			return;
+		}
+		response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+		response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+		chartTimelineService.writeTimeline(coinId, from, to, response.getOutputStream());
+	}
+
+	// 특정 코인 차트 내보내기 - 날짜순 일봉 전체 (응답 스트림으로 바로 작성, 차트 버전이 같으면 304)
+	@GetMapping(value = "/{coinId}/charts/export", produces = MediaType.APPLICATION_JSON_VALUE)
+	public void exportCoinCharts(@PathVariable("coinId") Long coinId,
+								 @RequestParam(value = "from", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+								 @RequestParam(value = "to", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+								 WebRequest webRequest,
+								 HttpServletResponse response) throws IOException {
+		if (chartTimelineService.getExportVersion(coinId, from, to).checkNotModified(webRequest)) {
+			return;
+		}
+		response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+		response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+		chartTimelineService.writeExport(coinId, from, to, response.getOutputStream());
+	}
+
 	// ---> 코인 메인 페이지 노출 여부 변경 (내부 API용)
 	@PatchMapping("/{coinId}/display")
 	public ResponseEntity<?> updateDisplaySetting(
@@ -0,0 +1,46 @@
+package com.cryptory.be.coin.controller;
+
+import com.cryptory.be.coin.dto.CoinDetailDto;
+import com.cryptory.be.coin.dto.CoinDto;
+import com.cryptory.be.coin.dto.CoinNewsDto;
+import com.cryptory.be.coin.service.ReactiveCoinService;
+import com.cryptory.be.global.response.ApiResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
+
+// 코인 조회 API의 논블로킹 버전 (/api/v1/coins와 같은 ApiResponse)
+// Mono를 반환하면 업비트/네이버/DB 응답을 기다리는 동안 Tomcat 스레드를 반납하고, 완료 시 비동기로 응답을 쓴다.
+@RestController
+@RequestMapping("/api/v1/reactive/coins")
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "reactive.api.enabled", havingValue = "true", matchIfMissing = true)
+public class ReactiveCoinController {
+
+	private final ReactiveCoinService reactiveCoinService;
+
+	// 코인 목록 조회
+	@GetMapping
+	public Mono<ApiResponse<CoinDto>> getCoins() {
+		return reactiveCoinService.getCoins()
+				.map(coins -> new ApiResponse<CoinDto>(HttpStatus.OK, coins));
+	}
+
+	// 특정 코인 상세 조회
+	@GetMapping("/{coinId}")
+	public Mono<ApiResponse<CoinDetailDto>> getCoinDetail(@PathVariable("coinId") Long coinId) {
+		return reactiveCoinService.getCoinDetail(coinId)
+				.map(coinDetail -> new ApiResponse<>(HttpStatus.OK, coinDetail));
+	}
+
+	// 특정 코인 뉴스 조회 - 네이버 뉴스
+	@GetMapping("/{coinId}/news")
+	public Mono<ApiResponse<CoinNewsDto>> searchCoinNews(@PathVariable("coinId") Long coinId,
+														 @RequestParam(value = "cursor", required = false) String cursor,
+														 @RequestParam(value = "size", defaultValue = "10") int size) {
+		return reactiveCoinService.getCoinNews(coinId, cursor, size)
+				.map(coinNews -> new ApiResponse<CoinNewsDto>(HttpStatus.OK, coinNews));
+	}
+}
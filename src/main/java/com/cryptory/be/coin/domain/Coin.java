@@ -3,11 +3,15 @@ package com.cryptory.be.coin.domain;
 import com.cryptory.be.global.entity.BaseTimeEntity;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 @Entity
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Table(name = "coins")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE) // 2차 캐시 (JpaCacheConfig)
 @EqualsAndHashCode( of = "id", callSuper = false)
 public class Coin extends BaseTimeEntity {
 
@@ -31,6 +35,10 @@ public class Coin extends BaseTimeEntity {
     @JoinColumn(name = "coin_symbol_id")
     private CoinSymbol coinSymbol;  // 코인 심볼 관련 정보
 
+    // coin_symbol_id 외래키 값 (읽기 전용, 심볼은 CoinSymbolRegistry에서 조회해 지연 로딩을 피함)
+    @Column(name = "coin_symbol_id", insertable = false, updatable = false)
+    private Long coinSymbolId;
+
     @Builder
     public Coin(String koreanName, String englishName, String code, CoinSymbol coinSymbol, boolean isDisplayed){
         this.koreanName = koreanName;
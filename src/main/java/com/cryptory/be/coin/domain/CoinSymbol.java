@@ -2,6 +2,8 @@ package com.cryptory.be.coin.domain;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 @Entity
 @Getter
@@ -9,6 +11,8 @@ import lombok.*;
 @Table(name = "coin_symbols", uniqueConstraints = {
         @UniqueConstraint(columnNames = "code")
 })
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE) // 2차 캐시 (JpaCacheConfig)
 @EqualsAndHashCode(of = "id", callSuper = false)
 public class CoinSymbol {
 
@@ -3,6 +3,12 @@ package com.cryptory.be.coin.domain;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
 @Slf4j
 @Getter
 public enum CoinSymbolEnum {
@@ -167,6 +173,8 @@ public enum CoinSymbolEnum {
     TRUMP("#F5A500", "https://cryptologos.cc/logos/trumpcoin-trump-logo.png"),
     JTO("#9E9E9E", "https://cryptologos.cc/logos/j-to-coin-jto-logo.png");
 
+    private static final String MARKET_PREFIX = "KRW-";
+
     private final String color;
     private final String logoUrl;
 
@@ -175,19 +183,35 @@ public enum CoinSymbolEnum {
         this.logoUrl = logoUrl;
     }
 
-    public static CoinSymbolEnum fromMarket(String market) {
-        if (market.equals("KRW-1INCH")) {
-            return CoinSymbolEnum.INCH;  // KRW-1INCH인 경우만 INCH로 매핑
-        }
+    // 마켓 코드("KRW-BTC") -> Enum, 클래스 로딩 시 한 번 생성
+    private static final Map<String, CoinSymbolEnum> BY_MARKET = buildMarketMap();
+
+    // 이미 경고를 남긴 마켓 (새 코인이 추가될 때마다 한 번만 로그)
+    private static final Set<String> WARNED_MARKETS = ConcurrentHashMap.newKeySet();
 
-        try {
-            return CoinSymbolEnum.valueOf(market.replace("KRW-", ""));
-        } catch (IllegalArgumentException e) {
-            // 존재하지 않는 코인인 경우 우선 BTC 매핑(계속 최신화가 돼서 새로운 코인이 추가될 수 있음)
-            log.error("존재하지 않는 코인 Enum: {} Defaulting to BTC ", market);
-            return CoinSymbolEnum.BTC;
+    private static Map<String, CoinSymbolEnum> buildMarketMap() {
+        Map<String, CoinSymbolEnum> map = new HashMap<>();
+        for (CoinSymbolEnum value : values()) {
+            map.put(MARKET_PREFIX + value.name(), value);
         }
+        map.put("KRW-1INCH", INCH); // KRW-1INCH인 경우만 INCH로 매핑
+        return Map.copyOf(map);
+    }
 
+    public static Optional<CoinSymbolEnum> findByMarket(String market) {
+        return Optional.ofNullable(market == null ? null : BY_MARKET.get(market));
+    }
+
+    public static CoinSymbolEnum fromMarket(String market) {
+        CoinSymbolEnum value = market == null ? null : BY_MARKET.get(market);
+        if (value != null) {
+            return value;
+        }
+        // 존재하지 않는 코인인 경우 우선 BTC 매핑(계속 최신화가 돼서 새로운 코인이 추가될 수 있음)
+        if (WARNED_MARKETS.add(String.valueOf(market))) {
+            log.warn("존재하지 않는 코인 Enum: {} Defaulting to BTC ", market);
+        }
+        return BTC;
     }
 
     public CoinSymbol toCoinSymbol() {
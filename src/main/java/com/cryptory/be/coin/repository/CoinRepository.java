@@ -1,23 +1,30 @@
 package com.cryptory.be.coin.repository;
 
 import com.cryptory.be.coin.domain.Coin;
+import jakarta.persistence.QueryHint;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 
+import static org.hibernate.jpa.HibernateHints.HINT_CACHEABLE;
+
 
 @Repository
 public interface CoinRepository extends JpaRepository<Coin, Long> {
 
+    // 조회 쿼리 결과는 2차 캐시 (coins 변경 시 Hibernate가 무효화)
+    @QueryHints(@QueryHint(name = HINT_CACHEABLE, value = "true"))
     Coin findByCode(String market);
 
+    @QueryHints(@QueryHint(name = HINT_CACHEABLE, value = "true"))
     List<Coin> findByCodeIn(List<String> codes);
 
     // symbol대신 englishName으로 검색 수정
@@ -31,9 +38,15 @@ public interface CoinRepository extends JpaRepository<Coin, Long> {
     void deleteCoinsByIdNotIn(@Param("ids") List<Long> ids);
 
 
+    @QueryHints(@QueryHint(name = HINT_CACHEABLE, value = "true"))
+    @Query("SELECT c FROM Coin c WHERE c.isDisplayed = true")
+    List<Coin> findDisplayedCoins();
+
+    @QueryHints(@QueryHint(name = HINT_CACHEABLE, value = "true"))
     @Query("SELECT COUNT(i) FROM Coin i WHERE i.isDisplayed = true")
     long countByIsDisplayedTrue();
 
+    // JPQL 벌크 UPDATE라 Hibernate가 Coin 2차 캐시 region과 관련 쿼리 캐시를 비움
     @Transactional
     @Modifying
     @Query("UPDATE Coin c SET c.isDisplayed = true WHERE c.id BETWEEN 1 AND 10")
@@ -1,13 +1,18 @@
 package com.cryptory.be.coin.repository;
 
 import com.cryptory.be.coin.domain.CoinSymbol;
+import jakarta.persistence.QueryHint;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
 
+import static org.hibernate.jpa.HibernateHints.HINT_CACHEABLE;
+
 @Repository
 public interface CoinSymbolRepository extends JpaRepository<CoinSymbol, Long> {
     // Code로 CoinSymbol 찾기
+    @QueryHints(@QueryHint(name = HINT_CACHEABLE, value = "true"))
     Optional<CoinSymbol> findByCode(String code);
 }
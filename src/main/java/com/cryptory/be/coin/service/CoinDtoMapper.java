@@ -0,0 +1,97 @@
+package com.cryptory.be.coin.service;
+
+import com.cryptory.be.chart.domain.Chart;
+import com.cryptory.be.chart.dto.ChartDto;
+import com.cryptory.be.coin.domain.Coin;
+import com.cryptory.be.coin.domain.CoinSymbol;
+import com.cryptory.be.coin.dto.CoinDetailDto;
+import com.cryptory.be.coin.dto.CoinDto;
+import com.cryptory.be.coin.dto.CoinNewsDto;
+import com.cryptory.be.coin.exception.CoinErrorCode;
+import com.cryptory.be.coin.exception.CoinException;
+import com.cryptory.be.global.response.CursorPage;
+import com.cryptory.be.global.util.DateFormat;
+import com.cryptory.be.issue.domain.Issue;
+import com.cryptory.be.issue.dto.IssueDto;
+import com.cryptory.be.news.service.NewsCursor;
+import com.cryptory.be.openapi.dto.NaverNews;
+import com.cryptory.be.openapi.dto.Ticker;
+
+import java.text.ParseException;
+import java.util.List;
+
+// 코인 조회 응답 DTO 조립 (CoinServiceImpl, ReactiveCoinService 공통)
+final class CoinDtoMapper {
+
+    private static final int END_OF_KRW = 4;
+
+    private CoinDtoMapper() {
+    }
+
+    static CoinDto toCoinDto(Coin coin, CoinSymbol coinSymbol, Ticker ticker) {
+        return CoinDto.builder()
+                .coinId(coin.getId())
+                .koreanName(coin.getKoreanName())
+                .englishName(coin.getEnglishName())
+                .code(coin.getCode().substring(END_OF_KRW)) // "KRW-" 제거
+                .coinSymbol(coinSymbol)
+                .tradePrice(ticker.getTradePrice())
+                .signedChangePrice(ticker.getSignedChangePrice())
+                .signedChangeRate(ticker.getSignedChangeRate())
+                .build();
+    }
+
+    static ChartDto toChartDto(Chart chart) {
+        return ChartDto.builder()
+                .chartId(chart.getId())
+                .date(chart.getDate())
+                .openingPrice(chart.getOpeningPrice())
+                .tradePrice(chart.getTradePrice())
+                .highPrice(chart.getHighPrice())
+                .lowPrice(chart.getLowPrice())
+                .changeRate(chart.getChangeRate())
+                .build();
+    }
+
+    static IssueDto toIssueDto(Issue issue) {
+        return IssueDto.builder()
+                .issueId(issue.getId())
+                .chartId(issue.getChart().getId())
+                .date(issue.getChart().getDate())
+                .openingPrice(issue.getChart().getOpeningPrice())
+                .highPrice(issue.getChart().getHighPrice())
+                .lowPrice(issue.getChart().getLowPrice())
+                .tradePrice(issue.getChart().getTradePrice())
+                .build();
+    }
+
+    static CoinDetailDto toCoinDetailDto(Coin coin, CoinSymbol coinSymbol, List<ChartDto> charts,
+                                         List<IssueDto> issues, Ticker ticker) {
+        return CoinDetailDto.builder()
+                .coinId(coin.getId())
+                .koreanName(coin.getKoreanName())
+                .englishName(coin.getEnglishName())
+                .code(coin.getCode().substring(END_OF_KRW)) // KRW- 제거
+                .coinSymbol(coinSymbol)
+                .tradePrice(ticker.getTradePrice())
+                .signedChangeRate(ticker.getSignedChangeRate())
+                .signedChangePrice(ticker.getSignedChangePrice())
+                .timestamp(DateFormat.formatTradeTime(ticker.getTradeDate(), ticker.getTradeTime()))
+                .chartList(charts)
+                .issueList(issues)
+                .build();
+    }
+
+    // 최신순 뉴스 목록에서 cursor 다음 size개
+    static CursorPage<CoinNewsDto> toCoinNewsPage(List<NaverNews> naverNewsList, String cursor, int size) {
+        return NewsCursor.page(naverNewsList, cursor, size)
+                .map(naverNews -> {
+                    try {
+                        return new CoinNewsDto(naverNews.getTitle(), naverNews.getLink(),
+                                naverNews.getDescription(), DateFormat.formatNewsDate(naverNews.getPubDate()));
+                    } catch (ParseException e) {
+                        throw new CoinException(CoinErrorCode.COIN_NEWS_PARSE_ERROR);
+                    }
+                });
+    }
+}
@@ -0,0 +1,212 @@
+package com.cryptory.be.coin.service;
+
+import com.cryptory.be.coin.dto.CoinDto;
+import com.cryptory.be.global.response.ApiResponse;
+import com.cryptory.be.init.InitDataStatus;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 코인 목록(GET /api/v1/coins) 응답 바이트 캐시
+ * - 현재가 스냅샷마다 ApiResponse를 한 번만 직렬화해 원본/gzip 두 벌을 들고 있고, 요청은 바이트를 그대로 내려준다.
+ * - 주기적으로 현재가를 다시 받아 내용이 바뀌었을 때만 version을 올리고 두 벌을 교체 (바뀌지 않으면 ETag 유지)
+ * - ETag는 원본 바이트의 SHA-256 앞 16바이트라 인스턴스가 달라도 같은 내용이면 같다. gzip은 "-gzip"을 붙인 별도 강한 ETag
+ * - 갱신 실패(업비트 오류 등) 시 직전 응답을 계속 사용, 아직 응답이 없으면 요청 스레드에서 직접 만든다.
+ * - 마지막 갱신 성공 후 max-stale-ms가 지나면 직전 응답을 버리고 요청마다 다시 만든다. (실패하면 TICKER_LOAD_FAILED 등 오류 응답)
+ * 갱신 결과는 coin.list.cache.refresh (result=changed, unchanged, failure)
+ */
+@Slf4j
+@Component
+public class CoinListResponseCache {
+
+    private static final int ETAG_BYTES = 16;
+
+    private final CoinService coinService;
+    private final ObjectMapper objectMapper;
+    private final InitDataStatus initDataStatus;
+    private final MeterRegistry meterRegistry;
+    private final boolean enabled;
+    private final long maxStaleMillis;
+
+    private volatile CachedResponse current;
+    private volatile long refreshedAt; // 마지막 갱신 성공 시각 (내용이 같아도 갱신), 0이면 아직 없음
+
+    /**
+     * @param version  내용이 바뀔 때마다 1씩 증가
+     * @param coins    직렬화에 쓴 목록 (바이너리 형식 요청은 이 목록을 컨버터로 직렬화)
+     * @param identity 직렬화한 ApiResponse (UTF-8 JSON)
+     * @param gzip     identity를 gzip으로 압축한 바이트, null이면 gzip()을 호출할 때 압축 (캐시를 끈 경우)
+     */
+    public record CachedResponse(long version, String etag, String gzipEtag, List<CoinDto> coins,
+                                 byte[] identity, byte[] gzip) {
+
+        @Override
+        public byte[] gzip() {
+            return gzip != null ? gzip : CoinListResponseCache.gzip(identity);
+        }
+    }
+
+    public CoinListResponseCache(CoinService coinService,
+                                 ObjectMapper objectMapper,
+                                 InitDataStatus initDataStatus,
+                                 MeterRegistry meterRegistry,
+                                 @Value("${coin.list.cache.enabled:true}") boolean enabled,
+                                 @Value("${coin.list.cache.max-stale-ms:60000}") long maxStaleMillis) {
+        this.coinService = coinService;
+        this.objectMapper = objectMapper;
+        this.initDataStatus = initDataStatus;
+        this.meterRegistry = meterRegistry;
+        this.enabled = enabled;
+        this.maxStaleMillis = maxStaleMillis;
+
+        Gauge.builder("coin.list.cache.version", this, cache -> cache.current == null ? 0 : cache.current.version())
+                .register(meterRegistry);
+        Gauge.builder("coin.list.cache.bytes", this, cache -> cache.current == null ? 0 : cache.current.identity().length)
+                .tag("encoding", "identity")
+                .register(meterRegistry);
+        Gauge.builder("coin.list.cache.bytes", this, cache -> cache.current == null ? 0 : cache.current.gzip().length)
+                .tag("encoding", "gzip")
+                .register(meterRegistry);
+    }
+
+    // 캐시된 응답, 아직 없으면 지금 만든다. (코인/현재가 조회 실패 예외는 그대로 전달)
+    // 캐시를 끈 경우 요청마다 잠금 없이 따로 만든다 (요청끼리 refresh()를 기다리지 않음, gzip은 필요할 때만 압축)
+    public CachedResponse get() {
+        if (!enabled) {
+            List<CoinDto> coins = coinService.getCoins();
+            byte[] identity = serialize(coins);
+            String hash = hash(identity);
+            return new CachedResponse(1, "\"" + hash + "\"", "\"" + hash + "-gzip\"", coins, identity, null);
+        }
+        CachedResponse cached = current;
+        if (cached != null && !isTooStale()) {
+            return cached;
+        }
+        return refresh();
+    }
+
+    // 현재가 갱신 주기, 초기 데이터 적재가 끝나기 전에는 건너뜀
+    // 한 번이라도 갱신에 성공했으면 적재 단계 일부가 실패로 끝났어도 계속 갱신 (현재가가 멈추지 않도록)
+    @Scheduled(initialDelayString = "${coin.list.cache.initial-delay-ms:5000}",
+            fixedDelayString = "${coin.list.cache.refresh-ms:1000}")
+    public void scheduledRefresh() {
+        if (!enabled || (refreshedAt == 0 && !initDataStatus.isReady())) {
+            return;
+        }
+        try {
+            refresh();
+        } catch (RuntimeException e) {
+            meterRegistry.counter("coin.list.cache.refresh", "result", "failure").increment();
+            if (expireIfTooStale()) {
+                log.error("코인 목록 응답 갱신이 {}ms 넘게 실패하여 직전 응답을 버립니다: {}", maxStaleMillis, e.getMessage());
+            } else {
+                log.warn("코인 목록 응답 갱신 실패, 직전 응답을 계속 사용합니다: {}", e.getMessage());
+            }
+        }
+    }
+
+    // Accept-Encoding에 gzip이 있고 q=0이 아닌지 ("gzip, deflate, br", "gzip;q=0.8")
+    public static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String token : acceptEncoding.split(",")) {
+            String[] parts = token.trim().split(";");
+            if (!parts[0].trim().equalsIgnoreCase("gzip")) {
+                continue;
+            }
+            for (int i = 1; i < parts.length; i++) {
+                String param = parts[i].trim();
+                if (param.startsWith("q=")) {
+                    try {
+                        return Double.parseDouble(param.substring(2)) > 0;
+                    } catch (NumberFormatException e) {
+                        return false;
+                    }
+                }
+            }
+            return true;
+        }
+        return false;
+    }
+
+    synchronized CachedResponse refresh() {
+        List<CoinDto> coins = coinService.getCoins();
+        byte[] identity = serialize(coins);
+
+        CachedResponse previous = current;
+        if (previous != null && Arrays.equals(previous.identity(), identity)) {
+            refreshedAt = System.currentTimeMillis();
+            meterRegistry.counter("coin.list.cache.refresh", "result", "unchanged").increment();
+            return previous;
+        }
+
+        CachedResponse next = build(coins, identity, previous == null ? 1 : previous.version() + 1);
+        current = next;
+        refreshedAt = System.currentTimeMillis();
+        meterRegistry.counter("coin.list.cache.refresh", "result", "changed").increment();
+        return next;
+    }
+
+    // 직전 응답이 max-stale-ms보다 오래됐으면 버림 (버렸으면 true)
+    private synchronized boolean expireIfTooStale() {
+        if (current == null || !isTooStale()) {
+            return false;
+        }
+        current = null;
+        return true;
+    }
+
+    private boolean isTooStale() {
+        return System.currentTimeMillis() - refreshedAt > maxStaleMillis;
+    }
+
+    private static CachedResponse build(List<CoinDto> coins, byte[] identity, long version) {
+        String hash = hash(identity);
+        return new CachedResponse(version, "\"" + hash + "\"", "\"" + hash + "-gzip\"", coins, identity, gzip(identity));
+    }
+
+    private byte[] serialize(List<CoinDto> coins) {
+        try {
+            return objectMapper.writeValueAsBytes(new ApiResponse<CoinDto>(HttpStatus.OK, coins));
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    static byte[] gzip(byte[] bytes) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(bytes.length / 4 + 64);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(bytes);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+
+    private static String hash(byte[] bytes) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(bytes);
+            return HexFormat.of().formatHex(digest, 0, ETAG_BYTES);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -1,15 +1,19 @@
 package com.cryptory.be.coin.service;
 
 import java.util.List;
+import java.util.Optional;
 
 import com.cryptory.be.coin.dto.*;
+import com.cryptory.be.global.response.CursorPage;
+import com.cryptory.be.global.response.ResourceVersion;
 import org.springframework.data.domain.Page;
 import org.springframework.http.ResponseEntity;
 
 public interface CoinService {
 	List<CoinDto> getCoins();
 	CoinDetailDto getCoinDetail(Long coinId);
-	List<CoinNewsDto> getCoinNews(Long coinId);
+	CursorPage<CoinNewsDto> getCoinNews(Long coinId, String cursor, int size);
+	Optional<ResourceVersion> getCoinNewsVersion(Long coinId, String cursor, int size);
 	void updateDisplaySetting(Long coinId, boolean isDisplayed);
 	Page<CoinListResponseDto> getCoinListForAdmin(String keyword, int page, int size, String sort);
 	CoinDetailResponseDto getCoinDetailsForAdmin(Long coinId);
@@ -1,8 +1,10 @@
 package com.cryptory.be.coin.service;
 
 import java.net.URI;
-import java.text.ParseException;
 import java.util.*;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 import com.cryptory.be.chart.domain.Chart;
@@ -11,15 +13,18 @@ import com.cryptory.be.chart.exception.ChartErrorCode;
 import com.cryptory.be.chart.exception.ChartException;
 import com.cryptory.be.chart.repository.ChartRepository;
 import com.cryptory.be.coin.domain.Coin;
+import com.cryptory.be.coin.domain.CoinSymbol;
 import com.cryptory.be.coin.dto.*;
 import com.cryptory.be.coin.exception.CoinErrorCode;
 import com.cryptory.be.coin.exception.CoinException;
-import com.cryptory.be.global.util.DateFormat;
+import com.cryptory.be.global.response.CursorPage;
+import com.cryptory.be.global.response.ResourceVersion;
+import com.cryptory.be.global.util.StructuredFanOut;
 import com.cryptory.be.issue.dto.IssueDto;
 import com.cryptory.be.issue.repository.IssueRepository;
+import com.cryptory.be.news.service.NewsCacheService;
 import com.cryptory.be.openapi.dto.NaverNews;
 import com.cryptory.be.openapi.dto.Ticker;
-import com.cryptory.be.openapi.service.NaverService;
 import com.cryptory.be.openapi.service.UpbitService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -31,7 +36,10 @@ import org.springframework.stereotype.Service;
 
 
 import com.cryptory.be.coin.repository.CoinRepository;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 @Slf4j
 @Service
@@ -39,12 +47,15 @@ import org.springframework.transaction.annotation.Transactional;
 @Transactional(readOnly = true)
 public class CoinServiceImpl implements CoinService {
 
-    private final NaverService naverService;
+    private final NewsCacheService newsCacheService;
     private final UpbitService upbitService;
 
     private final CoinRepository coinRepository;
     private final ChartRepository chartRepository;
     private final IssueRepository issueRepository;
+    private final CoinSymbolRegistry coinSymbolRegistry;
+    private final StructuredFanOut structuredFanOut;
+    private final PlatformTransactionManager transactionManager;
 
     private final int END_OF_KRW = 4;
     private static final int MAX_DISPLAYED_COINS = 7; // 노출 제한 개수 상수
@@ -105,10 +116,8 @@ public class CoinServiceImpl implements CoinService {
     @Override
     public List<CoinDto> getCoins() {
 
-        // 화면에 보여지는 코인만 조회
-        List<Coin> coins = coinRepository.findAll().stream()
-                .filter(Coin::isDisplayed)
-                .toList();
+        // 화면에 보여지는 코인만 조회 (쿼리 캐시 + Coin 2차 캐시)
+        List<Coin> coins = coinRepository.findDisplayedCoins();
 
         if (coins.isEmpty()) {
             throw new CoinException(CoinErrorCode.COIN_DATA_MISSING);
@@ -129,100 +138,93 @@ public class CoinServiceImpl implements CoinService {
         // log.info("tickerMap: {}", tickerMap);
 
         return coins.stream()
-                .map(coin ->
-                        CoinDto.builder()
-                                .coinId(coin.getId())
-                                .koreanName(coin.getKoreanName())
-                                .englishName(coin.getEnglishName())
-                                .code(coin.getCode().substring(END_OF_KRW)) // "KRW-" 제거
-                                .coinSymbol(coin.getCoinSymbol())
-                                .tradePrice(tickerMap.get(coin.getCode()).getTradePrice())
-                                .signedChangePrice(tickerMap.get(coin.getCode()).getSignedChangePrice())
-                                .signedChangeRate(tickerMap.get(coin.getCode()).getSignedChangeRate())
-                                .build())
+                .map(coin -> CoinDtoMapper.toCoinDto(coin, coinSymbolRegistry.resolve(coin), tickerMap.get(coin.getCode())))
                 .toList();
     }
 
-    // 특정 코인 상세 조회
+    // 특정 코인 상세 조회 - 코인 조회 후 차트/현재가/이슈를 동시에 (응답 시간은 셋 중 가장 느린 조회 정도)
+    // 하나가 실패하면 나머지를 취소하고 그 예외로, fanout.deadline-ms를 넘기면 504
+    // 각 조회가 자기 트랜잭션을 쓰므로 이 메서드는 트랜잭션 없이 (기다리는 동안 커넥션을 잡고 있지 않도록)
     @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public CoinDetailDto getCoinDetail(Long coinId) {
         Coin coin = coinRepository.findById(coinId)
                 .orElseThrow(() -> new CoinException(CoinErrorCode.COIN_DATA_MISSING));
 
-        // 코인의 차트 데이터 조회
-        List<ChartDto> charts = chartRepository.findAllByCoinId(coin.getId()).stream()
-                .map(chart -> ChartDto.builder()
-                        .chartId(chart.getId())
-                        .date(chart.getDate())
-                        .openingPrice(chart.getOpeningPrice())
-                        .tradePrice(chart.getTradePrice())
-                        .highPrice(chart.getHighPrice())
-                        .lowPrice(chart.getLowPrice())
-                        .changeRate(chart.getChangeRate())
-                        .build())
-                .toList();
-
-        if (charts.isEmpty()) {
-            throw new ChartException(ChartErrorCode.CHART_DATA_MISSING);
+        try (StructuredFanOut.Scope scope = structuredFanOut.open()) {
+            // 코인의 차트 데이터 조회
+            Supplier<List<ChartDto>> charts = scope.fork(() -> readOnly(() -> {
+                List<ChartDto> chartList = chartRepository.findAllByCoinId(coin.getId()).stream()
+                        .map(CoinDtoMapper::toChartDto)
+                        .toList();
+                if (chartList.isEmpty()) {
+                    throw new ChartException(ChartErrorCode.CHART_DATA_MISSING);
+                }
+                return chartList;
+            }));
+
+            // 코인 하나의 현재가(Ticker) 반환
+            Supplier<Ticker> coinTicker = scope.fork(() -> upbitService.getTickers(coin.getCode()).get(0));
+
+            // 이슈 목록 조회
+            Supplier<List<IssueDto>> issues = scope.fork(() -> readOnly(() -> issueRepository.findAllByCoinId(coin.getId()).stream()
+                    .map(CoinDtoMapper::toIssueDto)
+                    .toList()));
+
+            scope.join();
+            return CoinDtoMapper.toCoinDetailDto(coin, coinSymbolRegistry.resolve(coin), charts.get(), issues.get(), coinTicker.get());
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(e.getCause());
+        } catch (TimeoutException e) {
+            log.warn("코인 상세 조회 기한 초과. coinId: {}, {}", coinId, e.getMessage());
+            throw new CoinException(CoinErrorCode.COIN_DETAIL_TIMEOUT);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CoinException(CoinErrorCode.COIN_DETAIL_TIMEOUT);
         }
+    }
 
-        // 코인 하나의 현재가(Ticker) 반환
-        Ticker coinTicker = upbitService.getTickers(coin.getCode()).get(0);
-
-        // 이슈 목록 조회
-        List<IssueDto> issues = issueRepository.findAllByCoinId(coin.getId()).stream()
-                .map(issue -> IssueDto.builder()
-                        .issueId(issue.getId())
-                        .chartId(issue.getChart().getId())
-                        .date(issue.getChart().getDate())
-                        .openingPrice(issue.getChart().getOpeningPrice())
-                        .highPrice(issue.getChart().getHighPrice())
-                        .lowPrice(issue.getChart().getLowPrice())
-                        .tradePrice(issue.getChart().getTradePrice())
-                        .build())
-                .toList();
+    // 특정 코인 뉴스 조회
+    @Override
+    public CursorPage<CoinNewsDto> getCoinNews(Long coinId, String cursor, int size) {
+        Coin coin = coinRepository.findById(coinId)
+                .orElseThrow(() -> new CoinException(CoinErrorCode.COIN_DATA_MISSING));
 
-        return CoinDetailDto.builder()
-                .coinId(coin.getId())
-                .koreanName(coin.getKoreanName())
-                .englishName(coin.getEnglishName())
-                .code(coin.getCode().substring(END_OF_KRW)) // KRW- 제거
-                .coinSymbol(coin.getCoinSymbol())
-                .tradePrice(coinTicker.getTradePrice())
-                .signedChangeRate(coinTicker.getSignedChangeRate())
-                .signedChangePrice(coinTicker.getSignedChangePrice())
-                .timestamp(DateFormat.formatTradeTime(coinTicker.getTradeDate(), coinTicker.getTradeTime()))
-                .chartList(charts)
-                .issueList(issues)
-                .build();
+        List<NaverNews> naverNewsList = newsCacheService.getNews(coin.getKoreanName());
 
+        return CoinDtoMapper.toCoinNewsPage(naverNewsList, cursor, size);
     }
 
-    // 특정 코인 뉴스 조회
+    // 코인 뉴스 ETag/Last-Modified (캐시된 뉴스를 가져온 시각 기준, 캐시가 만료됐으면 없음)
     @Override
-    public List<CoinNewsDto> getCoinNews(Long coinId) {
+    public Optional<ResourceVersion> getCoinNewsVersion(Long coinId, String cursor, int size) {
         Coin coin = coinRepository.findById(coinId)
                 .orElseThrow(() -> new CoinException(CoinErrorCode.COIN_DATA_MISSING));
 
-        List<NaverNews> naverNewsList = naverService.getNaverNewsWithWord(coin.getKoreanName());
-
-        return naverNewsList.stream()
-                .map(naverNews -> {
-                    try {
-                        return new CoinNewsDto(naverNews.getTitle(), naverNews.getLink(),
-                                naverNews.getDescription(), DateFormat.formatNewsDate(naverNews.getPubDate()));
-                    } catch (ParseException e) {
-                        throw new CoinException(CoinErrorCode.COIN_NEWS_PARSE_ERROR);
-                    }
-                })
-                .toList();
+        long fetchedAt = newsCacheService.getFreshFetchedAt(coin.getKoreanName());
+        if (fetchedAt < 0) {
+            return Optional.empty();
+        }
+        return Optional.of(ResourceVersion.of(fetchedAt, "coin-news", coinId, fetchedAt, cursor, size));
     }
 
 
+    // 작업 스레드에서 readOnly 트랜잭션으로 조회 (replica로 라우팅)
+    private <T> T readOnly(Supplier<T> query) {
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setReadOnly(true);
+        return template.execute(status -> query.get());
+    }
+
     // 헬퍼함수들 적용
     private CoinListResponseDto convertToCoinListResponseDto(Coin coin) {
         // coin-service 내부에 정의된 com.cryptory.be.coin.dto.CoinListResponseDto 사용 가정
-        String logoUrl = (coin.getCoinSymbol() != null) ? coin.getCoinSymbol().getLogoUrl() : null;
+        // 심볼은 레지스트리에서 조회 (코인마다 coin_symbols 지연 로딩 쿼리가 나가지 않도록)
+        CoinSymbol coinSymbol = coinSymbolRegistry.resolve(coin);
+        String logoUrl = (coinSymbol != null) ? coinSymbol.getLogoUrl() : null;
         // Coin.code ("KRW-BTC") 에서 "KRW-" 제거 후 symbol로 사용
         String symbolCode = (coin.getCode() != null && coin.getCode().startsWith("KRW-"))
                 ? coin.getCode().substring(END_OF_KRW)
@@ -239,8 +241,9 @@ public class CoinServiceImpl implements CoinService {
     }
 
     private CoinDetailResponseDto convertToCoinDetailResponseDto(Coin coin) {
-        String logoUrl = (coin.getCoinSymbol() != null) ? coin.getCoinSymbol().getLogoUrl() : null;
-        String cryptoColor = (coin.getCoinSymbol() != null) ? coin.getCoinSymbol().getColor() : null;
+        CoinSymbol coinSymbol = coinSymbolRegistry.resolve(coin);
+        String logoUrl = (coinSymbol != null) ? coinSymbol.getLogoUrl() : null;
+        String cryptoColor = (coinSymbol != null) ? coinSymbol.getColor() : null;
         String symbolCode = (coin.getCode() != null && coin.getCode().startsWith("KRW-"))
                 ? coin.getCode().substring(END_OF_KRW)
                 : coin.getCode();
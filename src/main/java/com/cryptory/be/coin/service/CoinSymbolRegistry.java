@@ -0,0 +1,78 @@
+package com.cryptory.be.coin.service;
+
+import com.cryptory.be.coin.domain.Coin;
+import com.cryptory.be.coin.domain.CoinSymbol;
+import com.cryptory.be.coin.domain.CoinSymbolEnum;
+import com.cryptory.be.coin.repository.CoinSymbolRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 코인 심볼 조회용 불변 맵 (symbolId -> CoinSymbol, 심볼 코드 -> CoinSymbol)
+ * - coin_symbols는 CoinSymbolEnum으로만 채워지고 바뀌지 않으므로 한 번 읽어 메모리에 둔다.
+ * - DTO 변환 시 Coin.coinSymbol(LAZY)을 건드리지 않고 Coin.coinSymbolId로 조회 (코인마다 추가 쿼리 없음)
+ * - 시작 시 심볼을 저장한 뒤 refresh() 호출, 그 전에 조회하면 처음 한 번 DB에서 읽는다.
+ */
+@Slf4j
+@Component
+public class CoinSymbolRegistry {
+
+    private final CoinSymbolRepository coinSymbolRepository;
+
+    private volatile Snapshot snapshot;
+
+    public CoinSymbolRegistry(CoinSymbolRepository coinSymbolRepository) {
+        this.coinSymbolRepository = coinSymbolRepository;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void refresh() {
+        Map<Long, CoinSymbol> byId = new HashMap<>();
+        Map<String, CoinSymbol> byCode = new HashMap<>();
+        for (CoinSymbol symbol : coinSymbolRepository.findAll()) {
+            byId.put(symbol.getId(), symbol);
+            byCode.put(symbol.getCode(), symbol);
+        }
+        snapshot = new Snapshot(Map.copyOf(byId), Map.copyOf(byCode));
+        log.info("CoinSymbolRegistry loaded {} symbols.", byId.size());
+    }
+
+    public Optional<CoinSymbol> findById(Long symbolId) {
+        return Optional.ofNullable(symbolId == null ? null : snapshot().byId().get(symbolId));
+    }
+
+    // 마켓 코드("KRW-BTC", "KRW-1INCH")로 조회, 등록되지 않은 마켓이면 empty
+    public Optional<CoinSymbol> findByMarket(String market) {
+        return CoinSymbolEnum.findByMarket(market)
+                .map(value -> snapshot().byCode().get(value.getCode()));
+    }
+
+    // 코인의 심볼 (coinSymbolId 우선, 아직 id가 없는 새 엔티티는 마켓 코드로)
+    public CoinSymbol resolve(Coin coin) {
+        return findById(coin.getCoinSymbolId())
+                .or(() -> findByMarket(coin.getCode()))
+                .orElse(null);
+    }
+
+    private Snapshot snapshot() {
+        Snapshot current = snapshot;
+        if (current == null) {
+            synchronized (this) {
+                if (snapshot == null) {
+                    refresh();
+                }
+                current = snapshot;
+            }
+        }
+        return current;
+    }
+
+    private record Snapshot(Map<Long, CoinSymbol> byId, Map<String, CoinSymbol> byCode) {
+    }
+}
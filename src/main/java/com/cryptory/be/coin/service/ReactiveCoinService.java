@@ -0,0 +1,128 @@
+package com.cryptory.be.coin.service;
+
+import com.cryptory.be.chart.dto.ChartDto;
+import com.cryptory.be.chart.exception.ChartErrorCode;
+import com.cryptory.be.chart.exception.ChartException;
+import com.cryptory.be.chart.repository.ChartRepository;
+import com.cryptory.be.coin.domain.Coin;
+import com.cryptory.be.coin.domain.CoinSymbol;
+import com.cryptory.be.coin.dto.CoinDetailDto;
+import com.cryptory.be.coin.dto.CoinDto;
+import com.cryptory.be.coin.dto.CoinNewsDto;
+import com.cryptory.be.coin.exception.CoinErrorCode;
+import com.cryptory.be.coin.exception.CoinException;
+import com.cryptory.be.coin.repository.CoinRepository;
+import com.cryptory.be.global.response.CursorPage;
+import com.cryptory.be.issue.dto.IssueDto;
+import com.cryptory.be.issue.repository.IssueRepository;
+import com.cryptory.be.news.service.NewsCacheService;
+import com.cryptory.be.openapi.service.UpbitService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * 코인 조회의 논블로킹 버전 (ReactiveCoinController), 응답 DTO는 CoinServiceImpl과 같다.
+ * - 업비트 현재가, 네이버 뉴스는 WebClient로 조회
+ * - JDBC 조회는 jdbcScheduler(replica 풀 크기만큼의 스레드)에서 readOnly 트랜잭션으로 실행
+ * - 코인 상세는 코인 조회 후 차트/이슈 조회와 현재가 조회를 동시에 진행
+ */
+@Slf4j
+@Service
+public class ReactiveCoinService {
+
+    private final CoinRepository coinRepository;
+    private final ChartRepository chartRepository;
+    private final IssueRepository issueRepository;
+    private final CoinSymbolRegistry coinSymbolRegistry;
+    private final CoinListResponseCache coinListResponseCache;
+    private final UpbitService upbitService;
+    private final NewsCacheService newsCacheService;
+    private final TransactionTemplate readOnlyTransaction;
+    private final Scheduler jdbcScheduler;
+
+    public ReactiveCoinService(CoinRepository coinRepository,
+                               ChartRepository chartRepository,
+                               IssueRepository issueRepository,
+                               CoinSymbolRegistry coinSymbolRegistry,
+                               CoinListResponseCache coinListResponseCache,
+                               UpbitService upbitService,
+                               NewsCacheService newsCacheService,
+                               PlatformTransactionManager transactionManager,
+                               @Qualifier("jdbcScheduler") Scheduler jdbcScheduler) {
+        this.coinRepository = coinRepository;
+        this.chartRepository = chartRepository;
+        this.issueRepository = issueRepository;
+        this.coinSymbolRegistry = coinSymbolRegistry;
+        this.coinListResponseCache = coinListResponseCache;
+        this.upbitService = upbitService;
+        this.newsCacheService = newsCacheService;
+        this.jdbcScheduler = jdbcScheduler;
+
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    // 코인 목록 - 현재가 스냅샷 캐시의 목록 (캐시가 비어 있으면 만드는 동안 블로킹이므로 jdbcScheduler에서)
+    public Mono<List<CoinDto>> getCoins() {
+        return Mono.fromSupplier(() -> coinListResponseCache.get().coins())
+                .subscribeOn(jdbcScheduler);
+    }
+
+    // 특정 코인 상세 조회
+    public Mono<CoinDetailDto> getCoinDetail(Long coinId) {
+        return read(() -> findCoin(coinId))
+                .flatMap(coin -> Mono.zip(
+                                read(() -> findDetailRows(coin)),
+                                upbitService.getTickersReactive(coin.getCode()))
+                        .map(result -> {
+                            DetailRows rows = result.getT1();
+                            return CoinDtoMapper.toCoinDetailDto(coin, rows.coinSymbol(), rows.charts(), rows.issues(),
+                                    result.getT2().get(0));
+                        }));
+    }
+
+    // 특정 코인 뉴스 조회
+    public Mono<CursorPage<CoinNewsDto>> getCoinNews(Long coinId, String cursor, int size) {
+        return read(() -> findCoin(coinId))
+                .flatMap(coin -> newsCacheService.getNewsReactive(coin.getKoreanName()))
+                .map(naverNewsList -> CoinDtoMapper.toCoinNewsPage(naverNewsList, cursor, size));
+    }
+
+    private Coin findCoin(Long coinId) {
+        return coinRepository.findById(coinId)
+                .orElseThrow(() -> new CoinException(CoinErrorCode.COIN_DATA_MISSING));
+    }
+
+    private DetailRows findDetailRows(Coin coin) {
+        List<ChartDto> charts = chartRepository.findAllByCoinId(coin.getId()).stream()
+                .map(CoinDtoMapper::toChartDto)
+                .toList();
+
+        if (charts.isEmpty()) {
+            throw new ChartException(ChartErrorCode.CHART_DATA_MISSING);
+        }
+
+        List<IssueDto> issues = issueRepository.findAllByCoinId(coin.getId()).stream()
+                .map(CoinDtoMapper::toIssueDto)
+                .toList();
+
+        return new DetailRows(coinSymbolRegistry.resolve(coin), charts, issues);
+    }
+
+    // readOnly 트랜잭션(replica)으로 jdbcScheduler에서 실행, 스레드가 모두 사용 중이면 큐에서 대기
+    private <T> Mono<T> read(Supplier<T> query) {
+        return Mono.fromSupplier(() -> readOnlyTransaction.execute(status -> query.get()))
+                .subscribeOn(jdbcScheduler);
+    }
+
+    private record DetailRows(CoinSymbol coinSymbol, List<ChartDto> charts, List<IssueDto> issues) {
+    }
+}
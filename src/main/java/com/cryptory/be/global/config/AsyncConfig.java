@@ -0,0 +1,110 @@
+package com.cryptory.be.global.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+@Configuration
+public class AsyncConfig {
+
+    // 뉴스 캐시 백그라운드 갱신용 스레드 풀
+    @Bean
+    public ThreadPoolTaskExecutor newsRefreshExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(2);
+        executor.setMaxPoolSize(4);
+        executor.setQueueCapacity(200);
+        executor.setThreadNamePrefix("news-refresh-");
+        // 큐가 가득 차면 갱신을 건너뛰고 기존 캐시 유지
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(false);
+        return executor;
+    }
+
+    // 뉴스 아카이브 저장/색인용 단일 스레드 (저장 순서 보장, 중복 키 경합 방지)
+    @Bean
+    public ThreadPoolTaskExecutor newsArchiveExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setQueueCapacity(500);
+        executor.setThreadNamePrefix("news-archive-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(10);
+        return executor;
+    }
+
+    // 네이버 뉴스 여러 페이지 병렬 조회용 (동시 호출 수 제한)
+    @Bean
+    public ThreadPoolTaskExecutor naverFetchExecutor(@Value("${naver.news.max-concurrency:8}") int maxConcurrency) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(maxConcurrency);
+        executor.setMaxPoolSize(maxConcurrency);
+        executor.setQueueCapacity(500);
+        executor.setThreadNamePrefix("naver-fetch-");
+        return executor;
+    }
+
+    // 차트 이상 변동 감지용 (코인별 작업을 병렬로, 스레드 수 제한)
+    @Bean
+    public ThreadPoolTaskExecutor issueDetectExecutor(@Value("${issue.detect.parallelism:4}") int parallelism) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(parallelism);
+        executor.setMaxPoolSize(parallelism);
+        executor.setQueueCapacity(1000);
+        executor.setThreadNamePrefix("issue-detect-");
+        // 큐가 가득 차면 스케줄러 스레드에서 직접 실행
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        return executor;
+    }
+
+    // 이슈 AI 생성 워커 (IssueGenerationWorker가 빈 스레드 수만큼만 작업을 가져옴)
+    @Bean
+    public ThreadPoolTaskExecutor issueGenerationExecutor(@Value("${issue.generation.workers:4}") int workers) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(workers);
+        executor.setMaxPoolSize(workers);
+        executor.setQueueCapacity(workers);
+        executor.setThreadNamePrefix("issue-generate-");
+        // 처리 중인 생성은 마치고 종료 (못 마친 작업은 임대 만료 후 다른 인스턴스가 가져감)
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        return executor;
+    }
+
+    // 요청 안의 독립 I/O 동시 실행 (StructuredFanOut)
+    // 가상 스레드 모드(Java 21 + spring.threads.virtual.enabled=true)면 작업마다 가상 스레드, 아니면 고정 크기 풀
+    @Bean
+    public AsyncTaskExecutor fanOutExecutor(@Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads,
+                                            @Value("${fanout.threads:32}") int threads) {
+        if (virtualThreads && Runtime.version().feature() >= 21) {
+            SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("fanout-");
+            executor.setVirtualThreads(true);
+            return executor;
+        }
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setQueueCapacity(1000);
+        executor.setThreadNamePrefix("fanout-");
+        // 큐가 가득 차면 요청 스레드에서 직접 실행 (순차 실행과 같아짐)
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        return executor;
+    }
+
+    // 초기 데이터 적재 (기동 후 백그라운드, 단계 순서대로 한 스레드에서)
+    @Bean
+    public ThreadPoolTaskExecutor initDataLoadExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setThreadNamePrefix("init-data-");
+        executor.setWaitForTasksToCompleteOnShutdown(false);
+        return executor;
+    }
+}
@@ -0,0 +1,62 @@
+package com.cryptory.be.global.config;
+
+import com.cryptory.be.issue.generate.IssueGenerator;
+import com.cryptory.be.issue.generate.TemplateIssueGenerator;
+import com.cryptory.be.issue.repository.IssueGenerationJobRepository;
+import com.cryptory.be.issue.repository.IssueRepository;
+import com.cryptory.be.issue.service.IssueGenerationQueue;
+import com.cryptory.be.issue.service.IssueGenerationWorker;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.Executor;
+
+/**
+ * 이슈 생성 큐/워커/생성기 등록
+ * issue.generation.generator 값으로 생성기를 고른다. (프로필과 무관)
+ * - template(기본값): 차트 값으로 문장을 만드는 TemplateIssueGenerator
+ * - none: 생성 기능 끔, 큐/워커를 등록하지 않고 생성 요청은 503 (ISSUE_GENERATION_UNAVAILABLE)
+ * - 그 외: 같은 이름으로 IssueGenerator 빈을 따로 등록해야 함 (없으면 기동 실패)
+ */
+@Configuration
+public class IssueGenerationConfig {
+
+    @Bean
+    @ConditionalOnProperty(name = "issue.generation.generator", havingValue = "template", matchIfMissing = true)
+    public IssueGenerator templateIssueGenerator() {
+        return new TemplateIssueGenerator();
+    }
+
+    @Bean
+    @ConditionalOnExpression("'${issue.generation.generator:template}' != 'none'")
+    public IssueGenerationQueue issueGenerationQueue(IssueGenerationJobRepository jobRepository,
+                                                     PlatformTransactionManager transactionManager,
+                                                     @Value("${issue.generation.lease-seconds:120}") long leaseSeconds) {
+        return new IssueGenerationQueue(jobRepository, transactionManager, leaseSeconds);
+    }
+
+    @Bean
+    @ConditionalOnExpression("'${issue.generation.generator:template}' != 'none'")
+    public IssueGenerationWorker issueGenerationWorker(IssueGenerationQueue queue,
+                                                       IssueGenerator generator,
+                                                       IssueRepository issueRepository,
+                                                       TransactionTemplate transactionTemplate,
+                                                       ApplicationEventPublisher eventPublisher,
+                                                       @Qualifier("issueGenerationExecutor") Executor generationExecutor,
+                                                       @Value("${issue.generation.enabled:true}") boolean enabled,
+                                                       @Value("${issue.generation.workers:4}") int workers,
+                                                       @Value("${issue.generation.max-attempts:3}") int maxAttempts,
+                                                       @Value("${issue.generation.retry-backoff-seconds:30}") long retryBackoffSeconds,
+                                                       MeterRegistry meterRegistry) {
+        return new IssueGenerationWorker(queue, generator, issueRepository, transactionTemplate, eventPublisher,
+                generationExecutor, enabled, workers, maxAttempts, retryBackoffSeconds, meterRegistry);
+    }
+}
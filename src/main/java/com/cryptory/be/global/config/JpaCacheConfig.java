@@ -0,0 +1,74 @@
+package com.cryptory.be.global.config;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.stat.Statistics;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Hibernate 2차 캐시 (Caffeine JCache, 크기 제한은 application.conf)
+ * - 대상: 거의 바뀌지 않는 Coin, CoinSymbol 엔티티와 이들에 대한 작은 조회 쿼리 (@Cache, HINT_CACHEABLE)
+ * - 엔티티 수정/삭제와 JPQL 벌크 UPDATE/DELETE는 Hibernate가 해당 region과 쿼리 캐시를 무효화
+ *   (네이티브 쿼리로 coins/coin_symbols를 바꾸면 무효화되지 않으므로 JPQL로 작성)
+ * - 적중률은 Hibernate Statistics로 집계해 hibernate.cache.* 메트릭으로 노출
+ * 설정 서버에서 spring.jpa.properties로 같은 키를 주면 그 값을 우선
+ */
+@Configuration
+public class JpaCacheConfig {
+
+    private static final String CAFFEINE_PROVIDER = "com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider";
+
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCacheCustomizer() {
+        return properties -> {
+            properties.putIfAbsent(AvailableSettings.USE_SECOND_LEVEL_CACHE, "true");
+            properties.putIfAbsent(AvailableSettings.USE_QUERY_CACHE, "true");
+            properties.putIfAbsent(AvailableSettings.CACHE_REGION_FACTORY, "jcache");
+            properties.putIfAbsent(ConfigSettings.PROVIDER, CAFFEINE_PROVIDER);
+            properties.putIfAbsent(ConfigSettings.MISSING_CACHE_STRATEGY, "create");
+            properties.putIfAbsent(AvailableSettings.GENERATE_STATISTICS, "true");
+        };
+    }
+
+    @Bean
+    public MeterBinder secondLevelCacheMetrics(EntityManagerFactory entityManagerFactory) {
+        return registry -> {
+            Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+            counter(registry, "hibernate.cache.second-level.requests", "hit", statistics, Statistics::getSecondLevelCacheHitCount);
+            counter(registry, "hibernate.cache.second-level.requests", "miss", statistics, Statistics::getSecondLevelCacheMissCount);
+            counter(registry, "hibernate.cache.query.requests", "hit", statistics, Statistics::getQueryCacheHitCount);
+            counter(registry, "hibernate.cache.query.requests", "miss", statistics, Statistics::getQueryCacheMissCount);
+
+            Gauge.builder("hibernate.cache.second-level.hit.ratio", statistics,
+                            s -> ratio(s.getSecondLevelCacheHitCount(), s.getSecondLevelCacheMissCount()))
+                    .register(registry);
+            Gauge.builder("hibernate.cache.query.hit.ratio", statistics,
+                            s -> ratio(s.getQueryCacheHitCount(), s.getQueryCacheMissCount()))
+                    .register(registry);
+        };
+    }
+
+    private static void counter(MeterRegistry registry, String name, String result,
+                                Statistics statistics, ToDoubleFunction<Statistics> count) {
+        FunctionCounter.builder(name, statistics, count)
+                .tag("result", result)
+                .register(registry);
+    }
+
+    // 요청이 없으면 0
+    private static double ratio(long hit, long miss) {
+        long total = hit + miss;
+        return total == 0 ? 0 : (double) hit / total;
+    }
+}
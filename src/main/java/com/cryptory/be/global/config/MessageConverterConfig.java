@@ -0,0 +1,33 @@
+package com.cryptory.be.global.config;
+
+import com.cryptory.be.global.converter.MessagePackHttpMessageConverter;
+import com.cryptory.be.global.converter.ProtobufJacksonHttpMessageConverter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.List;
+
+/**
+ * 바이너리 응답 컨버터 (BinaryMediaTypes), JSON 컨버터 뒤에 추가해 Accept가 없거나 JSON이면 기존처럼 JSON
+ * 모두 Boot가 설정한 ObjectMapper를 복사해 팩토리만 바꿔 쓴다. (JSON과 같은 직렬화 설정)
+ */
+@Configuration
+@RequiredArgsConstructor
+public class MessageConverterConfig implements WebMvcConfigurer {
+
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        // classpath에 CBOR가 있으면 기본 컨버터가 따로 생성한 ObjectMapper로 등록되므로 교체
+        converters.removeIf(converter -> converter instanceof MappingJackson2CborHttpMessageConverter);
+        converters.add(new MappingJackson2CborHttpMessageConverter(objectMapper.copyWith(new CBORFactory())));
+        converters.add(new MessagePackHttpMessageConverter(objectMapper));
+        converters.add(new ProtobufJacksonHttpMessageConverter(objectMapper));
+    }
+}
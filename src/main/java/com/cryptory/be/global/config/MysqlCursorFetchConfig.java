@@ -0,0 +1,36 @@
+package com.cryptory.be.global.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * MySQL 커넥션 풀에 useCursorFetch=true 적용 (primary, replica 모두)
+ * Connector/J는 이 설정이 없으면 fetch size를 무시하고 결과 전체를 메모리에 올린다.
+ * 차트 타임라인/내보내기 스트림(ChartRepository.streamTimeline, streamExport)이 fetch size(500) 단위로 읽으려면 필요
+ * JDBC URL에 useCursorFetch를 직접 적었으면 그 값을 따른다. MySQL이 아닌 DataSource(H2 등)는 건드리지 않음
+ */
+@Configuration
+public class MysqlCursorFetchConfig {
+
+    private static final String MYSQL_URL_PREFIX = "jdbc:mysql:";
+    private static final String USE_CURSOR_FETCH = "useCursorFetch";
+
+    // 풀은 첫 커넥션 요청 때 만들어지므로 초기화 전에 속성만 추가
+    @Bean
+    public static BeanPostProcessor mysqlCursorFetchPostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessBeforeInitialization(Object bean, String beanName) {
+                if (bean instanceof HikariDataSource dataSource) {
+                    String url = dataSource.getJdbcUrl();
+                    if (url != null && url.startsWith(MYSQL_URL_PREFIX) && !url.contains(USE_CURSOR_FETCH)) {
+                        dataSource.addDataSourceProperty(USE_CURSOR_FETCH, "true");
+                    }
+                }
+                return bean;
+            }
+        };
+    }
+}
@@ -0,0 +1,60 @@
+package com.cryptory.be.global.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.time.Duration;
+
+/**
+ * 논블로킹 조회 API(ReactiveCoinController, ReactiveNewsController)용 설정
+ * - 업비트/네이버 WebClient: 연결 수와 대기 요청 수를 제한한 reactor-netty 풀
+ * - jdbcScheduler: JDBC 조회만 실행하는 스레드 (replica 커넥션 풀 크기만큼, 넘치면 큐에서 대기)
+ */
+@Configuration
+public class ReactiveConfig {
+
+    @Bean
+    public WebClient upbitWebClient(WebClient.Builder builder,
+                                    @Value("${upbit.api.url:https://api.upbit.com/v1/}") String baseUrl,
+                                    @Value("${upbit.client.max-connections:200}") int maxConnections,
+                                    @Value("${upbit.client.response-timeout-ms:3000}") long responseTimeoutMs) {
+        return builder.clone()
+                .baseUrl(baseUrl)
+                .clientConnector(connector("upbit", maxConnections, responseTimeoutMs))
+                .build();
+    }
+
+    @Bean
+    public WebClient naverWebClient(WebClient.Builder builder,
+                                    @Value("${naver.client.max-connections:50}") int maxConnections,
+                                    @Value("${naver.client.response-timeout-ms:5000}") long responseTimeoutMs) {
+        return builder.clone()
+                .clientConnector(connector("naver", maxConnections, responseTimeoutMs))
+                .build();
+    }
+
+    @Bean(destroyMethod = "dispose")
+    public Scheduler jdbcScheduler(@Value("${reactive.jdbc.threads:${spring.datasource.replica.maximum-pool-size:10}}") int threads,
+                                   @Value("${reactive.jdbc.queue-capacity:1000}") int queueCapacity) {
+        return Schedulers.newBoundedElastic(threads, queueCapacity, "reactive-jdbc");
+    }
+
+    // 연결이 모두 사용 중이면 최대 maxConnections * 4개까지 대기, 그 이상은 바로 실패
+    private static ReactorClientHttpConnector connector(String name, int maxConnections, long responseTimeoutMs) {
+        ConnectionProvider provider = ConnectionProvider.builder(name)
+                .maxConnections(maxConnections)
+                .pendingAcquireMaxCount(maxConnections * 4)
+                .pendingAcquireTimeout(Duration.ofMillis(responseTimeoutMs))
+                .build();
+        HttpClient httpClient = HttpClient.create(provider)
+                .responseTimeout(Duration.ofMillis(responseTimeoutMs));
+        return new ReactorClientHttpConnector(httpClient);
+    }
+}
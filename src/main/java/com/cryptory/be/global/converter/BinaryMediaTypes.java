@@ -0,0 +1,39 @@
+package com.cryptory.be.global.converter;
+
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+
+import java.util.List;
+
+/**
+ * 바이너리 응답 형식 (JSON 대신 Accept 헤더로 선택)
+ * - application/cbor
+ * - application/x-msgpack
+ * - application/x-protobuf (스키마: resources/proto/market.proto)
+ */
+public final class BinaryMediaTypes {
+
+    public static final MediaType CBOR = MediaType.APPLICATION_CBOR;
+    public static final MediaType MESSAGE_PACK = new MediaType("application", "x-msgpack");
+    public static final MediaType PROTOBUF = new MediaType("application", "x-protobuf");
+
+    private static final List<MediaType> ALL = List.of(CBOR, MESSAGE_PACK, PROTOBUF);
+
+    private BinaryMediaTypes() {
+    }
+
+    // Accept에 바이너리 형식이 명시되어 있는지 (*/* 같은 와일드카드는 JSON으로 본다)
+    public static boolean isRequested(String accept) {
+        if (accept == null || accept.isBlank()) {
+            return false;
+        }
+        try {
+            return MediaType.parseMediaTypes(accept).stream()
+                    .filter(mediaType -> !mediaType.isWildcardType() && !mediaType.isWildcardSubtype())
+                    .filter(mediaType -> mediaType.getQualityValue() > 0)
+                    .anyMatch(mediaType -> ALL.stream().anyMatch(mediaType::isCompatibleWith));
+        } catch (InvalidMediaTypeException e) {
+            return false;
+        }
+    }
+}
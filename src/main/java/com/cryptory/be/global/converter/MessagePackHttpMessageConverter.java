@@ -0,0 +1,13 @@
+package com.cryptory.be.global.converter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.msgpack.jackson.dataformat.MessagePackFactory;
+import org.springframework.http.converter.json.AbstractJackson2HttpMessageConverter;
+
+// MessagePack 응답 (JSON과 같은 ObjectMapper 설정, 팩토리만 MessagePack)
+public class MessagePackHttpMessageConverter extends AbstractJackson2HttpMessageConverter {
+
+    public MessagePackHttpMessageConverter(ObjectMapper objectMapper) {
+        super(objectMapper.copyWith(new MessagePackFactory()), BinaryMediaTypes.MESSAGE_PACK);
+    }
+}
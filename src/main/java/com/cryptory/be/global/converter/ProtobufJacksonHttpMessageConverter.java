@@ -0,0 +1,127 @@
+package com.cryptory.be.global.converter;
+
+import com.cryptory.be.chart.dto.ChartDto;
+import com.cryptory.be.coin.dto.CoinDetailDto;
+import com.cryptory.be.coin.dto.CoinDto;
+import com.cryptory.be.global.response.ApiResponse;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.dataformat.protobuf.ProtobufFactory;
+import com.fasterxml.jackson.dataformat.protobuf.schema.NativeProtobufSchema;
+import com.fasterxml.jackson.dataformat.protobuf.schema.ProtobufSchema;
+import com.fasterxml.jackson.dataformat.protobuf.schema.ProtobufSchemaLoader;
+import org.springframework.core.ResolvableType;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractGenericHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.reflect.Type;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Protobuf 응답 (쓰기 전용), resources/proto/market.proto 스키마로 DTO를 바로 인코딩 (중간 메시지 객체 없음)
+ * ApiResponse의 결과 타입으로 메시지를 고른다.
+ * - CoinDto -> CoinListResponse, CoinDetailDto -> CoinDetailResponse, ChartDto -> ChartSeriesResponse
+ * - 결과가 없는 응답(에러 등) -> StatusResponse
+ * 스키마가 없는 결과 타입은 쓰지 않는다. (선언 타입으로 알 수 있으면 406, 아니면 쓰기 실패)
+ */
+public class ProtobufJacksonHttpMessageConverter extends AbstractGenericHttpMessageConverter<Object> {
+
+    static final String SCHEMA_PATH = "/proto/market.proto";
+
+    private final ObjectMapper objectMapper;
+    private final Map<Class<?>, ProtobufSchema> schemasByResultType;
+    private final ProtobufSchema statusSchema;
+
+    public ProtobufJacksonHttpMessageConverter(ObjectMapper objectMapper) {
+        super(BinaryMediaTypes.PROTOBUF);
+        this.objectMapper = objectMapper.copyWith(new ProtobufFactory());
+        try {
+            NativeProtobufSchema schema = ProtobufSchemaLoader.std.loadNative(getClass().getResource(SCHEMA_PATH));
+            this.schemasByResultType = Map.of(
+                    CoinDto.class, schema.forType("CoinListResponse"),
+                    CoinDetailDto.class, schema.forType("CoinDetailResponse"),
+                    ChartDto.class, schema.forType("ChartSeriesResponse"));
+            this.statusSchema = schema.forType("StatusResponse");
+        } catch (IOException e) {
+            throw new UncheckedIOException("Protobuf 스키마를 읽지 못했습니다: " + SCHEMA_PATH, e);
+        }
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return ApiResponse.class.isAssignableFrom(clazz);
+    }
+
+    @Override
+    public boolean canRead(Class<?> clazz, MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    public boolean canRead(Type type, Class<?> contextClass, MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    public boolean canWrite(Type type, Class<?> clazz, MediaType mediaType) {
+        if (!supports(clazz) || !canWrite(mediaType)) {
+            return false;
+        }
+        Class<?> declared = declaredResultType(type);
+        return declared == null || declared == Void.class || schemasByResultType.containsKey(declared);
+    }
+
+    @Override
+    protected void writeInternal(Object object, Type type, HttpOutputMessage outputMessage) throws IOException {
+        ApiResponse<?> response = (ApiResponse<?>) object;
+        ObjectWriter writer = writer(response, declaredResultType(type));
+        if (writer == null) {
+            throw new HttpMessageNotWritableException("Protobuf 스키마가 없는 응답입니다: " + response.getResults().get(0).getClass());
+        }
+        writer.writeValue(outputMessage.getBody(), response);
+    }
+
+    // 선언 타입, 없으면 실제 결과 타입으로 스키마 선택, 둘 다 없으면 status만 (metadata 등 스키마에 없는 값은 무시)
+    ObjectWriter writer(ApiResponse<?> response, Class<?> declaredResultType) {
+        if (declaredResultType != null && declaredResultType != Void.class) {
+            return objectMapper.writer(schemasByResultType.get(declaredResultType));
+        }
+        List<?> results = response.getResults();
+        if (declaredResultType == Void.class || results == null || results.isEmpty()) {
+            return objectMapper.writer(statusSchema).with(JsonGenerator.Feature.IGNORE_UNKNOWN);
+        }
+        ProtobufSchema schema = schemasByResultType.get(results.get(0).getClass());
+        return schema == null ? null : objectMapper.writer(schema);
+    }
+
+    ProtobufSchema schema(Class<?> resultType) {
+        return schemasByResultType.get(resultType);
+    }
+
+    // 선언 타입 ApiResponse<T>의 T, 와일드카드/원시 타입이라 알 수 없으면 null
+    private static Class<?> declaredResultType(Type type) {
+        if (type == null) {
+            return null;
+        }
+        Class<?> resolved = ResolvableType.forType(type).as(ApiResponse.class).getGeneric(0).resolve();
+        return resolved == null || resolved == Object.class ? null : resolved;
+    }
+
+    @Override
+    protected Object readInternal(Class<?> clazz, HttpInputMessage inputMessage) {
+        throw new HttpMessageNotReadableException("Protobuf 요청 본문은 지원하지 않습니다.", inputMessage);
+    }
+
+    @Override
+    public Object read(Type type, Class<?> contextClass, HttpInputMessage inputMessage) {
+        throw new HttpMessageNotReadableException("Protobuf 요청 본문은 지원하지 않습니다.", inputMessage);
+    }
+}
@@ -0,0 +1,6 @@
+package com.cryptory.be.global.datasource;
+
+public enum DataSourceRole {
+    PRIMARY,    // 쓰기 + 복제 지연 시 읽기
+    REPLICA     // readOnly 트랜잭션 읽기
+}
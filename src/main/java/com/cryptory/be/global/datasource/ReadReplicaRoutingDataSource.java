@@ -0,0 +1,50 @@
+package com.cryptory.be.global.datasource;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.Map;
+
+/**
+ * readOnly 트랜잭션은 replica, 나머지는 primary로 보내는 DataSource
+ * - 트랜잭션 시작 후 첫 쿼리 시점에 결정해야 하므로 LazyConnectionDataSourceProxy로 감싸서 사용
+ * - replica 복제 지연이 기준을 넘으면(ReplicaLagMonitor) readOnly여도 primary
+ * - 트랜잭션 밖의 조회(JdbcTemplate 단독 호출 등)는 primary
+ */
+public class ReadReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    private final ReplicaLagMonitor lagMonitor;
+
+    private final Counter primaryRoutes;
+    private final Counter replicaRoutes;
+    private final Counter fallbackRoutes;
+
+    public ReadReplicaRoutingDataSource(DataSource primary, DataSource replica,
+                                        ReplicaLagMonitor lagMonitor, MeterRegistry meterRegistry) {
+        this.lagMonitor = lagMonitor;
+        this.primaryRoutes = meterRegistry.counter("datasource.routing", "target", "primary", "reason", "write");
+        this.replicaRoutes = meterRegistry.counter("datasource.routing", "target", "replica", "reason", "read");
+        this.fallbackRoutes = meterRegistry.counter("datasource.routing", "target", "primary", "reason", "replica-lag");
+
+        setTargetDataSources(Map.of(DataSourceRole.PRIMARY, primary, DataSourceRole.REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            primaryRoutes.increment();
+            return DataSourceRole.PRIMARY;
+        }
+        if (!lagMonitor.isReplicaAvailable()) {
+            fallbackRoutes.increment();
+            return DataSourceRole.PRIMARY;
+        }
+        replicaRoutes.increment();
+        return DataSourceRole.REPLICA;
+    }
+}
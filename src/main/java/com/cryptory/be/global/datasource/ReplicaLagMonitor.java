@@ -0,0 +1,105 @@
+package com.cryptory.be.global.datasource;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.BadSqlGrammarException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.time.Clock;
+import java.time.Duration;
+
+/**
+ * replica 복제 지연 측정 (heartbeat 테이블 방식, MySQL/H2 공통)
+ * - 주기마다 primary의 replica_heartbeat에 현재 시각을 쓰고, replica에서 복제된 값을 읽는다.
+ *   방금 쓴 값은 비동기 복제라 대개 아직 보이지 않으므로, 지연은 직전 주기에 쓴 값과 replica 값의 차이로 본다.
+ *   (현재 시각 기준으로 재면 측정 주기만큼이 항상 더해져 실제 허용 지연이 max-lag - lag-check-ms로 줄어든다)
+ * - 지연이 max-lag를 넘거나 replica 조회에 실패하면 replica를 쓰지 않음 (다음 측정에서 회복되면 다시 사용)
+ * - 첫 측정 전에는 replica를 쓰지 않는다.
+ * replica_heartbeat 테이블은 스키마 관리에서 미리 만들어 둘 것 (CREATE_TABLE, 계정에는 SELECT/INSERT/UPDATE 권한만 필요)
+ * 테이블이 없을 때만 앱이 직접 만들며, 이때는 primary 계정에 CREATE 권한이 필요하다.
+ */
+@Slf4j
+public class ReplicaLagMonitor {
+
+    static final String CREATE_TABLE = "CREATE TABLE IF NOT EXISTS replica_heartbeat (id INT PRIMARY KEY, beat_at BIGINT NOT NULL)";
+    static final String UPDATE_BEAT = "UPDATE replica_heartbeat SET beat_at = ? WHERE id = 1";
+    static final String INSERT_BEAT = "INSERT INTO replica_heartbeat (id, beat_at) VALUES (1, ?)";
+    static final String SELECT_BEAT = "SELECT beat_at FROM replica_heartbeat WHERE id = 1";
+
+    private final JdbcTemplate primary;
+    private final JdbcTemplate replica;
+    private final long maxLagMillis;
+    private final Clock clock;
+
+    private long previousBeat = -1; // 직전 주기에 primary에 쓴 값, probe()에서만 접근
+    private volatile boolean replicaAvailable;
+    private volatile long lagMillis = -1;
+
+    public ReplicaLagMonitor(DataSource primary, DataSource replica, Duration maxLag, Clock clock,
+                             MeterRegistry meterRegistry) {
+        this.primary = new JdbcTemplate(primary);
+        this.replica = new JdbcTemplate(replica);
+        this.maxLagMillis = maxLag.toMillis();
+        this.clock = clock;
+        meterRegistry.gauge("datasource.replica.lag", this, m -> m.lagMillis);
+        meterRegistry.gauge("datasource.replica.available", this, m -> m.replicaAvailable ? 1 : 0);
+    }
+
+    @Scheduled(fixedDelayString = "${spring.datasource.replica.lag-check-ms:1000}")
+    public synchronized void probe() {
+        long now = clock.millis();
+        try {
+            writeBeat(now);
+        } catch (DataAccessException e) {
+            // primary 장애는 replica 사용 여부와 무관, 마지막 측정 유지
+            log.warn("replica heartbeat 기록 실패: {}", e.getMessage());
+            return;
+        }
+        // 첫 측정은 비교할 직전 값이 없으므로 현재 시각 기준
+        long reference = previousBeat < 0 ? now : previousBeat;
+        previousBeat = now;
+
+        try {
+            Long beat = replica.queryForObject(SELECT_BEAT, Long.class);
+            lagMillis = beat == null ? -1 : Math.max(0, reference - beat);
+            boolean available = beat != null && lagMillis <= maxLagMillis;
+            if (available != replicaAvailable) {
+                log.info("replica {} (lag: {} ms)", available ? "사용" : "미사용 - primary로 읽기", lagMillis);
+            }
+            replicaAvailable = available;
+        } catch (DataAccessException e) {
+            lagMillis = -1;
+            if (replicaAvailable) {
+                log.warn("replica 조회 실패, primary로 읽기: {}", e.getMessage());
+            }
+            replicaAvailable = false;
+        }
+    }
+
+    public boolean isReplicaAvailable() {
+        return replicaAvailable;
+    }
+
+    public long getLagMillis() {
+        return lagMillis;
+    }
+
+    private void writeBeat(long now) {
+        try {
+            upsertBeat(now);
+        } catch (BadSqlGrammarException e) {
+            log.info("replica_heartbeat 테이블이 없어 생성합니다: {}", e.getMessage());
+            primary.execute(CREATE_TABLE);
+            upsertBeat(now);
+        }
+    }
+
+    private void upsertBeat(long now) {
+        if (primary.update(UPDATE_BEAT, now) == 0) {
+            primary.update(INSERT_BEAT, now);
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package com.cryptory.be.global.filter;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * ETag를 내려주는 GET 엔드포인트의 조건부 요청 지표
+ * - http.conditional.requests (endpoint, result=not_modified|modified|unconditional)
+ * - http.conditional.response.bytes (endpoint): 200 응답 본문 크기 (압축된 경우 압축 후 크기)
+ * - http.conditional.saved.bytes (endpoint): 304로 보내지 않은 본문 크기 추정치 (같은 엔드포인트의 마지막 200 응답 크기)
+ * 본문 크기는 getOutputStream으로 쓴 바이트만 센다. (JSON 응답은 모두 OutputStream 사용)
+ */
+@Component
+public class ConditionalGetMetricsFilter extends OncePerRequestFilter {
+
+    private final MeterRegistry meterRegistry;
+
+    // 엔드포인트별 마지막 200 응답 본문 크기
+    private final Map<String, Long> lastBodyBytes = new ConcurrentHashMap<>();
+
+    public ConditionalGetMetricsFilter(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !HttpMethod.GET.matches(request.getMethod());
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        CountingResponse counting = new CountingResponse(response);
+        filterChain.doFilter(request, counting);
+
+        int status = counting.getStatus();
+        boolean notModified = status == HttpServletResponse.SC_NOT_MODIFIED;
+        if (!notModified && (status != HttpServletResponse.SC_OK || counting.getHeader(HttpHeaders.ETAG) == null)) {
+            return; // 검증자가 없는 응답은 집계하지 않음
+        }
+
+        String endpoint = endpoint(request);
+        if (notModified) {
+            meterRegistry.counter("http.conditional.requests", "endpoint", endpoint, "result", "not_modified").increment();
+            Long saved = lastBodyBytes.get(endpoint);
+            if (saved != null) {
+                meterRegistry.counter("http.conditional.saved.bytes", "endpoint", endpoint).increment(saved);
+            }
+            return;
+        }
+
+        boolean conditional = request.getHeader(HttpHeaders.IF_NONE_MATCH) != null
+                || request.getHeader(HttpHeaders.IF_MODIFIED_SINCE) != null;
+        meterRegistry.counter("http.conditional.requests", "endpoint", endpoint,
+                "result", conditional ? "modified" : "unconditional").increment();
+        lastBodyBytes.put(endpoint, counting.bytes);
+        DistributionSummary.builder("http.conditional.response.bytes")
+                .baseUnit("bytes")
+                .tag("endpoint", endpoint)
+                .register(meterRegistry)
+                .record(counting.bytes);
+    }
+
+    // 요청 경로 대신 매핑 패턴 (/api/v1/coins/{coinId}/news), 태그 수가 id 수만큼 늘지 않도록
+    private static String endpoint(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return pattern == null ? "UNKNOWN" : pattern.toString();
+    }
+
+    private static final class CountingResponse extends HttpServletResponseWrapper {
+
+        private long bytes;
+        private ServletOutputStream outputStream;
+
+        private CountingResponse(HttpServletResponse response) {
+            super(response);
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            if (outputStream == null) {
+                ServletOutputStream delegate = super.getOutputStream();
+                outputStream = new ServletOutputStream() {
+                    @Override
+                    public void write(int b) throws IOException {
+                        delegate.write(b);
+                        bytes++;
+                    }
+
+                    @Override
+                    public void write(byte[] b, int off, int len) throws IOException {
+                        delegate.write(b, off, len);
+                        bytes += len;
+                    }
+
+                    @Override
+                    public void flush() throws IOException {
+                        delegate.flush();
+                    }
+
+                    @Override
+                    public void close() throws IOException {
+                        delegate.close();
+                    }
+
+                    @Override
+                    public boolean isReady() {
+                        return delegate.isReady();
+                    }
+
+                    @Override
+                    public void setWriteListener(WriteListener writeListener) {
+                        delegate.setWriteListener(writeListener);
+                    }
+                };
+            }
+            return outputStream;
+        }
+    }
+}
@@ -11,6 +11,7 @@ import org.springframework.http.HttpStatus;
 import java.util.List;
 
 import static com.fasterxml.jackson.annotation.JsonInclude.Include.NON_EMPTY;
+import static com.fasterxml.jackson.annotation.JsonInclude.Include.NON_NULL;
 
 @Getter
 public class ApiResponse<T> {
@@ -30,17 +31,31 @@ public class ApiResponse<T> {
     // 응답 코드와 단일 데이터 반환
     public ApiResponse(HttpStatus httpStatus, T result) {
         this.status = new Status(httpStatus);
-        this.metadata = new Metadata(1);
+        this.metadata = new Metadata(1, null, null);
         this.results = List.of(result);
     }
 
     // 응답 코드와 다중 데이터 반환
     public ApiResponse(HttpStatus httpStatus, List<T> results) {
         this.status = new Status(httpStatus);
-        this.metadata = new Metadata(results.size());
+        this.metadata = new Metadata(results.size(), null, null);
         this.results = results;
     }
 
+    // 응답 코드와 커서 기반 페이지 반환
+    public ApiResponse(HttpStatus httpStatus, CursorPage<T> page) {
+        this.status = new Status(httpStatus);
+        this.metadata = new Metadata(page.items().size(), page.nextCursor(), null);
+        this.results = page.items();
+    }
+
+    // 응답 코드와 커서 기반 페이지 + 전체 개수 반환
+    public ApiResponse(HttpStatus httpStatus, CursorPage<T> page, long totalCount) {
+        this.status = new Status(httpStatus);
+        this.metadata = new Metadata(page.items().size(), page.nextCursor(), totalCount);
+        this.results = page.items();
+    }
+
     // 에러 처리
     public ApiResponse(CustomException e) {
         this.status = new Status(e.getErrorCode());
@@ -69,5 +84,13 @@ public class ApiResponse<T> {
     @AllArgsConstructor
     private class Metadata {
         private int resultCount = 0;
+
+        // 다음 페이지 커서 (마지막 페이지면 생략)
+        @JsonInclude(NON_EMPTY)
+        private String nextCursor;
+
+        // 전체 결과 개수 (알 수 있는 경우만)
+        @JsonInclude(NON_NULL)
+        private Long totalCount;
     }
 }
@@ -0,0 +1,65 @@
+package com.cryptory.be.global.response;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Iterator;
+
+/**
+ * ApiResponse와 같은 형태의 응답을 결과 목록 없이 한 건씩 출력 스트림에 쓴다.
+ * {"status": {...}, "results": [...], "metadata": {"resultCount": n}}
+ * - 결과 개수는 다 쓴 뒤에야 알 수 있어 metadata가 results 뒤에 온다.
+ * - 결과가 없어도 "results": [] 를 쓴다. (ApiResponse는 빈 목록이면 생략)
+ * - 쓰기 시작한 뒤의 예외는 상태 코드를 바꿀 수 없으므로, 검증은 호출 전에 끝내야 한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ApiResponseStreamWriter {
+
+    private final ObjectMapper objectMapper;
+
+    // 결과 한 건을 쓰는 방법 (필드를 직접 쓰면 DTO 변환 없이 바로 출력 가능)
+    @FunctionalInterface
+    public interface ResultWriter<T> {
+        void write(JsonGenerator generator, T result) throws IOException;
+    }
+
+    // 결과를 ObjectMapper 기본 직렬화로 쓴다.
+    public <T> int write(OutputStream out, Iterator<? extends T> results) throws IOException {
+        return write(out, results, JsonGenerator::writeObject);
+    }
+
+    /**
+     * @return 쓴 결과 개수
+     */
+    public <T> int write(OutputStream out, Iterator<? extends T> results, ResultWriter<? super T> resultWriter) throws IOException {
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out, JsonEncoding.UTF8)) {
+            generator.writeStartObject();
+            generator.writeObjectFieldStart("status");
+            generator.writeNumberField("code", HttpStatus.OK.value());
+            generator.writeStringField("message", HttpStatus.OK.getReasonPhrase());
+            generator.writeEndObject();
+
+            // generator 버퍼가 차면 그때그때 응답으로 내보내므로 결과 수와 관계없이 메모리 사용은 일정
+            generator.writeArrayFieldStart("results");
+            int count = 0;
+            while (results.hasNext()) {
+                resultWriter.write(generator, results.next());
+                count++;
+            }
+            generator.writeEndArray();
+
+            generator.writeObjectFieldStart("metadata");
+            generator.writeNumberField("resultCount", count);
+            generator.writeEndObject();
+            generator.writeEndObject();
+            return count;
+        }
+    }
+}
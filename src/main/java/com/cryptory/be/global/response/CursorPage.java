@@ -0,0 +1,12 @@
+package com.cryptory.be.global.response;
+
+import java.util.List;
+import java.util.function.Function;
+
+// 커서 기반 페이지 (nextCursor가 null이면 마지막 페이지)
+public record CursorPage<T>(List<T> items, String nextCursor) {
+
+    public <R> CursorPage<R> map(Function<? super T, ? extends R> mapper) {
+        return new CursorPage<>(items.stream().<R>map(mapper).toList(), nextCursor);
+    }
+}
@@ -0,0 +1,53 @@
+package com.cryptory.be.global.response;
+
+import org.springframework.web.context.request.WebRequest;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.stream.Collectors;
+
+/**
+ * 응답 본문을 만들지 않고 데이터 버전만으로 만든 검증자 (ETag, Last-Modified)
+ * 컨트롤러에서 무거운 조회 전에 checkNotModified로 304 여부를 먼저 확인한다.
+ *
+ * @param etag         버전 구성 값들의 SHA-256 앞 16바이트 (강한 ETag)
+ * @param lastModified epoch millis, 모르면 -1 (Last-Modified 생략)
+ */
+public record ResourceVersion(String etag, long lastModified) {
+
+    private static final int ETAG_BYTES = 16;
+
+    // 같은 값이면 같은 ETag (엔드포인트/조회 조건도 parts에 넣어야 서로 다른 응답이 겹치지 않음)
+    public static ResourceVersion of(long lastModified, Object... parts) {
+        String key = Arrays.stream(parts)
+                .map(String::valueOf)
+                .collect(Collectors.joining("|"));
+        return new ResourceVersion("\"" + hash(key) + "\"", lastModified);
+    }
+
+    // 엔티티 updatedAt(서버 기본 시간대) 기준, null이면 Last-Modified 생략
+    public static ResourceVersion of(LocalDateTime lastModified, Object... parts) {
+        long millis = lastModified == null ? -1 : lastModified.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        return of(millis, parts);
+    }
+
+    // If-None-Match(우선) / If-Modified-Since가 맞으면 true, 이때 응답은 304로 설정되므로 본문 없이 끝내면 된다.
+    // 아니면 ETag, Last-Modified 헤더만 설정하고 false
+    public boolean checkNotModified(WebRequest request) {
+        return lastModified > 0 ? request.checkNotModified(etag, lastModified) : request.checkNotModified(etag);
+    }
+
+    private static String hash(String key) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(key.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest, 0, ETAG_BYTES);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -19,13 +19,24 @@ public class DateFormat{
         return dateTime.format(FORMATTER);
     }
 
+    // "yyyy-MM-dd HH:mm"
+    public static String formatDateTime(LocalDateTime dateTime) {
+        return dateTime.format(TIMESTAMP_FORMATTER);
+    }
+
     // 최근 거래 시간인 timestamp 포맷팅
     public static String formatTimestamp(long timestamp) {
         ZonedDateTime dateTime = Instant.ofEpochMilli(timestamp).atZone(ZoneId.of("UTC"));
         return dateTime.format(TIMESTAMP_FORMATTER);
     }
 
+    // 형식이 맞으면 FastDateFormat, 아니면 기존 방식으로 처리
     public static String formatNewsDate(String inputDate) throws ParseException {
+        String formatted = FastDateFormat.formatNewsDate(inputDate);
+        if (formatted != null) {
+            return formatted;
+        }
+
         // 입력 날짜 형식 (영어 요일, 월 이름을 포함하므로 Locale.ENGLISH 지정)
         SimpleDateFormat inputFormat = new SimpleDateFormat("EEE, dd MMM yyyy HH:mm:ss Z", Locale.ENGLISH);
 
@@ -39,7 +50,32 @@ public class DateFormat{
         return outputFormat.format(date);
     }
 
+    // 네이버 pubDate(RFC-1123)를 서버 시간대의 LocalDateTime으로 변환
+    public static LocalDateTime parseNewsDateTime(String inputDate) {
+        long epochSecond = FastDateFormat.parseRfc1123EpochSecond(inputDate);
+        if (epochSecond != FastDateFormat.INVALID) {
+            return LocalDateTime.ofEpochSecond(epochSecond, 0, ZoneOffset.ofTotalSeconds(FastDateFormat.systemOffsetSeconds(epochSecond)));
+        }
+        return ZonedDateTime.parse(inputDate, DateTimeFormatter.RFC_1123_DATE_TIME)
+                .withZoneSameInstant(ZoneId.systemDefault())
+                .toLocalDateTime();
+    }
+
+    // 네이버 pubDate(RFC-1123)를 epoch second로 변환 (정렬용)
+    public static long parseNewsEpochSecond(String inputDate) {
+        long epochSecond = FastDateFormat.parseRfc1123EpochSecond(inputDate);
+        if (epochSecond != FastDateFormat.INVALID) {
+            return epochSecond;
+        }
+        return ZonedDateTime.parse(inputDate, DateTimeFormatter.RFC_1123_DATE_TIME).toEpochSecond();
+    }
+
     public static String formatTradeTime(String tradeDate, String tradeTime) {
+        String formatted = FastDateFormat.formatTradeTime(tradeDate, tradeTime);
+        if (formatted != null) {
+            return formatted;
+        }
+
         LocalDate date = LocalDate.parse(tradeDate, INPUT_DATE_FORMAT);
         LocalTime time = LocalTime.parse(tradeTime, INPUT_TIME_FORMAT);
 
@@ -0,0 +1,281 @@
+package com.cryptory.be.global.util;
+
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.zone.ZoneRules;
+
+/**
+ * 고정 형식 날짜 문자열 전용 변환기 (DateFormat의 빠른 경로)
+ * - 네이버 pubDate(RFC-1123, "EEE, dd MMM yyyy HH:mm:ss +hhmm") 직접 파싱
+ * - 업비트 거래일시(yyyyMMdd, HHmmss) -> "yyyy-MM-dd HH:mm" 문자 배열 변환
+ * - 같은 입력이 반복되므로 최근 결과를 작은 direct-mapped 캐시에 보관
+ * 형식이 조금이라도 다르면 null(또는 INVALID)을 돌려주고, 호출하는 쪽(DateFormat)이 기존 방식으로 처리한다.
+ * 서버 시간대는 클래스 로딩 시점의 기본 시간대를 사용한다.
+ */
+public final class FastDateFormat {
+
+    public static final long INVALID = Long.MIN_VALUE;
+
+    private static final int CACHE_SIZE = 1024; // 2의 거듭제곱
+    private static final int SECONDS_PER_DAY = 86400;
+    private static final int MIN_YEAR = 1970;
+    private static final int MAX_YEAR = 9998;
+    private static final String[] DAYS = {"Mon", "Tue", "Wed", "Thu", "Fri", "Sat", "Sun"};
+    private static final String[] MONTHS = {"Jan", "Feb", "Mar", "Apr", "May", "Jun", "Jul", "Aug", "Sep", "Oct", "Nov", "Dec"};
+
+    private static final ZoneRules ZONE_RULES = ZoneId.systemDefault().getRules();
+    private static final ZoneOffset FIXED_OFFSET = ZONE_RULES.isFixedOffset() ? ZONE_RULES.getOffset(Instant.EPOCH) : null;
+
+    private static final NewsEntry[] NEWS_DATE_CACHE = new NewsEntry[CACHE_SIZE];
+    private static final TradeEntry[] TRADE_TIME_CACHE = new TradeEntry[CACHE_SIZE];
+
+    private FastDateFormat() {
+    }
+
+    // pubDate -> 서버 시간대 기준 "yyyy-MM-dd", 처리할 수 없는 형식이면 null
+    public static String formatNewsDate(String pubDate) {
+        if (pubDate == null) {
+            return null;
+        }
+        int slot = pubDate.hashCode() & (CACHE_SIZE - 1);
+        NewsEntry cached = NEWS_DATE_CACHE[slot];
+        if (cached != null && cached.pubDate.equals(pubDate)) {
+            return cached.formatted;
+        }
+
+        String formatted = formatNewsDateUncached(pubDate);
+        if (formatted != null) {
+            NEWS_DATE_CACHE[slot] = new NewsEntry(pubDate, formatted);
+        }
+        return formatted;
+    }
+
+    // tradeDate(yyyyMMdd) + tradeTime(HHmmss) -> "yyyy-MM-dd HH:mm", 처리할 수 없는 형식이면 null
+    public static String formatTradeTime(String tradeDate, String tradeTime) {
+        long key = tradeKey(tradeDate, tradeTime);
+        if (key < 0) {
+            return null;
+        }
+        int slot = Long.hashCode(key * 0x9E3779B97F4A7C15L) & (CACHE_SIZE - 1);
+        TradeEntry cached = TRADE_TIME_CACHE[slot];
+        if (cached != null && cached.key == key) {
+            return cached.formatted;
+        }
+
+        String formatted = formatTradeTimeUncached(key);
+        if (formatted != null) {
+            TRADE_TIME_CACHE[slot] = new TradeEntry(key, formatted);
+        }
+        return formatted;
+    }
+
+    /**
+     * RFC-1123 pubDate -> epoch second
+     * 요일이 날짜와 맞지 않거나 "GMT" 같은 다른 표기면 INVALID
+     */
+    public static long parseRfc1123EpochSecond(String s) {
+        // "Mon, 17 Feb 2025 14:30:00 +0900" (일은 한 자리일 수 있음)
+        if (s == null) {
+            return INVALID;
+        }
+        int length = s.length();
+        if (length != 31 && length != 30) {
+            return INVALID;
+        }
+        int dayOfWeek = indexOf(DAYS, s, 0);
+        if (dayOfWeek < 0 || s.charAt(3) != ',' || s.charAt(4) != ' ') {
+            return INVALID;
+        }
+
+        int pos = 5;
+        int day;
+        if (length == 31) {
+            day = digits(s, pos, 2);
+            pos += 2;
+        } else {
+            day = digits(s, pos, 1);
+            pos += 1;
+        }
+        if (day < 1 || s.charAt(pos) != ' ') {
+            return INVALID;
+        }
+        int month = indexOf(MONTHS, s, pos + 1) + 1;
+        if (month < 1 || s.charAt(pos + 4) != ' ') {
+            return INVALID;
+        }
+        pos += 5;
+        int year = digits(s, pos, 4);
+        // 1970년 이전(지역별 LMT 오프셋이 java.util.TimeZone과 다를 수 있음)이나 네 자리를 넘을 수 있는 연도는 기존 방식으로
+        if (year < MIN_YEAR || year > MAX_YEAR || s.charAt(pos + 4) != ' ') {
+            return INVALID;
+        }
+        pos += 5;
+        int hour = digits(s, pos, 2);
+        int minute = digits(s, pos + 3, 2);
+        int second = digits(s, pos + 6, 2);
+        if (s.charAt(pos + 2) != ':' || s.charAt(pos + 5) != ':' || s.charAt(pos + 8) != ' '
+                || hour < 0 || hour > 23 || minute < 0 || minute > 59 || second < 0 || second > 59) {
+            return INVALID;
+        }
+        pos += 9;
+        char sign = s.charAt(pos);
+        int offsetHour = digits(s, pos + 1, 2);
+        int offsetMinute = digits(s, pos + 3, 2);
+        if ((sign != '+' && sign != '-') || offsetHour < 0 || offsetHour > 18 || offsetMinute < 0 || offsetMinute > 59) {
+            return INVALID;
+        }
+        if (day > lengthOfMonth(year, month)) {
+            return INVALID;
+        }
+
+        long epochDay = toEpochDay(year, month, day);
+        if (Math.floorMod(epochDay + 3, 7) != dayOfWeek) { // 1970-01-01은 목요일
+            return INVALID;
+        }
+        int offsetSeconds = (offsetHour * 3600 + offsetMinute * 60) * (sign == '+' ? 1 : -1);
+        return epochDay * SECONDS_PER_DAY + hour * 3600L + minute * 60L + second - offsetSeconds;
+    }
+
+    // 서버 시간대 기준 오프셋(초)
+    public static int systemOffsetSeconds(long epochSecond) {
+        if (FIXED_OFFSET != null) {
+            return FIXED_OFFSET.getTotalSeconds();
+        }
+        return ZONE_RULES.getOffset(Instant.ofEpochSecond(epochSecond)).getTotalSeconds();
+    }
+
+    static String formatNewsDateUncached(String pubDate) {
+        long epochSecond = parseRfc1123EpochSecond(pubDate);
+        if (epochSecond == INVALID) {
+            return null;
+        }
+        long epochDay = Math.floorDiv(epochSecond + systemOffsetSeconds(epochSecond), SECONDS_PER_DAY);
+
+        char[] out = new char[10];
+        writeDate(out, epochDay);
+        return new String(out);
+    }
+
+    static String formatTradeTimeUncached(String tradeDate, String tradeTime) {
+        long key = tradeKey(tradeDate, tradeTime);
+        return key < 0 ? null : formatTradeTimeUncached(key);
+    }
+
+    // key = yyyyMMddHHmmss
+    private static String formatTradeTimeUncached(long key) {
+        int time = (int) (key % 1_000_000);
+        int date = (int) (key / 1_000_000);
+        int year = date / 10000;
+        int month = date / 100 % 100;
+        int day = date % 100;
+        int hour = time / 10000;
+        int minute = time / 100 % 100;
+        int second = time % 100;
+        if (year < 1 || month < 1 || month > 12 || day < 1 || day > lengthOfMonth(year, month)
+                || hour > 23 || minute > 59 || second > 59) {
+            return null;
+        }
+
+        char[] out = new char[16];
+        write4(out, 0, year);
+        out[4] = '-';
+        write2(out, 5, month);
+        out[7] = '-';
+        write2(out, 8, day);
+        out[10] = ' ';
+        write2(out, 11, hour);
+        out[13] = ':';
+        write2(out, 14, minute);
+        return new String(out);
+    }
+
+    // 두 문자열을 숫자 하나(yyyyMMddHHmmss)로, 숫자가 아니거나 길이가 다르면 -1
+    private static long tradeKey(String tradeDate, String tradeTime) {
+        if (tradeDate == null || tradeTime == null || tradeDate.length() != 8 || tradeTime.length() != 6) {
+            return -1;
+        }
+        int date = digits(tradeDate, 0, 8);
+        int time = digits(tradeTime, 0, 6);
+        if (date < 0 || time < 0) {
+            return -1;
+        }
+        return date * 1_000_000L + time;
+    }
+
+    // epochDay -> "yyyy-MM-dd" (연도 네 자리 범위)
+    private static void writeDate(char[] out, long epochDay) {
+        // H. Hinnant civil_from_days
+        long z = epochDay + 719468;
+        long era = Math.floorDiv(z, 146097);
+        long doe = z - era * 146097;
+        long yoe = (doe - doe / 1460 + doe / 36524 - doe / 146096) / 365;
+        long doy = doe - (365 * yoe + yoe / 4 - yoe / 100);
+        long mp = (5 * doy + 2) / 153;
+        int day = (int) (doy - (153 * mp + 2) / 5 + 1);
+        int month = (int) (mp < 10 ? mp + 3 : mp - 9);
+        int year = (int) (yoe + era * 400 + (month <= 2 ? 1 : 0));
+
+        write4(out, 0, year);
+        out[4] = '-';
+        write2(out, 5, month);
+        out[7] = '-';
+        write2(out, 8, day);
+    }
+
+    private static long toEpochDay(int year, int month, int day) {
+        // H. Hinnant days_from_civil
+        int y = month <= 2 ? year - 1 : year;
+        long era = Math.floorDiv(y, 400);
+        long yoe = y - era * 400;
+        long doy = (153L * (month > 2 ? month - 3 : month + 9) + 2) / 5 + day - 1;
+        long doe = yoe * 365 + yoe / 4 - yoe / 100 + doy;
+        return era * 146097 + doe - 719468;
+    }
+
+    private static int lengthOfMonth(int year, int month) {
+        return switch (month) {
+            case 2 -> (year % 4 == 0 && (year % 100 != 0 || year % 400 == 0)) ? 29 : 28;
+            case 4, 6, 9, 11 -> 30;
+            default -> 31;
+        };
+    }
+
+    // s[from, from+count) 숫자 값, 숫자가 아니면 -1
+    private static int digits(String s, int from, int count) {
+        int value = 0;
+        for (int i = from; i < from + count; i++) {
+            int digit = s.charAt(i) - '0';
+            if (digit < 0 || digit > 9) {
+                return -1;
+            }
+            value = value * 10 + digit;
+        }
+        return value;
+    }
+
+    private static int indexOf(String[] names, String s, int from) {
+        for (int i = 0; i < names.length; i++) {
+            if (s.startsWith(names[i], from)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static void write2(char[] out, int at, int value) {
+        out[at] = (char) ('0' + value / 10);
+        out[at + 1] = (char) ('0' + value % 10);
+    }
+
+    private static void write4(char[] out, int at, int value) {
+        write2(out, at, value / 100);
+        write2(out, at + 2, value % 100);
+    }
+
+    private record NewsEntry(String pubDate, String formatted) {
+    }
+
+    private record TradeEntry(long key, String formatted) {
+    }
+}
@@ -0,0 +1,104 @@
+package com.cryptory.be.global.util;
+
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Locale;
+import java.util.Set;
+import java.util.StringJoiner;
+
+// 뉴스 링크/본문 정규화 (중복 제거용)
+public class NewsTextUtils {
+
+    // 같은 기사라도 유입 경로에 따라 붙는 추적용 쿼리 파라미터
+    private static final Set<String> TRACKING_PARAMS = Set.of(
+            "utm_source", "utm_medium", "utm_campaign", "utm_term", "utm_content",
+            "fbclid", "gclid", "ref", "from"
+    );
+
+    /**
+     * 링크 정규화
+     * - scheme 제거(http/https 동일 취급), host 소문자 + "www." 제거
+     * - fragment, 추적용 쿼리 파라미터, 마지막 "/" 제거
+     */
+    public static String normalizeLink(String link) {
+        if (link == null || link.isBlank()) {
+            return "";
+        }
+
+        try {
+            URI uri = new URI(link.trim());
+            String host = uri.getHost() == null ? "" : uri.getHost().toLowerCase(Locale.ROOT);
+            if (host.startsWith("www.")) {
+                host = host.substring(4);
+            }
+
+            String path = uri.getRawPath() == null ? "" : uri.getRawPath();
+            if (path.endsWith("/")) {
+                path = path.substring(0, path.length() - 1);
+            }
+
+            StringBuilder normalized = new StringBuilder(host);
+            if (uri.getPort() != -1 && uri.getPort() != 80 && uri.getPort() != 443) {
+                normalized.append(':').append(uri.getPort());
+            }
+            normalized.append(path);
+
+            String query = normalizeQuery(uri.getRawQuery());
+            if (!query.isEmpty()) {
+                normalized.append('?').append(query);
+            }
+            return normalized.toString();
+        } catch (URISyntaxException e) {
+            return link.trim().toLowerCase(Locale.ROOT);
+        }
+    }
+
+    // 제목 + 요약의 태그/공백을 정리한 뒤 SHA-256 (같은 기사가 다른 링크로 들어오는 경우 판별)
+    public static String contentHash(String title, String description) {
+        String normalized = normalizeText(title) + "\n" + normalizeText(description);
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(normalized.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    // 네이버 응답의 <b> 태그와 HTML 엔티티 제거
+    public static String stripHtml(String text) {
+        if (text == null) {
+            return "";
+        }
+        return text.replaceAll("<[^>]*>", "")
+                .replace("&quot;", "\"")
+                .replace("&apos;", "'")
+                .replace("&#39;", "'")
+                .replace("&lt;", "<")
+                .replace("&gt;", ">")
+                .replace("&nbsp;", " ")
+                .replace("&amp;", "&");
+    }
+
+    private static String normalizeText(String text) {
+        return stripHtml(text).replaceAll("\\s+", " ").trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static String normalizeQuery(String rawQuery) {
+        if (rawQuery == null || rawQuery.isEmpty()) {
+            return "";
+        }
+        StringJoiner joiner = new StringJoiner("&");
+        for (String param : rawQuery.split("&")) {
+            int eq = param.indexOf('=');
+            String name = (eq < 0 ? param : param.substring(0, eq)).toLowerCase(Locale.ROOT);
+            if (!name.isEmpty() && !TRACKING_PARAMS.contains(name)) {
+                joiner.add(param);
+            }
+        }
+        return joiner.toString();
+    }
+}
@@ -0,0 +1,107 @@
+package com.cryptory.be.global.util;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * 요청 하나 안의 독립적인 I/O 작업을 동시에 실행 (fork -> join, 구조적 취소)
+ * - 하나라도 실패하면 나머지 작업을 취소(인터럽트)하고 그 예외로 끝난다.
+ * - 기한(deadline)을 넘기면 남은 작업을 취소하고 TimeoutException
+ * - try-with-resources로 닫으면 끝나지 않은 작업은 모두 취소 (작업이 요청보다 오래 남지 않음)
+ * 작업은 fanOutExecutor에서 실행 (가상 스레드 모드면 작업마다 가상 스레드, AsyncConfig)
+ * Java 21 StructuredTaskScope.ShutdownOnFailure와 같은 사용 방식 (프리뷰 API라 직접 구현)
+ */
+@Component
+public class StructuredFanOut {
+
+    private final Executor executor;
+    private final Duration defaultDeadline;
+
+    public StructuredFanOut(@Qualifier("fanOutExecutor") Executor executor,
+                            @Value("${fanout.deadline-ms:3000}") long deadlineMs) {
+        this.executor = executor;
+        this.defaultDeadline = Duration.ofMillis(deadlineMs);
+    }
+
+    public Scope open() {
+        return open(defaultDeadline);
+    }
+
+    public Scope open(Duration deadline) {
+        return new Scope(executor, System.nanoTime() + deadline.toNanos());
+    }
+
+    public static final class Scope implements AutoCloseable {
+
+        private final ExecutorCompletionService<Object> completion;
+        private final List<Future<Object>> forked = new ArrayList<>();
+        private final long deadlineNanos;
+        private int joined;
+
+        private Scope(Executor executor, long deadlineNanos) {
+            this.completion = new ExecutorCompletionService<>(executor);
+            this.deadlineNanos = deadlineNanos;
+        }
+
+        // 작업 시작, 결과는 join() 후에 꺼낸다.
+        public <T> Supplier<T> fork(Callable<T> task) {
+            Future<Object> future = completion.submit(task::call);
+            forked.add(future);
+            return () -> result(future);
+        }
+
+        // 모든 작업이 성공할 때까지 대기, 먼저 실패한 작업의 예외(ExecutionException) 또는 기한 초과(TimeoutException)
+        public void join() throws InterruptedException, ExecutionException, TimeoutException {
+            try {
+                while (joined < forked.size()) {
+                    long remaining = deadlineNanos - System.nanoTime();
+                    Future<Object> done = remaining > 0 ? completion.poll(remaining, TimeUnit.NANOSECONDS) : completion.poll();
+                    if (done == null) {
+                        throw new TimeoutException("작업 기한을 넘겼습니다. 완료: " + joined + "/" + forked.size());
+                    }
+                    joined++;
+                    done.get();
+                }
+            } catch (InterruptedException | ExecutionException | TimeoutException | RuntimeException e) {
+                cancelAll();
+                throw e;
+            }
+        }
+
+        @Override
+        public void close() {
+            cancelAll();
+        }
+
+        private void cancelAll() {
+            for (Future<Object> future : forked) {
+                future.cancel(true);
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        private static <T> T result(Future<Object> future) {
+            if (!future.isDone()) {
+                throw new IllegalStateException("join() 전에는 결과를 꺼낼 수 없습니다.");
+            }
+            try {
+                return (T) future.get();
+            } catch (InterruptedException | ExecutionException e) {
+                throw new IllegalStateException("실패한 작업의 결과입니다.", e);
+            }
+        }
+    }
+}
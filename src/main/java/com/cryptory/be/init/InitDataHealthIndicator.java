@@ -0,0 +1,36 @@
+package com.cryptory.be.init;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 초기 데이터 적재가 끝날 때까지 DOWN ("initData", readiness 그룹에 포함)
+ * 단계별 상태/시도 횟수/소요 시간을 details로 노출
+ */
+@Component
+@RequiredArgsConstructor
+public class InitDataHealthIndicator implements HealthIndicator {
+
+    private final InitDataStatus initDataStatus;
+
+    @Override
+    public Health health() {
+        Health.Builder builder = initDataStatus.isReady() ? Health.up() : Health.down();
+        initDataStatus.snapshot().forEach((phase, status) -> {
+            Map<String, Object> details = new LinkedHashMap<>();
+            details.put("state", status.state());
+            details.put("attempts", status.attempts());
+            details.put("durationMs", status.durationMs());
+            if (status.error() != null) {
+                details.put("error", status.error());
+            }
+            builder.withDetail(phase.name(), details);
+        });
+        return builder.build();
+    }
+}
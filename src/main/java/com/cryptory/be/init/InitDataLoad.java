@@ -7,156 +7,375 @@ import com.cryptory.be.coin.domain.CoinSymbol;
 import com.cryptory.be.coin.domain.CoinSymbolEnum;
 import com.cryptory.be.coin.repository.CoinRepository;
 import com.cryptory.be.coin.repository.CoinSymbolRepository;
+import com.cryptory.be.coin.service.CoinSymbolRegistry;
+import com.cryptory.be.init.snapshot.MarketSnapshot;
+import com.cryptory.be.init.snapshot.MarketSnapshotStore;
 import com.cryptory.be.openapi.dto.Candle;
 import com.cryptory.be.openapi.dto.Market;
 import com.cryptory.be.openapi.service.UpbitService;
-import jakarta.annotation.PostConstruct;
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.util.*;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
+/**
+ * 초기 데이터 적재
+ * - 컨텍스트가 뜬 뒤(ApplicationReadyEvent) initDataLoadExecutor에서 단계별로 실행 (기동을 막지 않음)
+ * - 단계마다 자기 트랜잭션, 업비트 호출은 트랜잭션 밖에서
+ * - 이미 데이터가 있으면 건너뜀 (재시작 시 다시 받지 않음)
+ * - 실패한 단계는 init.retry.* 설정만큼 재시도, 끝날 때까지 InitDataHealthIndicator가 DOWN
+ * - 단계별 소요 시간은 init.phase 타이머 (phase, result 태그)
+ * - 스냅샷 파일(MarketSnapshotStore)이 있으면 업비트 대신 스냅샷으로 적재하고, 업비트와의 동기화는 적재가 끝난 뒤 백그라운드에서
+ *   업비트에서 모두 받았으면 그 데이터로 스냅샷을 새로 쓴다.
+ */
 @Slf4j
 @Component
-@RequiredArgsConstructor
 public class InitDataLoad {
 
+    // 메인 화면에서 숨길 코인
+    private static final Set<String> HIDDEN_KEYS = Set.of(
+            "MTL", "XRP", "GRS", "IOST", "HI", "ONG", "CB", "ELF", "QTUM",
+            "BTT", "MOC", "ARGO", "TT", "GMB", "MBL", "MLK", "STPT", "STMX", "DKA",
+            "AHT", "BORA", "JST", "CRO", "TON", "SOLA", "HUNT", "DOT", "STRAT",
+            "AQT", "GLM", "META", "FCT", "KOB", "SAND", "HPO", "STRK", "NPXS",
+            "STX", "MATIC", "T", "GMT", "EGLD", "GRT", "BLUR"
+    );
+
+    // 이 ID들만 남기고 삭제 (이미지 깨지는 코인 제외)
+    private static final List<Long> IDS_TO_KEEP = Arrays.asList(1L, 2L, 3L, 6L, 8L, 9L, 10L, 11L, 12L, 13L, 14L, 15L, 16L, 18L, 19L, 20L, 21L, 22L, 23L, 24L, 25L, 26L, 27L, 28L, 29L, 30L, 32L, 33L, 34L, 37L, 40L, 41L, 42L, 46L, 47L, 48L, 50L, 54L, 55L, 56L, 59L, 60L, 61L, 64L, 65L, 67L, 68L, 72L, 73L, 76L, 77L, 81L, 82L, 85L, 86L, 87L, 88L, 89L, 91L, 92L, 94L, 95L, 96L, 97L, 98L, 100L, 102L, 103L, 104L, 105L, 107L, 110L);
+
+    /*
+     * 차트 데이터 가져오는 작업(원래는 저장되는 코인에 대한 차트를 모두 저장해야 함)
+     * 하지만 batch 사용 안하고, MVP 개발이므로 인기 코인 임의 5개 선정
+     */
+    private static final List<String> POPULAR_COIN_CODES = List.of("KRW-BTC", "KRW-ETH", "KRW-DOGE", "KRW-XRP", "KRW-ADA");
+
     private final UpbitService upbitService;
     private final CoinRepository coinRepository;
     private final ChartRepository chartRepository;
     private final CoinSymbolRepository coinSymbolRepository;
+    private final CoinSymbolRegistry coinSymbolRegistry;
+    private final TransactionTemplate transactionTemplate;
+    private final InitDataStatus initDataStatus;
+    private final MarketSnapshotStore snapshotStore;
+    private final Executor initExecutor;
+    private final MeterRegistry meterRegistry;
+
+    private final int maxAttempts;
+    private final long retryDelayMs;
+
+    public InitDataLoad(UpbitService upbitService,
+                        CoinRepository coinRepository,
+                        ChartRepository chartRepository,
+                        CoinSymbolRepository coinSymbolRepository,
+                        CoinSymbolRegistry coinSymbolRegistry,
+                        TransactionTemplate transactionTemplate,
+                        InitDataStatus initDataStatus,
+                        MarketSnapshotStore snapshotStore,
+                        @Qualifier("initDataLoadExecutor") Executor initExecutor,
+                        MeterRegistry meterRegistry,
+                        @Value("${init.retry.max-attempts:5}") int maxAttempts,
+                        @Value("${init.retry.delay-ms:5000}") long retryDelayMs) {
+        this.upbitService = upbitService;
+        this.coinRepository = coinRepository;
+        this.chartRepository = chartRepository;
+        this.coinSymbolRepository = coinSymbolRepository;
+        this.coinSymbolRegistry = coinSymbolRegistry;
+        this.transactionTemplate = transactionTemplate;
+        this.initDataStatus = initDataStatus;
+        this.snapshotStore = snapshotStore;
+        this.initExecutor = initExecutor;
+        this.meterRegistry = meterRegistry;
+        this.maxAttempts = maxAttempts;
+        this.retryDelayMs = retryDelayMs;
+    }
+
+    // 애플리케이션 시작 후 백그라운드에서 db 저장
+    @EventListener(ApplicationReadyEvent.class)
+    public void fetchInitialDataAsync() {
+        initExecutor.execute(this::fetchInitialData);
+    }
 
-    // 애플리케이션 시작 시 자동 db 저장
-    @PostConstruct
-    @Transactional // 단일 트랜잭션으로 실행
     public void fetchInitialData() {
         long startTime = System.currentTimeMillis();
-        log.info("Starting initial data load (Refactored)...");
-
-
-        // 1. CoinSymbol 준비하기 (Find or Create)
-        log.info("Preparing Coin Symbols...");
-        Map<String, CoinSymbol> coinSymbolMap = prepareCoinSymbols();
-
-        // 2. Coin 정보 가져와서 저장
-        log.info("Fetching and saving Coins...");
-        Set<String> hiddenKeys = Set.of(
-                "MTL", "XRP", "GRS", "IOST", "HI", "ONG", "CB", "ELF", "QTUM",
-                "BTT", "MOC", "ARGO", "TT", "GMB", "MBL", "MLK", "STPT", "STMX", "DKA",
-                "AHT", "BORA", "JST", "CRO", "TON", "SOLA", "HUNT", "DOT", "STRAT",
-                "AQT", "GLM", "META", "FCT", "KOB", "SAND", "HPO", "STRK", "NPXS",
-                "STX", "MATIC", "T", "GMT", "EGLD", "GRT", "BLUR"
-        );
-        List<Long> idsToDelete = Arrays.asList(1L, 2L, 3L, 6L, 8L, 9L, 10L, 11L, 12L, 13L, 14L, 15L, 16L, 18L, 19L, 20L, 21L, 22L, 23L, 24L, 25L, 26L, 27L, 28L, 29L, 30L, 32L, 33L, 34L, 37L, 40L, 41L, 42L, 46L, 47L, 48L, 50L, 54L, 55L, 56L, 59L, 60L, 61L, 64L, 65L, 67L, 68L, 72L, 73L, 76L, 77L, 81L, 82L, 85L, 86L, 87L, 88L, 89L, 91L, 92L, 94L, 95L, 96L, 97L, 98L, 100L, 102L, 103L, 104L, 105L, 107L, 110L);
-
-        // 업비트에서 KRW로 거래되는 코인 목록 조회
-        List<Market> coinsByUpbit = upbitService.getCoinsFromUpbit();
-
-        // 코인 목록 저장
-        List<Coin> coinsToSave = coinsByUpbit.stream()
-                .map(market -> {
-                    CoinSymbolEnum coinSymbolEnum = CoinSymbolEnum.fromMarket(market.getMarket());
-                    // CoinSymbol Map에서 가져오기
-                    CoinSymbol coinSymbol = coinSymbolMap.get(coinSymbolEnum.getCode());
-                    if (coinSymbol == null) {
-                        log.error("Critical error: Managed CoinSymbol not found in prepared map for code: {}. Skipping coin: {}", coinSymbolEnum.getCode(), market.getMarket());
-                        return null;
-                    }
-                    boolean isDisplayed = !hiddenKeys.contains(coinSymbolEnum.getCode()); // 숨길 코인 확인
-
-                    return Coin.builder()
-                            .koreanName(market.getKoreanName())
-                            .englishName(market.getEnglishName())
-                            .code(market.getMarket())
-                            .coinSymbol(coinSymbol)
-                            .isDisplayed(false)
-                            .build();
-                })
-                .filter(Objects::nonNull)
-                .toList();
-
-        coinRepository.saveAll(coinsToSave);
-        log.info("Saved {} coins.", coinsToSave.size());
-
-        // 이미지 꺠지는 ID들로 삭제
-        if(!idsToDelete.isEmpty()){
-            coinRepository.deleteCoinsByIdNotIn(idsToDelete);
+        log.info("Starting initial data load...");
+
+        LoadSource source = new LoadSource(snapshotStore.read().orElse(null));
+        if (!(runPhase(InitPhase.COIN_SYMBOLS, this::prepareCoinSymbols)
+                && runPhase(InitPhase.COINS, () -> loadCoins(source))
+                && runPhase(InitPhase.CHARTS, () -> loadCharts(source)))) {
+            log.error("Initial data load failed. 다음 기동 시 남은 단계부터 다시 실행합니다.");
+            return;
+        }
+        log.info("Initial data load 경과시간 >>> {} ms.", System.currentTimeMillis() - startTime);
+
+        if (source.isFetchedComplete()) {
+            snapshotStore.write(source.toSnapshot());
+        } else {
+            reconcile(); // 스냅샷으로 적재했거나 건너뛴 단계가 있으면 업비트와 맞추고 스냅샷 갱신
+        }
+    }
+
+    /**
+     * 단계 실행 + 재시도
+     * @param phase 작업을 했으면 true, 이미 데이터가 있어 건너뛰었으면 false 반환
+     */
+    private boolean runPhase(InitPhase phase, BooleanSupplier work) {
+        for (int attempt = 1; attempt <= maxAttempts; attempt++) {
+            initDataStatus.update(phase, InitDataStatus.State.RUNNING, attempt, 0, null);
+            long start = System.nanoTime();
+            try {
+                boolean worked = work.getAsBoolean();
+                long elapsed = System.nanoTime() - start;
+                record(phase, worked ? "success" : "skipped", elapsed);
+                initDataStatus.update(phase, worked ? InitDataStatus.State.DONE : InitDataStatus.State.SKIPPED,
+                        attempt, TimeUnit.NANOSECONDS.toMillis(elapsed), null);
+                log.info("Init phase {} {} ({} ms)", phase, worked ? "done" : "skipped", TimeUnit.NANOSECONDS.toMillis(elapsed));
+                return true;
+            } catch (RuntimeException e) {
+                long elapsed = System.nanoTime() - start;
+                record(phase, "failure", elapsed);
+                initDataStatus.update(phase, InitDataStatus.State.FAILED, attempt,
+                        TimeUnit.NANOSECONDS.toMillis(elapsed), e.getClass().getSimpleName() + ": " + e.getMessage());
+                log.warn("Init phase {} failed (attempt {}/{})", phase, attempt, maxAttempts, e);
+                if (attempt < maxAttempts && !sleep(retryDelayMs * attempt)) {
+                    return false;
+                }
+            }
+        }
+        return false;
+    }
+
+    private void record(InitPhase phase, String result, long elapsedNanos) {
+        meterRegistry.timer("init.phase", "phase", phase.name(), "result", result)
+                .record(elapsedNanos, TimeUnit.NANOSECONDS);
+    }
+
+    private static boolean sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt(); // 종료 중
+            return false;
+        }
+    }
+
+    // 1. CoinSymbol 준비하기 (DB에 없는 것만 저장)
+    private boolean prepareCoinSymbols() {
+        Boolean saved = transactionTemplate.execute(status -> {
+            Set<String> existingCodes = coinSymbolRepository.findAll().stream()
+                    .map(CoinSymbol::getCode)
+                    .collect(Collectors.toSet());
+
+            List<CoinSymbol> symbolsToSave = Arrays.stream(CoinSymbolEnum.values())
+                    .filter(enumVal -> !existingCodes.contains(enumVal.getCode())) // DB에 없는 값들만 필터링
+                    .map(CoinSymbolEnum::toCoinSymbol) // 새 CoinSymbol 객체 생성
+                    .toList();
+
+            if (symbolsToSave.isEmpty()) {
+                return false;
+            }
+            log.info("Saving {} new CoinSymbols to the database.", symbolsToSave.size());
+            coinSymbolRepository.saveAll(symbolsToSave);
+            return true;
+        });
+        coinSymbolRegistry.refresh(); // 저장된 심볼로 레지스트리 갱신
+        return Boolean.TRUE.equals(saved);
+    }
+
+    // 2. Coin 정보 가져와서 저장 (이미 코인이 있으면 건너뜀, 정리 후 남는 ID가 고정이라 다시 받으면 안 됨)
+    private boolean loadCoins(LoadSource source) {
+        if (coinRepository.count() > 0) {
+            return false;
+        }
+
+        // 업비트에서 KRW로 거래되는 코인 목록 조회 (트랜잭션 밖, 스냅샷이 있으면 스냅샷)
+        List<Market> coinsByUpbit = source.markets();
+
+        transactionTemplate.executeWithoutResult(status -> {
+            Map<String, CoinSymbol> coinSymbolMap = coinSymbolRepository.findAll().stream()
+                    .collect(Collectors.toMap(CoinSymbol::getCode, Function.identity()));
+
+            List<Coin> coinsToSave = coinsByUpbit.stream()
+                    .map(market -> toCoin(market, coinSymbolMap))
+                    .filter(Objects::nonNull)
+                    .toList();
+
+            coinRepository.saveAll(coinsToSave);
+            log.info("Saved {} coins.", coinsToSave.size());
+
+            // 이미지 꺠지는 ID들로 삭제
+            coinRepository.deleteCoinsByIdNotIn(IDS_TO_KEEP);
             log.info("Deleted coins with specified IDs.");
+            coinRepository.updateCoinDisplaySettings();
+            log.info("Updated coin display settings.");
+        });
+        return true;
+    }
+
+    private Coin toCoin(Market market, Map<String, CoinSymbol> coinSymbolMap) {
+        CoinSymbolEnum coinSymbolEnum = CoinSymbolEnum.fromMarket(market.getMarket());
+        // CoinSymbol Map에서 가져오기
+        CoinSymbol coinSymbol = coinSymbolMap.get(coinSymbolEnum.getCode());
+        if (coinSymbol == null) {
+            log.error("Critical error: Managed CoinSymbol not found in prepared map for code: {}. Skipping coin: {}", coinSymbolEnum.getCode(), market.getMarket());
+            return null;
         }
-        coinRepository.updateCoinDisplaySettings();
-        log.info("Updated coin display settings.");
-        /*
-         * 차트 데이터 가져오는 작업(원래는 저장되는 코인에 대한 차트를 모두 저장해야 함)
-         * 하지만 batch 사용 안하고, MVP 개발이므로 인기 코인 임의 5개 선정
-         * 원래는 모든 코인에 대한 차트 데이터 가져와야 함
-         * 모든 코인에 대한 차트 데이터 가져와서 저장하는 건 지금 필요 없고, 양이 너무 많음
-         */
-        log.info("Fetching and saving charts for popular coins (Optimized)...");
-        List<String> popularCoinCodes = Arrays.asList("KRW-BTC", "KRW-ETH", "KRW-DOGE", "KRW-XRP", "KRW-ADA");
+        boolean isDisplayed = !HIDDEN_KEYS.contains(coinSymbolEnum.getCode()); // 숨길 코인 확인
+
+        return Coin.builder()
+                .koreanName(market.getKoreanName())
+                .englishName(market.getEnglishName())
+                .code(market.getMarket())
+                .coinSymbol(coinSymbol)
+                .isDisplayed(false)
+                .build();
+    }
 
+    // 3. 인기 코인 차트 저장 (차트가 이미 있는 코인은 건너뜀, 실패하면 남은 코인만 재시도)
+    private boolean loadCharts(LoadSource source) {
         // 필요한 Coin 엔티티들을 한 번에 조회 (Map<"KRW-BTC", Coin객체>)
-        Map<String, Coin> popularCoinMap = coinRepository.findByCodeIn(popularCoinCodes).stream()
+        Map<String, Coin> popularCoinMap = coinRepository.findByCodeIn(POPULAR_COIN_CODES).stream()
                 .collect(Collectors.toMap(Coin::getCode, Function.identity()));
 
-        for (String coinCode : popularCoinCodes) {
+        boolean worked = false;
+        for (String coinCode : POPULAR_COIN_CODES) {
             Coin coin = popularCoinMap.get(coinCode);
             if (coin == null) {
                 log.warn("Coin not found in database for code: {}. Skipping chart data.", coinCode);
                 continue;
             }
+            if (chartRepository.existsByCoinId(coin.getId())) {
+                continue;
+            }
 
-            List<Candle> candles = upbitService.getCharts(coinCode);
+            List<Candle> candles = source.candles(coinCode);
             if (candles == null || candles.isEmpty()) {
                 log.info("No chart data found or failed to fetch for {}", coinCode);
                 continue;
             }
 
             List<Chart> chartsToSave = candles.stream()
-                    .map(candle -> Chart.builder()
-                            .date(candle.getCandleDateTime())
-                            .openingPrice(candle.getOpeningPrice())
-                            .highPrice(candle.getHighPrice())
-                            .lowPrice(candle.getLowPrice())
-                            .tradePrice(candle.getTradePrice())
-                            .changeRate(candle.getChangeRate())
-                            .changePrice(candle.getChangePrice())
-                            .coin(coin) // **미리 조회한 Coin 엔티티 사용**
-                            .build())
+                    .map(candle -> toChart(candle, coin)) // **미리 조회한 Coin 엔티티 사용**
                     .toList();
 
-            chartRepository.saveAll(chartsToSave);
+            transactionTemplate.executeWithoutResult(status -> chartRepository.saveAll(chartsToSave));
             log.info("Saved {} chart entries for {}", chartsToSave.size(), coinCode);
+            worked = true;
+        }
+        return worked;
+    }
+
+    // 업비트와 동기화: 스냅샷 이후 생긴 일봉 추가, 최신 데이터로 스냅샷 다시 쓰기 (실패해도 서비스는 계속)
+    private void reconcile() {
+        long start = System.nanoTime();
+        try {
+            List<Market> markets = upbitService.getCoinsFromUpbit();
+            Map<String, Coin> popularCoinMap = coinRepository.findByCodeIn(POPULAR_COIN_CODES).stream()
+                    .collect(Collectors.toMap(Coin::getCode, Function.identity()));
+
+            Map<String, List<Candle>> candlesByCode = new LinkedHashMap<>();
+            int inserted = 0;
+            for (String coinCode : POPULAR_COIN_CODES) {
+                List<Candle> candles = upbitService.getCharts(coinCode);
+                Coin coin = popularCoinMap.get(coinCode);
+                if (candles == null || coin == null) {
+                    continue;
+                }
+                candlesByCode.put(coinCode, candles);
+
+                String latestDate = chartRepository.findLatestDate(coin.getId()).orElse("");
+                List<Chart> newer = candles.stream()
+                        .filter(candle -> candle.getCandleDateTime().compareTo(latestDate) > 0)
+                        .map(candle -> toChart(candle, coin))
+                        .toList();
+                if (!newer.isEmpty()) {
+                    transactionTemplate.executeWithoutResult(status -> chartRepository.saveAll(newer));
+                    inserted += newer.size();
+                }
+            }
+
+            snapshotStore.write(new MarketSnapshot(System.currentTimeMillis(), markets, candlesByCode));
+            recordReconcile(start, "success");
+            log.info("Reconciled with Upbit: {} new chart entries.", inserted);
+        } catch (RuntimeException e) {
+            recordReconcile(start, "failure");
+            log.warn("업비트 동기화 실패, 다음 기동 시 다시 시도합니다.", e);
         }
+    }
 
-        long endTime = System.currentTimeMillis();
-        log.info("Initial data load 경과시간 >>> {} ms.", (endTime - startTime));
+    private void recordReconcile(long startNanos, String result) {
+        meterRegistry.timer("init.reconcile", "result", result)
+                .record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
     }
 
-    private Map<String, CoinSymbol> prepareCoinSymbols(){
-        // 1. DB에서 현재 모든 CoinSymbol 조회
-        Map<String, CoinSymbol> existingSymbols = coinSymbolRepository.findAll().stream()
-                    .collect(Collectors.toMap(CoinSymbol::getCode, Function.identity()));
+    private static Chart toChart(Candle candle, Coin coin) {
+        return Chart.builder()
+                .date(candle.getCandleDateTime())
+                .openingPrice(candle.getOpeningPrice())
+                .highPrice(candle.getHighPrice())
+                .lowPrice(candle.getLowPrice())
+                .tradePrice(candle.getTradePrice())
+                .changeRate(candle.getChangeRate())
+                .changePrice(candle.getChangePrice())
+                .coin(coin)
+                .build();
+    }
 
-        // 2. CoinSymbolEnum 순회하며 DB에 없는거 찾아내기
-        List<CoinSymbol> symbolsToSave = Arrays.stream(CoinSymbolEnum.values())
-                .filter(enumVal -> !existingSymbols.containsKey(enumVal.getCode())) // DB에 없는 값들만 필터링
-                .map(CoinSymbolEnum::toCoinSymbol) // 새 CoinSymbol 객체 생성
-                .toList();
+    /**
+     * 적재 데이터 출처: 스냅샷에 있으면 스냅샷, 없으면 업비트 (업비트에서 받은 것은 새 스냅샷용으로 보관)
+     * initDataLoadExecutor 한 스레드에서만 사용
+     */
+    private final class LoadSource {
 
-        // 3. 새로 생성해야 할 CoinSymbol 저장
-        if(!symbolsToSave.isEmpty()){
-            log.info("Saving {} new CoinSymbols to the database.", symbolsToSave.size());
-            coinSymbolRepository.saveAll(symbolsToSave);
+        private final MarketSnapshot snapshot;
+        private boolean usedSnapshot;
+        private List<Market> fetchedMarkets;
+        private final Map<String, List<Candle>> fetchedCandles = new LinkedHashMap<>();
 
-            symbolsToSave.forEach(savedSymbol -> existingSymbols.put(savedSymbol.getCode(), savedSymbol));
+        private LoadSource(MarketSnapshot snapshot) {
+            this.snapshot = snapshot;
         }
 
-        log.info("Prepared {} CoinSymbols in total.", existingSymbols.size());
-        // Map 결과 반환하기
-        return existingSymbols;
+        List<Market> markets() {
+            if (snapshot != null && !snapshot.markets().isEmpty()) {
+                usedSnapshot = true;
+                return snapshot.markets();
+            }
+            fetchedMarkets = upbitService.getCoinsFromUpbit();
+            return fetchedMarkets;
+        }
+
+        List<Candle> candles(String coinCode) {
+            if (snapshot != null && snapshot.candles().containsKey(coinCode)) {
+                usedSnapshot = true;
+                return snapshot.candles().get(coinCode);
+            }
+            List<Candle> candles = upbitService.getCharts(coinCode);
+            fetchedCandles.put(coinCode, candles);
+            return candles;
+        }
+
+        // 이번 적재에서 업비트로 모든 데이터를 받았는지 (그대로 스냅샷으로 쓸 수 있는지)
+        boolean isFetchedComplete() {
+            return !usedSnapshot && fetchedMarkets != null
+                    && fetchedCandles.keySet().containsAll(POPULAR_COIN_CODES);
+        }
+
+        MarketSnapshot toSnapshot() {
+            return new MarketSnapshot(System.currentTimeMillis(), fetchedMarkets, fetchedCandles);
+        }
     }
 }
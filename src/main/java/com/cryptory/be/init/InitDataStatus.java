@@ -0,0 +1,47 @@
+package com.cryptory.be.init;
+
+import org.springframework.stereotype.Component;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * 초기 데이터 적재 단계별 상태 (InitDataLoad가 갱신, InitDataHealthIndicator가 조회)
+ */
+@Component
+public class InitDataStatus {
+
+    public enum State {
+        PENDING, RUNNING, DONE, SKIPPED, FAILED
+    }
+
+    /**
+     * @param durationMs 마지막 시도 소요 시간
+     * @param error      마지막 실패 사유 (성공하면 null)
+     */
+    public record PhaseStatus(State state, int attempts, long durationMs, String error) {
+    }
+
+    private final Map<InitPhase, PhaseStatus> phases = new EnumMap<>(InitPhase.class);
+
+    public InitDataStatus() {
+        for (InitPhase phase : InitPhase.values()) {
+            phases.put(phase, new PhaseStatus(State.PENDING, 0, 0, null));
+        }
+    }
+
+    public synchronized void update(InitPhase phase, State state, int attempts, long durationMs, String error) {
+        phases.put(phase, new PhaseStatus(state, attempts, durationMs, error));
+    }
+
+    // 모든 단계가 끝났으면(이미 데이터가 있어 건너뛴 경우 포함) true
+    public synchronized boolean isReady() {
+        return phases.values().stream()
+                .allMatch(status -> status.state() == State.DONE || status.state() == State.SKIPPED);
+    }
+
+    public synchronized Map<InitPhase, PhaseStatus> snapshot() {
+        return Collections.unmodifiableMap(new EnumMap<>(phases));
+    }
+}
@@ -0,0 +1,8 @@
+package com.cryptory.be.init;
+
+// 초기 데이터 적재 단계 (선언 순서대로 실행, 앞 단계가 끝나야 다음 단계)
+public enum InitPhase {
+    COIN_SYMBOLS,   // CoinSymbolEnum -> coin_symbols
+    COINS,          // 업비트 KRW 마켓 -> coins
+    CHARTS          // 인기 코인 일봉 -> charts
+}
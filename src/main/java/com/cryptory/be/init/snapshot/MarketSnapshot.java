@@ -0,0 +1,16 @@
+package com.cryptory.be.init.snapshot;
+
+import com.cryptory.be.openapi.dto.Candle;
+import com.cryptory.be.openapi.dto.Market;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 업비트에서 받은 초기 데이터 스냅샷
+ * @param createdAt 기록 시각 (epoch millis)
+ * @param markets   KRW 마켓 목록 (업비트 응답 순서 그대로, 코인 ID가 이 순서로 정해짐)
+ * @param candles   마켓 코드별 일봉 (업비트 응답 순서 그대로)
+ */
+public record MarketSnapshot(long createdAt, List<Market> markets, Map<String, List<Candle>> candles) {
+}
@@ -0,0 +1,226 @@
+package com.cryptory.be.init.snapshot;
+
+import com.cryptory.be.openapi.dto.Candle;
+import com.cryptory.be.openapi.dto.Market;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.CRC32;
+
+/**
+ * MarketSnapshot 바이너리 형식 (big-endian)
+ * <pre>
+ * header (32 bytes)
+ *   int   magic        "CRYS"
+ *   short version      1
+ *   short reserved     0
+ *   long  createdAt    epoch millis
+ *   int   bodyLength
+ *   int   bodyCrc32
+ *   int   marketCount
+ *   int   seriesCount
+ * body
+ *   market  x marketCount : str market, str koreanName, str englishName
+ *   series  x seriesCount : str market, int candleCount,
+ *                           candle x candleCount : long candleDateTime(epoch seconds, UTC),
+ *                                                  double open, high, low, trade, changeRate, changePrice
+ *   str = unsigned short 길이 + UTF-8 바이트
+ * </pre>
+ * 읽기는 파일을 메모리 매핑한 버퍼에서 바로 CRC 검증 후 해석 (버전/길이/CRC가 맞지 않으면 IOException)
+ */
+public final class MarketSnapshotCodec {
+
+    static final int MAGIC = 0x43525953; // "CRYS"
+    static final short VERSION = 1;
+    static final int HEADER_SIZE = 32;
+    static final int CANDLE_SIZE = Long.BYTES + 6 * Double.BYTES;
+
+    // 업비트 candle_date_time_utc 형식 (LocalDateTime.toString()은 초가 0이면 생략하므로 직접 지정)
+    private static final DateTimeFormatter CANDLE_DATE_TIME = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss");
+
+    private MarketSnapshotCodec() {
+    }
+
+    // 임시 파일에 쓴 뒤 교체 (읽는 쪽이 쓰다 만 파일을 보지 않도록)
+    public static void write(MarketSnapshot snapshot, Path path) throws IOException {
+        ByteBuffer body = encodeBody(snapshot);
+        CRC32 crc = new CRC32();
+        crc.update(body.duplicate());
+
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE)
+                .putInt(MAGIC)
+                .putShort(VERSION)
+                .putShort((short) 0)
+                .putLong(snapshot.createdAt())
+                .putInt(body.remaining())
+                .putInt((int) crc.getValue())
+                .putInt(snapshot.markets().size())
+                .putInt(snapshot.candles().size())
+                .flip();
+
+        Path parent = path.toAbsolutePath().getParent();
+        Files.createDirectories(parent);
+        Path temp = Files.createTempFile(parent, path.getFileName().toString(), ".tmp");
+        try {
+            try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+                while (header.hasRemaining()) {
+                    channel.write(header);
+                }
+                while (body.hasRemaining()) {
+                    channel.write(body);
+                }
+                channel.force(true);
+            }
+            Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    public static MarketSnapshot read(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size < HEADER_SIZE || size > Integer.MAX_VALUE) {
+                throw new IOException("스냅샷 크기가 올바르지 않습니다: " + size);
+            }
+            return decode(channel.map(FileChannel.MapMode.READ_ONLY, 0, size));
+        }
+    }
+
+    static MarketSnapshot decode(ByteBuffer buffer) throws IOException {
+        if (buffer.getInt() != MAGIC) {
+            throw new IOException("스냅샷 파일이 아닙니다.");
+        }
+        short version = buffer.getShort();
+        if (version != VERSION) {
+            throw new IOException("지원하지 않는 스냅샷 버전: " + version);
+        }
+        buffer.getShort(); // reserved
+        long createdAt = buffer.getLong();
+        int bodyLength = buffer.getInt();
+        int expectedCrc = buffer.getInt();
+        int marketCount = buffer.getInt();
+        int seriesCount = buffer.getInt();
+        if (bodyLength != buffer.remaining()) {
+            throw new IOException("스냅샷 길이가 맞지 않습니다.");
+        }
+
+        CRC32 crc = new CRC32();
+        crc.update(buffer.duplicate());
+        if ((int) crc.getValue() != expectedCrc) {
+            throw new IOException("스냅샷 CRC가 맞지 않습니다.");
+        }
+
+        try {
+            List<Market> markets = new ArrayList<>(marketCount);
+            for (int i = 0; i < marketCount; i++) {
+                Market market = new Market();
+                market.setMarket(getString(buffer));
+                market.setKoreanName(getString(buffer));
+                market.setEnglishName(getString(buffer));
+                markets.add(market);
+            }
+
+            Map<String, List<Candle>> candles = new LinkedHashMap<>();
+            for (int i = 0; i < seriesCount; i++) {
+                String market = getString(buffer);
+                int candleCount = buffer.getInt();
+                List<Candle> series = new ArrayList<>(candleCount);
+                for (int j = 0; j < candleCount; j++) {
+                    Candle candle = new Candle();
+                    candle.setMarket(market);
+                    candle.setCandleDateTime(CANDLE_DATE_TIME.format(
+                            LocalDateTime.ofEpochSecond(buffer.getLong(), 0, ZoneOffset.UTC)));
+                    candle.setOpeningPrice(buffer.getDouble());
+                    candle.setHighPrice(buffer.getDouble());
+                    candle.setLowPrice(buffer.getDouble());
+                    candle.setTradePrice(buffer.getDouble());
+                    candle.setChangeRate(buffer.getDouble());
+                    candle.setChangePrice(buffer.getDouble());
+                    series.add(candle);
+                }
+                candles.put(market, series);
+            }
+            return new MarketSnapshot(createdAt, markets, candles);
+        } catch (RuntimeException e) {
+            // CRC는 맞지만 내용이 형식과 다른 경우 (BufferUnderflowException 등)
+            throw new IOException("스냅샷 내용을 해석할 수 없습니다.", e);
+        }
+    }
+
+    private static ByteBuffer encodeBody(MarketSnapshot snapshot) throws IOException {
+        List<byte[]> strings = new ArrayList<>();
+        int size = 0;
+        for (Market market : snapshot.markets()) {
+            size += addString(strings, market.getMarket());
+            size += addString(strings, market.getKoreanName());
+            size += addString(strings, market.getEnglishName());
+        }
+        for (Map.Entry<String, List<Candle>> series : snapshot.candles().entrySet()) {
+            size += addString(strings, series.getKey()) + Integer.BYTES + series.getValue().size() * CANDLE_SIZE;
+        }
+
+        ByteBuffer body = ByteBuffer.allocate(size);
+        int next = 0;
+        for (int i = 0; i < snapshot.markets().size(); i++) {
+            putString(body, strings.get(next++));
+            putString(body, strings.get(next++));
+            putString(body, strings.get(next++));
+        }
+        for (List<Candle> series : snapshot.candles().values()) {
+            putString(body, strings.get(next++));
+            body.putInt(series.size());
+            for (Candle candle : series) {
+                body.putLong(epochSecond(candle.getCandleDateTime()))
+                        .putDouble(candle.getOpeningPrice())
+                        .putDouble(candle.getHighPrice())
+                        .putDouble(candle.getLowPrice())
+                        .putDouble(candle.getTradePrice())
+                        .putDouble(candle.getChangeRate())
+                        .putDouble(candle.getChangePrice());
+            }
+        }
+        return body.flip();
+    }
+
+    private static int addString(List<byte[]> strings, String value) throws IOException {
+        byte[] bytes = (value == null ? "" : value).getBytes(StandardCharsets.UTF_8);
+        if (bytes.length > 0xFFFF) {
+            throw new IOException("문자열이 너무 깁니다.");
+        }
+        strings.add(bytes);
+        return Short.BYTES + bytes.length;
+    }
+
+    private static void putString(ByteBuffer buffer, byte[] bytes) {
+        buffer.putShort((short) bytes.length).put(bytes);
+    }
+
+    private static String getString(ByteBuffer buffer) {
+        byte[] bytes = new byte[Short.toUnsignedInt(buffer.getShort())];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static long epochSecond(String candleDateTime) throws IOException {
+        try {
+            return LocalDateTime.parse(candleDateTime).toEpochSecond(ZoneOffset.UTC);
+        } catch (DateTimeParseException | NullPointerException e) {
+            throw new IOException("캔들 시각 형식이 올바르지 않습니다: " + candleDateTime, e);
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.cryptory.be.init.snapshot;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 초기 데이터 스냅샷 파일 읽기/쓰기 (init.snapshot.path, ECS에서는 태스크 간 공유되는 볼륨 경로 지정)
+ * 파일이 없거나 깨졌으면 empty (업비트에서 다시 받음)
+ */
+@Slf4j
+@Component
+public class MarketSnapshotStore {
+
+    private final boolean enabled;
+    private final Path path;
+    private final MeterRegistry meterRegistry;
+    private final Timer readTimer;
+    private final Timer writeTimer;
+
+    public MarketSnapshotStore(@Value("${init.snapshot.enabled:true}") boolean enabled,
+                               @Value("${init.snapshot.path:${java.io.tmpdir}/cryptory/market-snapshot.bin}") String path,
+                               MeterRegistry meterRegistry) {
+        this.enabled = enabled;
+        this.path = Path.of(path);
+        this.meterRegistry = meterRegistry;
+        this.readTimer = meterRegistry.timer("init.snapshot.read");
+        this.writeTimer = meterRegistry.timer("init.snapshot.write");
+    }
+
+    public Optional<MarketSnapshot> read() {
+        if (!enabled || !Files.exists(path)) {
+            return Optional.empty();
+        }
+        long start = System.nanoTime();
+        try {
+            MarketSnapshot snapshot = MarketSnapshotCodec.read(path);
+            readTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            log.info("Loaded market snapshot ({} markets, {} candle series) from {}",
+                    snapshot.markets().size(), snapshot.candles().size(), path);
+            return Optional.of(snapshot);
+        } catch (IOException e) {
+            meterRegistry.counter("init.snapshot.invalid").increment();
+            log.warn("스냅샷을 읽을 수 없어 업비트에서 다시 받습니다. ({}: {})", path, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    public void write(MarketSnapshot snapshot) {
+        if (!enabled) {
+            return;
+        }
+        long start = System.nanoTime();
+        try {
+            MarketSnapshotCodec.write(snapshot, path);
+            writeTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            log.info("Wrote market snapshot to {}", path);
+        } catch (IOException e) {
+            // 스냅샷은 기동 속도용이라 실패해도 서비스에는 영향 없음
+            log.warn("스냅샷 저장 실패 ({}): {}", path, e.getMessage());
+        }
+    }
+}
@@ -1,9 +1,13 @@
 package com.cryptory.be.issue.controller;
 
 import com.cryptory.be.global.response.ApiResponse;
+import com.cryptory.be.issue.dto.CreateIssueCommentDto;
+import com.cryptory.be.issue.dto.IssueCommentDto;
 import com.cryptory.be.issue.dto.IssueDetailDto;
+import com.cryptory.be.issue.dto.TrendingIssueDto;
 import com.cryptory.be.issue.dto.feign.FeignIssueDetailResponseDto;
 import com.cryptory.be.issue.dto.feign.FeignIssueCreateRequestDto;
+import com.cryptory.be.issue.dto.feign.FeignIssueDeleteResponseDto;
 import com.cryptory.be.issue.dto.feign.FeignIssueListResponseDto;
 import com.cryptory.be.issue.dto.feign.FeignIssueUpdateRequestDto;
 import jakarta.validation.Valid;
@@ -18,8 +22,10 @@ import org.springframework.data.domain.Page;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 
+import com.cryptory.be.issue.service.IssueCommentService;
 import com.cryptory.be.issue.service.IssueService;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
@@ -31,15 +37,65 @@ import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 public class IssueController {
 
 	private final IssueService issueService;
+	private final IssueCommentService issueCommentService;
 
 	// --- 일반 사용자용 엔드포인트 ---
+	// updatedAt이 같으면 304 (조회수는 그대로 집계)
 	@GetMapping("/coins/{coinId}/issues/{issueId}")
 	public ApiResponse<IssueDetailDto> getPublicIssueDetail(@PathVariable("coinId") Long coinId,
-															@PathVariable("issueId") Long issueId) {
+															@PathVariable("issueId") Long issueId,
+															WebRequest webRequest) {
+		if (issueService.getIssueDetailVersion(coinId, issueId).checkNotModified(webRequest)) {
+			issueService.recordView(issueId);
+			return null; // 304
+		}
 		IssueDetailDto issueDetail = issueService.getIssueDetail(coinId, issueId);
 		return new ApiResponse<>(HttpStatus.OK, issueDetail);
 	}
 
+	// 인기 이슈 (몇 초마다 갱신되는 조회 점수 기준)
+	@GetMapping("/issues/trending")
+	public ApiResponse<TrendingIssueDto> getTrendingIssues(@RequestParam(value = "limit", defaultValue = "10") int limit) {
+		List<TrendingIssueDto> trendingIssues = issueService.getTrendingIssues(limit);
+		return new ApiResponse<>(HttpStatus.OK, trendingIssues);
+	}
+
+	// 이슈 코멘트 목록 (최신순, metadata.nextCursor를 cursor로 넘기면 다음 페이지)
+	@GetMapping("/coins/{coinId}/issues/{issueId}/comments")
+	public ApiResponse<IssueCommentDto> getIssueComments(@PathVariable("coinId") Long coinId,
+														 @PathVariable("issueId") Long issueId,
+														 @RequestParam(value = "cursor", required = false) String cursor,
+														 @RequestParam(value = "size", defaultValue = "20") int size) {
+		IssueCommentService.CommentPage comments = issueCommentService.getComments(coinId, issueId, cursor, size);
+		return new ApiResponse<>(HttpStatus.OK, comments.page(), comments.totalCount());
+	}
+
+	@PostMapping("/coins/{coinId}/issues/{issueId}/comments")
+	public ApiResponse<IssueCommentDto> createIssueComment(@PathVariable("coinId") Long coinId,
+														   @PathVariable("issueId") Long issueId,
+														   @RequestHeader("X-User-Id") Long userId,
+														   @Valid @RequestBody CreateIssueCommentDto requestDto) {
+		IssueCommentDto comment = issueCommentService.createComment(coinId, issueId, userId, requestDto);
+		return new ApiResponse<>(HttpStatus.CREATED, comment);
+	}
+
+	@DeleteMapping("/coins/{coinId}/issues/{issueId}/comments/{commentId}")
+	public ApiResponse<Void> deleteIssueComment(@PathVariable("coinId") Long coinId,
+												@PathVariable("issueId") Long issueId,
+												@PathVariable("commentId") Long commentId,
+												@RequestHeader("X-User-Id") Long userId) {
+		issueCommentService.deleteComment(coinId, issueId, commentId, userId);
+		return new ApiResponse<>(HttpStatus.OK);
+	}
+
+	// 이슈 AI 생성 요청 (요청 횟수 집계)
+	@PostMapping("/coins/{coinId}/issues/{issueId}/requests")
+	public ResponseEntity<ApiResponse<Void>> requestIssueGeneration(@PathVariable("coinId") Long coinId,
+																	@PathVariable("issueId") Long issueId) {
+		issueService.requestGeneration(coinId, issueId);
+		return ResponseEntity.status(HttpStatus.ACCEPTED).body(new ApiResponse<>(HttpStatus.ACCEPTED));
+	}
+
 	// --- 관리자용 엔드포인트 ---
 
 	@GetMapping("/admin/coins/{coinId}/issues")
@@ -107,14 +163,15 @@ public class IssueController {
 		}
 	}
 
+	// 200 + 삭제 결과(삭제된 수, 없는 ID), 반환 타입이 void인 기존 Feign 호출부도 2xx라 그대로 동작
 	@DeleteMapping("/admin/issues")
-	public ResponseEntity<Void> deleteAdminIssues(@RequestParam("ids") List<Long> ids) {
+	public ResponseEntity<FeignIssueDeleteResponseDto> deleteAdminIssues(@RequestParam("ids") List<Long> ids) {
 		try {
 			if (ids == null || ids.isEmpty()) {
 				return ResponseEntity.badRequest().build();
 			}
-			issueService.deleteIssues(ids);
-			return ResponseEntity.noContent().build();
+			FeignIssueDeleteResponseDto result = issueService.deleteIssues(ids);
+			return ResponseEntity.ok(result);
 		} catch (Exception e) {
 			log.error("관리자 이슈 삭제 오류 (IDs: {}): {}", ids, e.getMessage(), e);
 			return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
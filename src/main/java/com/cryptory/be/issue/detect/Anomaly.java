@@ -0,0 +1,12 @@
+package com.cryptory.be.issue.detect;
+
+// 이상 변동 감지 결과 (어느 차트에서 왜 걸렸는지)
+public record Anomaly(Long chartId, Kind kind, double changeRate, double rangeRatio,
+                      double changeZScore, double rangeZScore) {
+
+    public enum Kind {
+        SURGE,      // 급등
+        PLUNGE,     // 급락
+        VOLATILITY  // 종가 변동은 작지만 장중 변동폭이 큼
+    }
+}
@@ -0,0 +1,92 @@
+package com.cryptory.be.issue.detect;
+
+/**
+ * 코인 하나의 일봉을 날짜순으로 받아 이상 변동을 찾는다. (캔들 하나당 O(1), 상태는 이 객체에만)
+ * - 변화율 z-score: 최근 window일 변화율 평균/표준편차 기준
+ * - 장중 변동폭((고가 - 저가) / 전일 종가) z-score: 같은 방식
+ * - 변동성 보정 하한: 장기 변동성(EWMA)에 비례하는 최소 변화율을 넘어야 한다.
+ *   조용한 구간에서 평소 수준의 움직임이 z-score만 커져 걸리는 것을 막고, 원래 변동이 큰 코인은 더 큰 움직임을 요구한다.
+ * 한 번 감지하면 cooldown일 동안은 다시 감지하지 않는다.
+ * 단일 스레드 전용
+ */
+public class ChartAnomalyDetector {
+
+    private final Settings settings;
+    private final RollingWindow changes;
+    private final RollingWindow ranges;
+
+    private double longVariance = -1; // 아직 값 없음
+    private int cooldownLeft;
+
+    public ChartAnomalyDetector(Settings settings) {
+        this.settings = settings;
+        this.changes = new RollingWindow(settings.window());
+        this.ranges = new RollingWindow(settings.window());
+    }
+
+    private ChartAnomalyDetector(ChartAnomalyDetector source) {
+        this.settings = source.settings;
+        this.changes = source.changes.copy();
+        this.ranges = source.ranges.copy();
+        this.longVariance = source.longVariance;
+        this.cooldownLeft = source.cooldownLeft;
+    }
+
+    // 같은 상태의 독립된 복사본 (복사본에 반영해도 원래 상태는 그대로)
+    public ChartAnomalyDetector copy() {
+        return new ChartAnomalyDetector(this);
+    }
+
+    /**
+     * 다음 일봉 반영
+     * @return 이상 변동이면 Anomaly, 아니면 null
+     */
+    public Anomaly accept(Long chartId, double changeRate, double highPrice, double lowPrice, double tradePrice) {
+        double previousClose = tradePrice / (1 + changeRate);
+        double rangeRatio = previousClose > 0 ? (highPrice - lowPrice) / previousClose : 0;
+
+        Anomaly anomaly = null;
+        if (changes.isFull() && cooldownLeft == 0) {
+            double changeZ = changes.zScore(changeRate);
+            double rangeZ = ranges.zScore(rangeRatio);
+            double minChange = Math.max(settings.minChange(), settings.longVolatilityMultiple() * Math.sqrt(longVariance));
+
+            if (Math.abs(changeZ) >= settings.zThreshold() && Math.abs(changeRate) >= minChange) {
+                anomaly = new Anomaly(chartId, changeRate > 0 ? Anomaly.Kind.SURGE : Anomaly.Kind.PLUNGE,
+                        changeRate, rangeRatio, changeZ, rangeZ);
+            } else if (rangeZ >= settings.zThreshold() && rangeRatio >= Math.max(settings.minRange(), 2 * minChange)) {
+                anomaly = new Anomaly(chartId, Anomaly.Kind.VOLATILITY, changeRate, rangeRatio, changeZ, rangeZ);
+            }
+        }
+
+        if (anomaly != null) {
+            cooldownLeft = settings.cooldown();
+        } else if (cooldownLeft > 0) {
+            cooldownLeft--;
+        }
+
+        changes.add(changeRate);
+        ranges.add(rangeRatio);
+        double squared = changeRate * changeRate;
+        longVariance = longVariance < 0 ? squared
+                : settings.longVolatilityDecay() * longVariance + (1 - settings.longVolatilityDecay()) * squared;
+        return anomaly;
+    }
+
+    /**
+     * @param window                 z-score 계산에 쓰는 최근 일수
+     * @param zThreshold             감지 기준 z-score
+     * @param minChange              최소 변화율 (절대값)
+     * @param minRange               장중 변동폭 감지의 최소 변동폭
+     * @param longVolatilityMultiple 최소 변화율 = max(minChange, 장기 변동성 * 이 값)
+     * @param longVolatilityDecay    장기 변동성 EWMA 감쇠 계수 (0.99면 반감기 약 69일)
+     * @param cooldown               감지 후 다시 감지하지 않는 일수
+     */
+    public record Settings(int window, double zThreshold, double minChange, double minRange,
+                           double longVolatilityMultiple, double longVolatilityDecay, int cooldown) {
+
+        public static Settings defaults() {
+            return new Settings(30, 3.0, 0.03, 0.08, 2.0, 0.99, 3);
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package com.cryptory.be.issue.detect;
+
+/**
+ * 최근 size개 값의 평균/표준편차 (링 버퍼 + 합/제곱합, 값 하나당 O(1))
+ * 단일 스레드 전용
+ */
+public class RollingWindow {
+
+    private final double[] values;
+    private int count;
+    private int next;
+    private double sum;
+    private double sumSquares;
+
+    public RollingWindow(int size) {
+        this.values = new double[size];
+    }
+
+    private RollingWindow(RollingWindow source) {
+        this.values = source.values.clone();
+        this.count = source.count;
+        this.next = source.next;
+        this.sum = source.sum;
+        this.sumSquares = source.sumSquares;
+    }
+
+    // 같은 상태의 독립된 복사본
+    public RollingWindow copy() {
+        return new RollingWindow(this);
+    }
+
+    public void add(double value) {
+        if (count == values.length) {
+            double removed = values[next];
+            sum -= removed;
+            sumSquares -= removed * removed;
+        } else {
+            count++;
+        }
+        values[next] = value;
+        next = (next + 1) % values.length;
+        sum += value;
+        sumSquares += value * value;
+    }
+
+    public boolean isFull() {
+        return count == values.length;
+    }
+
+    public double mean() {
+        return count == 0 ? 0 : sum / count;
+    }
+
+    // 표본 표준편차
+    public double std() {
+        if (count < 2) {
+            return 0;
+        }
+        double variance = (sumSquares - sum * sum / count) / (count - 1);
+        return variance > 0 ? Math.sqrt(variance) : 0;
+    }
+
+    // 값이 평균에서 표준편차 몇 배만큼 떨어져 있는지 (표준편차가 0이면 0)
+    public double zScore(double value) {
+        double std = std();
+        return std == 0 ? 0 : (value - mean()) / std;
+    }
+}
@@ -8,12 +8,15 @@ import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.DynamicUpdate;
 
 import java.time.LocalDate;
 
+// 카운터 컬럼은 SQL UPDATE(+delta)로만 증감하므로 엔티티 수정 시에는 바뀐 컬럼만 UPDATE
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Entity
+@DynamicUpdate
 @Table(name = "issues")
 public class Issue extends BaseTimeEntity {
 
@@ -40,9 +43,18 @@ public class Issue extends BaseTimeEntity {
     // 이슈 생성 타입
     private String type;
 
-    // AI 생성 요청 횟수
+    // AI 생성 요청 횟수 (IssueRequestCounter가 주기적으로 반영)
+    @Column(updatable = false)
     private Long requestCount;
 
+    // 조회수 (IssueViewTracker가 주기적으로 반영)
+    @Column(updatable = false)
+    private Long viewCount = 0L;
+
+    // 삭제되지 않은 코멘트 수 (코멘트 작성/삭제 시 IssueRepository.addCommentCount로 증감)
+    @Column(updatable = false)
+    private Long commentCount = 0L;
+
     // 삭제 여부
     private boolean isDeleted = false;
 
@@ -8,6 +8,7 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToOne;
@@ -20,7 +21,9 @@ import lombok.NoArgsConstructor;
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Entity
-@Table(name = "issue_comments")
+@Table(name = "issue_comments",
+        // 이슈별 코멘트 목록 (삭제 제외, 작성 시각 역순 keyset 조회)
+        indexes = @Index(name = "idx_issue_comments_issue_deleted_created", columnList = "issue_id, is_deleted, created_at"))
 public class IssueComment extends BaseTimeEntity {
 
 	@Id
@@ -0,0 +1,38 @@
+package com.cryptory.be.issue.domain;
+
+import com.cryptory.be.global.entity.BaseTimeEntity;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 코인별 이상 변동 감지 진행 위치
+ * 이 날짜까지의 일봉은 감지를 마쳤으므로, 서버를 다시 띄우면 여기까지는 감지기 상태만 채우고 이후 일봉부터 이슈 후보를 만든다.
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Entity
+@Table(name = "issue_detect_watermarks")
+public class IssueDetectWatermark extends BaseTimeEntity {
+
+    @Id
+    @Column(name = "coin_id")
+    private Long coinId;
+
+    // 마지막으로 감지한 차트 날짜 (Chart.date와 같은 "yyyy-MM-ddTHH:mm:ss" 형식)
+    @Column(name = "last_chart_date", nullable = false, length = 30)
+    private String lastChartDate;
+
+    public IssueDetectWatermark(Long coinId, String lastChartDate) {
+        this.coinId = coinId;
+        this.lastChartDate = lastChartDate;
+    }
+
+    public void advance(String lastChartDate) {
+        this.lastChartDate = lastChartDate;
+    }
+}
@@ -0,0 +1,63 @@
+package com.cryptory.be.issue.domain;
+
+import com.cryptory.be.global.entity.BaseTimeEntity;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 이슈 AI 생성 작업
+ * (coin_id, chart_id)당 한 행, 상태 변경은 IssueGenerationJobRepository의 조건부 UPDATE로만 한다.
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Entity
+@Table(name = "issue_generation_jobs",
+        uniqueConstraints = @UniqueConstraint(name = "uk_issue_generation_jobs_coin_chart", columnNames = {"coin_id", "chart_id"}),
+        indexes = @Index(name = "idx_issue_generation_jobs_status_available", columnList = "status, available_at"))
+public class IssueGenerationJob extends BaseTimeEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "coin_id", nullable = false)
+    private Long coinId;
+
+    @Column(name = "chart_id", nullable = false)
+    private Long chartId;
+
+    @Column(nullable = false)
+    private Long issueId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private IssueGenerationJobStatus status;
+
+    // PENDING: 이 시각 이후 가져갈 수 있음, RUNNING: 임대 만료 시각
+    @Column(name = "available_at", nullable = false)
+    private LocalDateTime availableAt;
+
+    // 임대한 워커 (가져갈 때마다 새 값, 완료/실패 처리 시 일치해야 반영)
+    @Column(length = 100)
+    private String leaseOwner;
+
+    // 가져간 횟수
+    private int attempts;
+
+    @Column(length = 500)
+    private String lastError;
+
+    @Builder
+    public IssueGenerationJob(Long coinId, Long chartId, Long issueId, LocalDateTime availableAt) {
+        this.coinId = coinId;
+        this.chartId = chartId;
+        this.issueId = issueId;
+        this.status = IssueGenerationJobStatus.PENDING;
+        this.availableAt = availableAt;
+    }
+}
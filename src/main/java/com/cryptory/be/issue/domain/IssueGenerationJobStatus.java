@@ -0,0 +1,8 @@
+package com.cryptory.be.issue.domain;
+
+public enum IssueGenerationJobStatus {
+    PENDING,    // 대기 (availableAt 이후 가져갈 수 있음)
+    RUNNING,    // 워커가 임대(lease) 중 (availableAt = 임대 만료 시각)
+    DONE,       // 생성 결과 반영 완료
+    FAILED      // 재시도 횟수 초과
+}
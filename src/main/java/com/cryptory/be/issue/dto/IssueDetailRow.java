@@ -0,0 +1,13 @@
+package com.cryptory.be.issue.dto;
+
+import java.time.LocalDateTime;
+
+// 이슈 상세 조회용 프로젝션 (차트/코인 즉시 로딩 없이 필요한 컬럼만, updatedAt은 응답 ETag/Last-Modified용)
+public record IssueDetailRow(Long issueId, Long coinId, Long chartId, boolean deleted,
+                             String title, String content, String newsTitle, String source,
+                             LocalDateTime updatedAt) {
+
+    public IssueDetailDto toDto() {
+        return new IssueDetailDto(title, content, newsTitle, source);
+    }
+}
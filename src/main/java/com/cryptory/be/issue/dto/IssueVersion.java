@@ -0,0 +1,7 @@
+package com.cryptory.be.issue.dto;
+
+import java.time.LocalDateTime;
+
+// 코인 이슈 데이터 버전 (가장 최근 updatedAt + 이슈 수, 삭제도 updatedAt을 갱신하므로 포함)
+public record IssueVersion(LocalDateTime updatedAt, long count) {
+}
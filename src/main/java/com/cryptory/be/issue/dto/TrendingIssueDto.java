@@ -0,0 +1,16 @@
+package com.cryptory.be.issue.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+// 인기 이슈 (score: 시간에 따라 감쇠하는 조회 점수)
+@Getter
+@Builder
+@AllArgsConstructor
+public class TrendingIssueDto {
+    private Long issueId;
+    private Long coinId;
+    private String title;
+    private double score;
+}
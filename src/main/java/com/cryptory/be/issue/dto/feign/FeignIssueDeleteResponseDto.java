@@ -0,0 +1,22 @@
+package com.cryptory.be.issue.dto.feign;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.extern.jackson.Jacksonized;
+
+import java.util.List;
+
+/**
+ * 관리자 이슈 일괄 삭제 결과
+ * affectedCount: 이번 요청으로 삭제 처리된 이슈 수 (이미 삭제된 이슈 제외)
+ * missingIds: 존재하지 않는 이슈 ID
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+@Jacksonized
+public class FeignIssueDeleteResponseDto {
+    private int affectedCount;
+    private List<Long> missingIds;
+}
@@ -11,7 +11,13 @@ public enum IssueErrorCode implements ErrorCode {
 
     NOT_EXIST_ISSUE(HttpStatus.NOT_FOUND, "존재하지 않는 이슈입니다."),
 
-    NOT_EXIST_ISSUE_COMMENT(HttpStatus.NOT_FOUND, "존재하지 않는 코멘트입니다.");
+    NOT_EXIST_ISSUE_COMMENT(HttpStatus.NOT_FOUND, "존재하지 않는 코멘트입니다."),
+
+    FORBIDDEN_ISSUE_COMMENT(HttpStatus.FORBIDDEN, "본인이 작성한 코멘트만 삭제할 수 있습니다."),
+
+    INVALID_COMMENT_CURSOR(HttpStatus.BAD_REQUEST, "올바르지 않은 커서입니다."),
+
+    ISSUE_GENERATION_UNAVAILABLE(HttpStatus.SERVICE_UNAVAILABLE, "이슈 생성 기능을 사용할 수 없습니다.");
 
     private final HttpStatus httpStatus;
     private final String message;
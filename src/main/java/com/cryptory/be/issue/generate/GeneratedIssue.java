@@ -0,0 +1,5 @@
+package com.cryptory.be.issue.generate;
+
+// 생성 결과, null인 필드는 기존 값 유지 (Issue.update와 같은 규칙)
+public record GeneratedIssue(String title, String content, String newsTitle, String source) {
+}
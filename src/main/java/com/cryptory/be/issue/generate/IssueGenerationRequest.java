@@ -0,0 +1,11 @@
+package com.cryptory.be.issue.generate;
+
+import java.time.LocalDate;
+
+// 생성기에 넘기는 이슈/차트 정보
+public record IssueGenerationRequest(Long issueId, Long coinId, Long chartId,
+                                     String coinName, String coinCode, LocalDate date,
+                                     Double openingPrice, Double highPrice, Double lowPrice,
+                                     Double tradePrice, Double changeRate,
+                                     String title, String content) {
+}
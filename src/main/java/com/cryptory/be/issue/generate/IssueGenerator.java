@@ -0,0 +1,10 @@
+package com.cryptory.be.issue.generate;
+
+/**
+ * 이슈 요약 생성기
+ * 워커 스레드에서 호출되므로 오래 걸려도 되지만, 실패하면 예외를 던져 재시도하게 한다.
+ */
+public interface IssueGenerator {
+
+    GeneratedIssue generate(IssueGenerationRequest request);
+}
@@ -0,0 +1,26 @@
+package com.cryptory.be.issue.generate;
+
+/**
+ * 차트 값으로 문장을 만드는 기본 생성기 (외부 호출 없음)
+ * issue.generation.generator=template(기본값)일 때 IssueGenerationConfig에서 등록, 모든 프로필에서 동작
+ * AI 생성기를 붙이면 generator 값을 바꿔 이 생성기 대신 쓴다.
+ */
+public class TemplateIssueGenerator implements IssueGenerator {
+
+    private static final String SOURCE = "자동 생성";
+
+    @Override
+    public GeneratedIssue generate(IssueGenerationRequest request) {
+        double changeRate = request.changeRate() == null ? 0 : request.changeRate();
+        String title = String.format("%s %s %+.2f%%", request.coinName(), request.date(), changeRate * 100);
+        String content = String.format("%s(%s)는 %s 시가 %s, 고가 %s, 저가 %s, 종가 %s로 전일 대비 %+.2f%% 움직였습니다.",
+                request.coinName(), request.coinCode(), request.date(),
+                price(request.openingPrice()), price(request.highPrice()),
+                price(request.lowPrice()), price(request.tradePrice()), changeRate * 100);
+        return new GeneratedIssue(title, content, null, SOURCE);
+    }
+
+    private static String price(Double value) {
+        return value == null ? "-" : String.format("%,.0f", value);
+    }
+}
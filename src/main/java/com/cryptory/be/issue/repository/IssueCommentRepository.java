@@ -1,5 +1,6 @@
 package com.cryptory.be.issue.repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 import com.cryptory.be.issue.domain.Issue;
@@ -20,7 +21,20 @@ public interface IssueCommentRepository extends JpaRepository<IssueComment, Long
 	@Query("SELECT ic FROM IssueComment ic WHERE ic.issue.id = :issueId AND ic.isDeleted = false")
 	Page<IssueComment> findCommentsByIssueId(@Param("issueId") Long issueId, Pageable pageable);
 
+	// 작성 시각 역순 첫 페이지 (count 쿼리 없이 size + 1개 조회로 다음 페이지 여부 판단)
+	@Query("SELECT ic FROM IssueComment ic WHERE ic.issue.id = :issueId AND ic.isDeleted = false "
+			+ "ORDER BY ic.createdAt DESC, ic.id DESC")
+	List<IssueComment> findFirstPage(@Param("issueId") Long issueId, Pageable pageable);
+
+	// (createdAt, id) 커서 다음 페이지
+	@Query("SELECT ic FROM IssueComment ic WHERE ic.issue.id = :issueId AND ic.isDeleted = false "
+			+ "AND (ic.createdAt < :createdAt OR (ic.createdAt = :createdAt AND ic.id < :id)) "
+			+ "ORDER BY ic.createdAt DESC, ic.id DESC")
+	List<IssueComment> findPageAfter(@Param("issueId") Long issueId, @Param("createdAt") LocalDateTime createdAt,
+									 @Param("id") Long id, Pageable pageable);
+
+	// 이미 삭제된 코멘트는 건드리지 않으며, 변경된 행 수를 반환
 	@Modifying
-	@Query("UPDATE IssueComment ic SET ic.isDeleted = true WHERE ic.id = :id")
-	void softDeleteById(@Param("id")Long id);
+	@Query("UPDATE IssueComment ic SET ic.isDeleted = true WHERE ic.id = :id AND ic.isDeleted = false")
+	int softDeleteById(@Param("id")Long id);
 }
@@ -0,0 +1,9 @@
+package com.cryptory.be.issue.repository;
+
+import com.cryptory.be.issue.domain.IssueDetectWatermark;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface IssueDetectWatermarkRepository extends JpaRepository<IssueDetectWatermark, Long> {
+}
@@ -0,0 +1,68 @@
+package com.cryptory.be.issue.repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.cryptory.be.issue.domain.IssueGenerationJob;
+import com.cryptory.be.issue.domain.IssueGenerationJobStatus;
+
+// 상태 변경은 모두 조건부 UPDATE (영향받은 행 수로 성공 여부 판단)
+@Repository
+public interface IssueGenerationJobRepository extends JpaRepository<IssueGenerationJob, Long> {
+
+	Optional<IssueGenerationJob> findByCoinIdAndChartId(Long coinId, Long chartId);
+
+	long countByStatus(IssueGenerationJobStatus status);
+
+	// 가져갈 수 있는 작업 후보 (대기 중이거나 임대가 만료된 작업)
+	@Query("SELECT j.id FROM IssueGenerationJob j WHERE j.status IN :statuses AND j.availableAt <= :now "
+			+ "ORDER BY j.availableAt, j.id")
+	List<Long> findClaimableIds(@Param("statuses") Collection<IssueGenerationJobStatus> statuses,
+								@Param("now") LocalDateTime now, Pageable pageable);
+
+	// 후보 중 아직 가져갈 수 있는 행만 임대 (다른 워커가 먼저 가져간 행은 조건에서 빠짐)
+	@Modifying(flushAutomatically = true, clearAutomatically = true)
+	@Query("UPDATE IssueGenerationJob j SET j.status = :running, j.leaseOwner = :owner, j.availableAt = :leaseUntil, "
+			+ "j.attempts = j.attempts + 1, j.updatedAt = :now "
+			+ "WHERE j.id IN :ids AND j.status IN :statuses AND j.availableAt <= :now")
+	int claim(@Param("ids") Collection<Long> ids,
+			  @Param("statuses") Collection<IssueGenerationJobStatus> statuses,
+			  @Param("running") IssueGenerationJobStatus running,
+			  @Param("owner") String owner,
+			  @Param("now") LocalDateTime now,
+			  @Param("leaseUntil") LocalDateTime leaseUntil);
+
+	List<IssueGenerationJob> findByLeaseOwnerAndStatus(String leaseOwner, IssueGenerationJobStatus status);
+
+	// 임대 중인 작업 종료 (임대를 잃었으면 0)
+	@Modifying(flushAutomatically = true, clearAutomatically = true)
+	@Query("UPDATE IssueGenerationJob j SET j.status = :status, j.leaseOwner = NULL, j.availableAt = :availableAt, "
+			+ "j.lastError = :error, j.updatedAt = :now "
+			+ "WHERE j.id = :id AND j.leaseOwner = :owner AND j.status = :running")
+	int release(@Param("id") Long id,
+				@Param("owner") String owner,
+				@Param("running") IssueGenerationJobStatus running,
+				@Param("status") IssueGenerationJobStatus status,
+				@Param("availableAt") LocalDateTime availableAt,
+				@Param("error") String error,
+				@Param("now") LocalDateTime now);
+
+	// 실패한 작업을 다시 대기 상태로
+	@Modifying(flushAutomatically = true, clearAutomatically = true)
+	@Query("UPDATE IssueGenerationJob j SET j.status = :pending, j.attempts = 0, j.availableAt = :now, "
+			+ "j.lastError = NULL, j.updatedAt = :now "
+			+ "WHERE j.id = :id AND j.status = :failed")
+	int requeue(@Param("id") Long id,
+				@Param("failed") IssueGenerationJobStatus failed,
+				@Param("pending") IssueGenerationJobStatus pending,
+				@Param("now") LocalDateTime now);
+}
@@ -1,6 +1,9 @@
 package com.cryptory.be.issue.repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -12,6 +15,8 @@ import org.springframework.stereotype.Repository;
 
 import com.cryptory.be.chart.domain.Chart;
 import com.cryptory.be.issue.domain.Issue;
+import com.cryptory.be.issue.dto.IssueDetailRow;
+import com.cryptory.be.issue.dto.IssueVersion;
 
 @Repository
 public interface IssueRepository extends JpaRepository<Issue, Long> {
@@ -21,8 +26,40 @@ public interface IssueRepository extends JpaRepository<Issue, Long> {
 	@Query("SELECT i FROM Issue i WHERE i.coin.id = :coinId AND i.isDeleted = false")
 	Page<Issue> findByCoinIdAndIsDeletedFalse(@Param("coinId") Long coinId, Pageable pageable);
 
-	// isDeleted 필드만 업데이트하는 논리적 삭제를 위해 JPQL 사용
+	// 상세 조회용, coin_id 외래키만 읽어 코인/차트 조인 없이 조회
+	@Query("SELECT new com.cryptory.be.issue.dto.IssueDetailRow(i.id, i.coin.id, i.chart.id, i.isDeleted, i.title, i.content, i.newsTitle, i.source, i.updatedAt) "
+			+ "FROM Issue i WHERE i.id = :issueId")
+	Optional<IssueDetailRow> findDetailRowById(@Param("issueId") Long issueId);
+
+	// 응답 ETag용 코인 이슈 버전 (차트 타임라인의 이슈 표시가 바뀌었는지)
+	@Query("SELECT new com.cryptory.be.issue.dto.IssueVersion(MAX(i.updatedAt), COUNT(i)) FROM Issue i WHERE i.coin.id = :coinId")
+	IssueVersion findVersion(@Param("coinId") Long coinId);
+
+	// 삭제되지 않은 해당 코인 이슈의 코멘트 수 (이슈가 없으면 empty)
+	@Query("SELECT COALESCE(i.commentCount, 0) FROM Issue i WHERE i.id = :issueId AND i.coin.id = :coinId AND i.isDeleted = false")
+	Optional<Long> findCommentCount(@Param("coinId") Long coinId, @Param("issueId") Long issueId);
+
+	// 아직 채우지 않은(NULL) 이슈는 건드리지 않음 (backfillCommentCounts가 실제 개수로 채움)
+	@Modifying
+	@Query("UPDATE Issue i SET i.commentCount = i.commentCount + :delta WHERE i.id = :issueId AND i.commentCount IS NOT NULL")
+	int addCommentCount(@Param("issueId") Long issueId, @Param("delta") long delta);
+
+	// commentCount 컬럼이 생기기 전부터 있던 이슈(NULL)의 코멘트 수를 한 번 채움
 	@Modifying
-	@Query("UPDATE Issue i SET i.isDeleted = true WHERE i.id IN :ids")
-	void softDeleteByIds(@Param("ids") List<Long> ids);
+	@Query("UPDATE Issue i SET i.commentCount = (SELECT COUNT(c) FROM IssueComment c WHERE c.issue.id = i.id AND c.isDeleted = false) "
+			+ "WHERE i.commentCount IS NULL")
+	int backfillCommentCounts();
+
+	// 이미 이슈가 등록된 차트 id (차트 하나에 이슈 하나)
+	@Query("SELECT i.chart.id FROM Issue i WHERE i.chart.id IN :chartIds")
+	List<Long> findChartIdsWithIssue(@Param("chartIds") Collection<Long> chartIds);
+
+	@Query("SELECT i.id FROM Issue i WHERE i.id IN :ids")
+	List<Long> findExistingIds(@Param("ids") Collection<Long> ids);
+
+	// isDeleted 필드만 업데이트하는 논리적 삭제를 위해 JPQL 사용 (벌크 업데이트라 updatedAt도 직접 갱신)
+	// 이미 삭제된 이슈는 건드리지 않으며, 변경된 행 수를 반환
+	@Modifying(flushAutomatically = true, clearAutomatically = true)
+	@Query("UPDATE Issue i SET i.isDeleted = true, i.updatedAt = :now WHERE i.id IN :ids AND i.isDeleted = false")
+	int softDeleteByIds(@Param("ids") Collection<Long> ids, @Param("now") LocalDateTime now);
 }
@@ -0,0 +1,143 @@
+package com.cryptory.be.issue.service;
+
+import com.cryptory.be.global.response.CursorPage;
+import com.cryptory.be.global.util.DateFormat;
+import com.cryptory.be.issue.domain.IssueComment;
+import com.cryptory.be.issue.dto.CreateIssueCommentDto;
+import com.cryptory.be.issue.dto.IssueCommentDto;
+import com.cryptory.be.issue.exception.IssueErrorCode;
+import com.cryptory.be.issue.exception.IssueException;
+import com.cryptory.be.issue.repository.IssueCommentRepository;
+import com.cryptory.be.issue.repository.IssueRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.List;
+
+/**
+ * 이슈 코멘트 목록/작성/삭제
+ * - 목록은 (createdAt, id) 역순 keyset 페이지, count 쿼리 없이 size + 1개만 조회
+ * - 전체 개수는 Issue.commentCount (작성/삭제 시 같은 트랜잭션에서 증감)
+ *   컬럼 추가 전부터 있던 이슈는 NULL이라 기동 시 실제 코멘트 수로 채우고, 채우기 전에는 증감하지 않음
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class IssueCommentService {
+
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final char SEPARATOR = '|';
+
+    private final IssueCommentRepository issueCommentRepository;
+    private final IssueRepository issueRepository;
+
+    /**
+     * 코멘트 목록 (최신순)
+     * @param cursor 이전 응답의 nextCursor, 없으면 첫 페이지
+     */
+    public CommentPage getComments(Long coinId, Long issueId, String cursor, int size) {
+        long totalCount = issueRepository.findCommentCount(coinId, issueId)
+                .orElseThrow(() -> new IssueException(IssueErrorCode.NOT_EXIST_ISSUE));
+
+        int limit = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        PageRequest pageRequest = PageRequest.of(0, limit + 1);
+        List<IssueComment> comments;
+        if (cursor == null || cursor.isBlank()) {
+            comments = issueCommentRepository.findFirstPage(issueId, pageRequest);
+        } else {
+            Cursor after = decode(cursor);
+            comments = issueCommentRepository.findPageAfter(issueId, after.createdAt(), after.id(), pageRequest);
+        }
+
+        boolean hasMore = comments.size() > limit;
+        List<IssueComment> items = hasMore ? comments.subList(0, limit) : comments;
+        String nextCursor = hasMore ? encode(items.get(items.size() - 1)) : null;
+
+        return new CommentPage(new CursorPage<>(items.stream().map(IssueCommentService::toDto).toList(), nextCursor), totalCount);
+    }
+
+    @Transactional
+    public IssueCommentDto createComment(Long coinId, Long issueId, Long userId, CreateIssueCommentDto requestDto) {
+        issueRepository.findCommentCount(coinId, issueId)
+                .orElseThrow(() -> new IssueException(IssueErrorCode.NOT_EXIST_ISSUE));
+
+        IssueComment comment = issueCommentRepository.save(IssueComment.builder()
+                .content(requestDto.getContent())
+                .userId(userId)
+                .issue(issueRepository.getReferenceById(issueId)) // 이슈 엔티티(차트/코인 즉시 로딩)를 불러오지 않음
+                .build());
+        issueRepository.addCommentCount(issueId, 1);
+
+        log.info("이슈 코멘트 작성 (issueId: {}, commentId: {}, userId: {})", issueId, comment.getId(), userId);
+        return toDto(comment);
+    }
+
+    @Transactional
+    public void deleteComment(Long coinId, Long issueId, Long commentId, Long userId) {
+        issueRepository.findCommentCount(coinId, issueId)
+                .orElseThrow(() -> new IssueException(IssueErrorCode.NOT_EXIST_ISSUE));
+
+        IssueComment comment = issueCommentRepository.findById(commentId)
+                .filter(IssueComment::isNotDeleted)
+                .filter(c -> c.getIssue().getId().equals(issueId))
+                .orElseThrow(() -> new IssueException(IssueErrorCode.NOT_EXIST_ISSUE_COMMENT));
+        if (!comment.getUserId().equals(userId)) {
+            throw new IssueException(IssueErrorCode.FORBIDDEN_ISSUE_COMMENT);
+        }
+
+        // 동시에 같은 코멘트를 지워도 실제로 바뀐 한 번만 개수에 반영
+        if (issueCommentRepository.softDeleteById(commentId) == 1) {
+            issueRepository.addCommentCount(issueId, -1);
+        }
+        log.info("이슈 코멘트 삭제 (issueId: {}, commentId: {}, userId: {})", issueId, commentId, userId);
+    }
+
+    // NULL인 이슈만 채우므로 매 기동마다 실행해도 한 번 채운 값은 바뀌지 않음
+    @Transactional
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillCommentCounts() {
+        int updated = issueRepository.backfillCommentCounts();
+        if (updated > 0) {
+            log.info("이슈 코멘트 수 채움 (이슈 {}건)", updated);
+        }
+    }
+
+    private static IssueCommentDto toDto(IssueComment comment) {
+        // 닉네임은 user-service에 있으므로 userId로 대체
+        return new IssueCommentDto(comment.getId(), comment.getContent(), String.valueOf(comment.getUserId()),
+                comment.getCreatedAt() == null ? null : DateFormat.formatDateTime(comment.getCreatedAt()));
+    }
+
+    // 커서: 마지막 코멘트의 "createdAt|id"를 base64url로 인코딩
+    private static String encode(IssueComment comment) {
+        String raw = comment.getCreatedAt() + String.valueOf(SEPARATOR) + comment.getId();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static Cursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.indexOf(SEPARATOR);
+            return new Cursor(LocalDateTime.parse(raw.substring(0, separator)), Long.parseLong(raw.substring(separator + 1)));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+            throw new IssueException(IssueErrorCode.INVALID_COMMENT_CURSOR);
+        }
+    }
+
+    private record Cursor(LocalDateTime createdAt, Long id) {
+    }
+
+    // 코멘트 페이지 + 전체 개수
+    public record CommentPage(CursorPage<IssueCommentDto> page, long totalCount) {
+    }
+}
@@ -0,0 +1,78 @@
+package com.cryptory.be.issue.service;
+
+import com.cryptory.be.issue.dto.IssueDetailRow;
+import com.cryptory.be.issue.repository.IssueRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * 사용자용 이슈 상세 캐시 (issueId -> 상세 프로젝션)
+ * - 크기 제한(W-TinyLFU) + 쓰기 후 만료
+ * - 생성/수정/삭제 트랜잭션이 끝난 뒤 IssuesChangedEvent로 해당 id를 무효화
+ * - 무효화 후 replica 허용 지연(+ 측정 주기) 동안은 해당 id를 primary에서 읽어 다시 채움
+ *   (복제 전 replica의 이전 값이 ttl 동안 캐시되고 ETag로도 나가는 것 방지)
+ * 히트/미스/제거 지표는 cache.* (cache=issue.detail)로 노출
+ */
+@Component
+public class IssueDetailCache {
+
+    private static final String CACHE_NAME = "issue.detail";
+
+    private final IssueRepository issueRepository;
+    private final Cache<Long, IssueDetailRow> cache;
+    private final Cache<Long, Boolean> recentlyChanged; // 아직 replica에 복제되지 않았을 수 있는 id
+    private final TransactionTemplate primaryRead;
+
+    public IssueDetailCache(IssueRepository issueRepository,
+                            PlatformTransactionManager transactionManager,
+                            @Value("${issue.cache.detail.max-size:10000}") long maxSize,
+                            @Value("${issue.cache.detail.ttl-seconds:600}") long ttlSeconds,
+                            @Value("${spring.datasource.replica.max-lag-ms:3000}") long maxLagMillis,
+                            @Value("${spring.datasource.replica.lag-check-ms:1000}") long lagCheckMillis,
+                            MeterRegistry meterRegistry) {
+        this.issueRepository = issueRepository;
+        // 읽기 전용 트랜잭션 안에서 호출돼도 별도의 쓰기 가능 트랜잭션으로 열어 primary로 라우팅
+        this.primaryRead = new TransactionTemplate(transactionManager);
+        this.primaryRead.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.recentlyChanged = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofMillis(maxLagMillis + lagCheckMillis))
+                .build();
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    // 없는 이슈는 캐시하지 않음 (삭제된 이슈는 deleted=true로 캐시)
+    public Optional<IssueDetailRow> get(Long issueId) {
+        return Optional.ofNullable(cache.get(issueId, this::load));
+    }
+
+    private IssueDetailRow load(Long issueId) {
+        if (recentlyChanged.getIfPresent(issueId) != null) {
+            return primaryRead.execute(status -> issueRepository.findDetailRowById(issueId).orElse(null));
+        }
+        return issueRepository.findDetailRowById(issueId).orElse(null);
+    }
+
+    // 트랜잭션 완료 후 무효화 (롤백이어도 지워서 손해 볼 것은 없으므로 커밋 여부와 관계없이), 트랜잭션 밖이면 바로
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMPLETION, fallbackExecution = true)
+    public void onIssuesChanged(IssuesChangedEvent event) {
+        event.issueIds().forEach(id -> recentlyChanged.put(id, Boolean.TRUE));
+        cache.invalidateAll(event.issueIds());
+    }
+}
@@ -0,0 +1,218 @@
+package com.cryptory.be.issue.service;
+
+import com.cryptory.be.chart.domain.Chart;
+import com.cryptory.be.chart.repository.ChartRepository;
+import com.cryptory.be.coin.domain.Coin;
+import com.cryptory.be.coin.repository.CoinRepository;
+import com.cryptory.be.issue.detect.Anomaly;
+import com.cryptory.be.issue.detect.ChartAnomalyDetector;
+import com.cryptory.be.issue.domain.Issue;
+import com.cryptory.be.issue.domain.IssueDetectWatermark;
+import com.cryptory.be.issue.repository.IssueDetectWatermarkRepository;
+import com.cryptory.be.issue.repository.IssueRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+
+/**
+ * 차트 이상 변동으로 이슈 후보(type = "AUTO") 생성
+ * - 코인마다 ChartAnomalyDetector 상태를 메모리에 두고, 주기마다 마지막으로 본 날짜 이후 일봉만 반영
+ * - 코인별 작업은 issueDetectExecutor(스레드 수 제한)에서 병렬 실행, 한 코인은 한 번에 한 스레드만 처리
+ * - 코인별로 감지를 마친 마지막 차트 날짜를 issue_detect_watermarks에 저장
+ *   서버 시작 후 첫 실행은 저장된 날짜까지의 일봉으로 상태만 채우고 그 이후 일봉(재시작 사이에 추가된 일봉 포함)부터 후보 생성
+ *   저장된 날짜가 없는 코인(처음 감지하는 코인)은 기존 차트 전체로 상태만 채움 (issue.detect.backfill=true면 과거분도 생성)
+ * - 이미 이슈가 등록된 차트에는 만들지 않음 (차트 하나에 이슈 하나)
+ * - 감지 상태(마지막 날짜, 감지기 window)는 복사본에서 진행하고 후보 저장이 끝난 뒤에만 교체 (저장 실패 시 다음 주기에 다시 감지)
+ */
+@Slf4j
+@Service
+public class IssueDetectionService {
+
+    public static final String ISSUE_TYPE = "AUTO";
+    private static final String SOURCE = "차트 이상 변동 감지";
+
+    private final CoinRepository coinRepository;
+    private final ChartRepository chartRepository;
+    private final IssueRepository issueRepository;
+    private final IssueDetectWatermarkRepository watermarkRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final Executor detectExecutor;
+    private final MeterRegistry meterRegistry;
+
+    private final boolean enabled;
+    private final boolean backfill;
+    private final ChartAnomalyDetector.Settings settings = ChartAnomalyDetector.Settings.defaults();
+
+    private final Map<Long, CoinState> states = new ConcurrentHashMap<>();
+    private final Timer runTimer;
+
+    public IssueDetectionService(CoinRepository coinRepository,
+                                 ChartRepository chartRepository,
+                                 IssueRepository issueRepository,
+                                 IssueDetectWatermarkRepository watermarkRepository,
+                                 TransactionTemplate transactionTemplate,
+                                 @Qualifier("issueDetectExecutor") Executor detectExecutor,
+                                 @Value("${issue.detect.enabled:true}") boolean enabled,
+                                 @Value("${issue.detect.backfill:false}") boolean backfill,
+                                 MeterRegistry meterRegistry) {
+        this.coinRepository = coinRepository;
+        this.chartRepository = chartRepository;
+        this.issueRepository = issueRepository;
+        this.watermarkRepository = watermarkRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.detectExecutor = detectExecutor;
+        this.enabled = enabled;
+        this.backfill = backfill;
+        this.meterRegistry = meterRegistry;
+        this.runTimer = meterRegistry.timer("issue.detect.run");
+    }
+
+    @Scheduled(initialDelayString = "${issue.detect.initial-delay-ms:60000}",
+            fixedDelayString = "${issue.detect.interval-ms:600000}")
+    public void detect() {
+        if (!enabled) {
+            return;
+        }
+        runTimer.record(() -> {
+            List<CompletableFuture<Integer>> futures = coinRepository.findAll().stream()
+                    .map(coin -> CompletableFuture.supplyAsync(() -> detectCoin(coin), detectExecutor))
+                    .toList();
+
+            int created = 0;
+            for (CompletableFuture<Integer> future : futures) {
+                try {
+                    created += future.join();
+                } catch (RuntimeException e) {
+                    log.error("코인 이상 변동 감지 실패", e);
+                }
+            }
+            if (created > 0) {
+                log.info("이상 변동 이슈 후보 {}건 생성", created);
+            }
+        });
+    }
+
+    // 한 코인의 새 일봉 반영, 생성한 이슈 수 반환
+    private int detectCoin(Coin coin) {
+        CoinState state = states.computeIfAbsent(coin.getId(), id -> new CoinState(new ChartAnomalyDetector(settings),
+                watermarkRepository.findById(id).map(IssueDetectWatermark::getLastChartDate).orElse(null)));
+        List<Chart> charts = chartRepository.findAfterDate(coin.getId(), state.lastDate);
+        if (charts.isEmpty()) {
+            return 0;
+        }
+
+        ChartAnomalyDetector detector = state.detector.copy();
+        String lastDate = state.lastDate;
+        List<Candidate> candidates = new ArrayList<>();
+        for (Chart chart : charts) {
+            lastDate = chart.getDate();
+            if (chart.getChangeRate() == null || chart.getHighPrice() == null
+                    || chart.getLowPrice() == null || chart.getTradePrice() == null) {
+                continue;
+            }
+            Anomaly anomaly = detector.accept(chart.getId(), chart.getChangeRate(),
+                    chart.getHighPrice(), chart.getLowPrice(), chart.getTradePrice());
+            if (anomaly != null && (backfill || (state.evaluateAfter != null && chart.getDate().compareTo(state.evaluateAfter) > 0))) {
+                candidates.add(new Candidate(anomaly, chart.getDate()));
+            }
+        }
+
+        // 저장 중 예외가 나면 상태를 그대로 두어 다음 주기에 같은 일봉부터 다시 감지 (이미 저장된 차트는 건너뜀)
+        int saved = candidates.isEmpty() ? 0 : saveCandidates(coin, candidates);
+        saveWatermark(coin.getId(), lastDate);
+        state.detector = detector;
+        state.lastDate = lastDate;
+        state.evaluateAfter = lastDate;
+        candidates.forEach(c -> meterRegistry.counter("issue.detect.candidates", "kind", c.anomaly().kind().name()).increment());
+        return saved;
+    }
+
+    // 이미 이슈가 있는 차트는 빼고 후보마다 따로 저장 (관리자가 동시에 등록한 차트만 건너뜀)
+    private int saveCandidates(Coin coin, List<Candidate> candidates) {
+        Set<Long> taken = new HashSet<>(issueRepository.findChartIdsWithIssue(
+                candidates.stream().map(c -> c.anomaly().chartId()).toList()));
+        int saved = 0;
+        for (Candidate candidate : candidates) {
+            if (taken.contains(candidate.anomaly().chartId())) {
+                continue;
+            }
+            try {
+                transactionTemplate.executeWithoutResult(status -> issueRepository.saveAndFlush(toIssue(coin, candidate)));
+                saved++;
+            } catch (DataIntegrityViolationException e) {
+                log.warn("이상 변동 이슈 저장 중 중복 발생. coinId: {}, chartId: {}", coin.getId(), candidate.anomaly().chartId());
+            }
+        }
+        return saved;
+    }
+
+    // 감지를 마친 날짜 저장 (다른 인스턴스가 먼저 넣었으면 다음 주기에 갱신)
+    private void saveWatermark(Long coinId, String lastDate) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> watermarkRepository.findById(coinId).ifPresentOrElse(
+                    watermark -> watermark.advance(lastDate),
+                    () -> watermarkRepository.saveAndFlush(new IssueDetectWatermark(coinId, lastDate))));
+        } catch (DataIntegrityViolationException e) {
+            log.warn("이상 변동 감지 위치 저장 중 중복 발생. coinId: {}", coinId);
+        }
+    }
+
+    private Issue toIssue(Coin coin, Candidate candidate) {
+        Anomaly anomaly = candidate.anomaly();
+        return Issue.builder()
+                .date(LocalDate.parse(candidate.date().substring(0, 10)))
+                .title(title(coin, anomaly))
+                .content(content(anomaly))
+                .source(SOURCE)
+                .type(ISSUE_TYPE)
+                .coin(coinRepository.getReferenceById(coin.getId()))
+                .chart(chartRepository.getReferenceById(anomaly.chartId()))
+                .requestCount(0L)
+                .isDeleted(false)
+                .build();
+    }
+
+    private static String title(Coin coin, Anomaly anomaly) {
+        String label = switch (anomaly.kind()) {
+            case SURGE -> "급등";
+            case PLUNGE -> "급락";
+            case VOLATILITY -> "변동성 확대";
+        };
+        return String.format("%s %+.2f%% %s", coin.getKoreanName(), anomaly.changeRate() * 100, label);
+    }
+
+    private String content(Anomaly anomaly) {
+        return String.format("전일 대비 %+.2f%% (최근 %d일 기준 %.1f표준편차), 장중 변동폭 %.2f%% (%.1f표준편차). 차트 이상 변동으로 자동 생성된 이슈 후보입니다.",
+                anomaly.changeRate() * 100, settings.window(), anomaly.changeZScore(),
+                anomaly.rangeRatio() * 100, anomaly.rangeZScore());
+    }
+
+    // 코인별 감지 상태 (detectCoin에서만 접근, 한 코인은 한 번에 한 작업만 실행)
+    // lastDate: 감지기에 반영한 마지막 날짜 (처음엔 ""라 전체 차트로 상태를 채움)
+    // evaluateAfter: 이 날짜 이후 일봉만 후보로 (null이면 아직 감지한 적 없는 코인)
+    private static final class CoinState {
+        private ChartAnomalyDetector detector;
+        private String lastDate = "";
+        private String evaluateAfter;
+
+        private CoinState(ChartAnomalyDetector detector, String evaluateAfter) {
+            this.detector = detector;
+            this.evaluateAfter = evaluateAfter;
+        }
+    }
+
+    private record Candidate(Anomaly anomaly, String date) {
+    }
+}
@@ -0,0 +1,127 @@
+package com.cryptory.be.issue.service;
+
+import com.cryptory.be.issue.domain.IssueGenerationJob;
+import com.cryptory.be.issue.domain.IssueGenerationJobStatus;
+import com.cryptory.be.issue.dto.IssueDetailRow;
+import com.cryptory.be.issue.repository.IssueGenerationJobRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * 이슈 생성 작업 큐 (issue_generation_jobs 테이블)
+ * - 등록: (coinId, chartId)당 한 작업, 이미 대기/진행/완료된 작업이 있으면 새로 만들지 않음
+ * - 가져가기: 후보 id 조회 후 조건부 UPDATE로 임대(lease) 표시, 가져갈 때마다 다른 owner 값을 써서 내 것만 다시 조회
+ *   (SKIP LOCKED 없이 MySQL/H2 모두 동작, 워커가 죽으면 임대 만료 후 다른 워커가 가져감)
+ * - 완료/실패: owner가 일치할 때만 반영 (임대를 잃은 워커의 결과는 버림)
+ * 모든 작업은 호출한 쪽 트랜잭션과 별도로(REQUIRES_NEW) 실행
+ * 빈 등록은 IssueGenerationConfig (issue.generation.generator=none이면 등록하지 않음)
+ */
+@Slf4j
+public class IssueGenerationQueue {
+
+    private static final Set<IssueGenerationJobStatus> CLAIMABLE =
+            Set.of(IssueGenerationJobStatus.PENDING, IssueGenerationJobStatus.RUNNING);
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    private final IssueGenerationJobRepository jobRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final Duration lease;
+
+    public IssueGenerationQueue(IssueGenerationJobRepository jobRepository,
+                                PlatformTransactionManager transactionManager,
+                                long leaseSeconds) {
+        this.jobRepository = jobRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.lease = Duration.ofSeconds(leaseSeconds);
+    }
+
+    /**
+     * 생성 작업 등록
+     * @return 새로 등록했거나 실패한 작업을 다시 대기시켰으면 true
+     */
+    public boolean enqueue(IssueDetailRow issue) {
+        if (issue.chartId() == null) {
+            log.debug("차트가 없는 이슈는 생성 대상이 아닙니다. issueId: {}", issue.issueId());
+            return false;
+        }
+        try {
+            Boolean enqueued = transactionTemplate.execute(status -> {
+                Optional<IssueGenerationJob> existing = jobRepository.findByCoinIdAndChartId(issue.coinId(), issue.chartId());
+                if (existing.isPresent()) {
+                    IssueGenerationJob job = existing.get();
+                    return job.getStatus() == IssueGenerationJobStatus.FAILED
+                            && jobRepository.requeue(job.getId(), IssueGenerationJobStatus.FAILED,
+                            IssueGenerationJobStatus.PENDING, LocalDateTime.now()) == 1;
+                }
+                jobRepository.saveAndFlush(IssueGenerationJob.builder()
+                        .coinId(issue.coinId())
+                        .chartId(issue.chartId())
+                        .issueId(issue.issueId())
+                        .availableAt(LocalDateTime.now())
+                        .build());
+                return true;
+            });
+            return Boolean.TRUE.equals(enqueued);
+        } catch (DataIntegrityViolationException e) {
+            // 같은 차트에 대한 동시 등록, 먼저 등록된 작업 사용
+            return false;
+        }
+    }
+
+    /**
+     * 가져갈 수 있는 작업을 최대 limit개 임대
+     * @param owner 이번 임대에만 쓰는 고유 값
+     */
+    public List<IssueGenerationJob> claim(String owner, int limit) {
+        List<IssueGenerationJob> claimed = transactionTemplate.execute(status -> {
+            LocalDateTime now = LocalDateTime.now();
+            List<Long> ids = jobRepository.findClaimableIds(CLAIMABLE, now, PageRequest.of(0, limit));
+            if (ids.isEmpty()) {
+                return List.of();
+            }
+            if (jobRepository.claim(ids, CLAIMABLE, IssueGenerationJobStatus.RUNNING, owner, now, now.plus(lease)) == 0) {
+                return List.of(); // 다른 워커가 모두 먼저 가져감
+            }
+            return jobRepository.findByLeaseOwnerAndStatus(owner, IssueGenerationJobStatus.RUNNING);
+        });
+        return claimed == null ? List.of() : claimed;
+    }
+
+    // 생성 결과 반영과 같은 트랜잭션에서 호출 (임대를 잃었으면 false, 호출한 쪽에서 롤백)
+    public boolean completeInCurrentTransaction(IssueGenerationJob job) {
+        LocalDateTime now = LocalDateTime.now();
+        return jobRepository.release(job.getId(), job.getLeaseOwner(), IssueGenerationJobStatus.RUNNING,
+                IssueGenerationJobStatus.DONE, now, null, now) == 1;
+    }
+
+    /**
+     * 실패 처리, maxAttempts 미만이면 backoff 뒤 다시 대기
+     * @return 다시 대기시켰으면 true, 최종 실패면 false
+     */
+    public boolean fail(IssueGenerationJob job, String error, int maxAttempts, Duration backoff) {
+        boolean retry = job.getAttempts() < maxAttempts;
+        String message = error == null ? null : error.substring(0, Math.min(error.length(), MAX_ERROR_LENGTH));
+        transactionTemplate.executeWithoutResult(status -> {
+            LocalDateTime now = LocalDateTime.now();
+            jobRepository.release(job.getId(), job.getLeaseOwner(), IssueGenerationJobStatus.RUNNING,
+                    retry ? IssueGenerationJobStatus.PENDING : IssueGenerationJobStatus.FAILED,
+                    retry ? now.plus(backoff.multipliedBy(job.getAttempts())) : now, message, now);
+        });
+        return retry;
+    }
+
+    public long countPending() {
+        return jobRepository.countByStatus(IssueGenerationJobStatus.PENDING);
+    }
+}
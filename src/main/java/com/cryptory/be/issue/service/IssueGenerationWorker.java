@@ -0,0 +1,176 @@
+package com.cryptory.be.issue.service;
+
+import com.cryptory.be.chart.domain.Chart;
+import com.cryptory.be.issue.domain.Issue;
+import com.cryptory.be.issue.domain.IssueGenerationJob;
+import com.cryptory.be.issue.generate.GeneratedIssue;
+import com.cryptory.be.issue.generate.IssueGenerationRequest;
+import com.cryptory.be.issue.generate.IssueGenerator;
+import com.cryptory.be.issue.repository.IssueRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 이슈 생성 워커
+ * - 주기마다 빈 워커 수만큼 작업을 한 번에 임대해 issueGenerationExecutor에서 처리
+ * - 생성 결과는 이슈 수정과 작업 완료를 한 트랜잭션으로 반영 (임대를 잃었으면 롤백)
+ * - 실패하면 attempts에 비례해 늦춰 다시 대기, max-attempts를 넘으면 FAILED
+ * 요청 스레드는 작업 등록(IssueGenerationQueue.enqueue)만 하고 생성을 기다리지 않는다.
+ * 빈 등록은 IssueGenerationConfig (issue.generation.generator=none이면 등록하지 않음)
+ */
+@Slf4j
+public class IssueGenerationWorker {
+
+    private final IssueGenerationQueue queue;
+    private final IssueGenerator generator;
+    private final IssueRepository issueRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Executor generationExecutor;
+
+    private final boolean enabled;
+    private final int workers;
+    private final int maxAttempts;
+    private final Duration retryBackoff;
+
+    // 인스턴스 구분용, 임대마다 뒤에 일련번호를 붙여 owner로 사용
+    private final String instanceId = UUID.randomUUID().toString();
+    private final AtomicLong claimSequence = new AtomicLong();
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicLong queueDepth = new AtomicLong();
+
+    private final MeterRegistry meterRegistry;
+    private final Timer claimTimer;
+    private final Timer generateTimer;
+
+    public IssueGenerationWorker(IssueGenerationQueue queue,
+                                 IssueGenerator generator,
+                                 IssueRepository issueRepository,
+                                 TransactionTemplate transactionTemplate,
+                                 ApplicationEventPublisher eventPublisher,
+                                 Executor generationExecutor,
+                                 boolean enabled,
+                                 int workers,
+                                 int maxAttempts,
+                                 long retryBackoffSeconds,
+                                 MeterRegistry meterRegistry) {
+        this.queue = queue;
+        this.generator = generator;
+        this.issueRepository = issueRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.eventPublisher = eventPublisher;
+        this.generationExecutor = generationExecutor;
+        this.enabled = enabled;
+        this.workers = workers;
+        this.maxAttempts = maxAttempts;
+        this.retryBackoff = Duration.ofSeconds(retryBackoffSeconds);
+        this.meterRegistry = meterRegistry;
+        this.claimTimer = meterRegistry.timer("issue.generation.claim");
+        this.generateTimer = meterRegistry.timer("issue.generation.generate");
+        meterRegistry.gauge("issue.generation.queue.depth", queueDepth);
+        meterRegistry.gauge("issue.generation.in-flight", inFlight);
+    }
+
+    @Scheduled(initialDelayString = "${issue.generation.poll-ms:1000}",
+            fixedDelayString = "${issue.generation.poll-ms:1000}")
+    public void poll() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            queueDepth.set(queue.countPending());
+            int free = workers - inFlight.get();
+            if (free <= 0) {
+                return;
+            }
+            String owner = instanceId + "-" + claimSequence.incrementAndGet();
+            List<IssueGenerationJob> jobs = claimTimer.record(() -> queue.claim(owner, free));
+            jobs.forEach(this::submit);
+        } catch (DataAccessException e) {
+            log.error("이슈 생성 작업 조회 실패", e);
+        }
+    }
+
+    private void submit(IssueGenerationJob job) {
+        inFlight.incrementAndGet();
+        try {
+            generationExecutor.execute(() -> {
+                try {
+                    process(job);
+                } finally {
+                    inFlight.decrementAndGet();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            // 처리하지 못한 작업은 임대 만료 후 다시 가져감
+            inFlight.decrementAndGet();
+            log.warn("이슈 생성 작업 실행 거부 (jobId: {})", job.getId());
+        }
+    }
+
+    private void process(IssueGenerationJob job) {
+        try {
+            IssueGenerationRequest request = transactionTemplate.execute(status -> toRequest(job));
+            if (request == null) {
+                fail(job, "삭제되었거나 차트가 없는 이슈입니다.", 0);
+                return;
+            }
+
+            GeneratedIssue generated = generateTimer.recordCallable(() -> generator.generate(request));
+
+            Boolean completed = transactionTemplate.execute(status -> {
+                if (!queue.completeInCurrentTransaction(job)) {
+                    status.setRollbackOnly(); // 임대 만료 후 다른 워커가 가져간 작업
+                    return false;
+                }
+                issueRepository.findById(job.getIssueId()).ifPresent(issue ->
+                        issue.update(generated.title(), generated.content(), generated.newsTitle(), generated.source()));
+                eventPublisher.publishEvent(IssuesChangedEvent.of(job.getIssueId()));
+                return true;
+            });
+            count(Boolean.TRUE.equals(completed) ? "done" : "lease_lost");
+        } catch (Exception e) {
+            log.warn("이슈 생성 실패 (jobId: {}, attempts: {})", job.getId(), job.getAttempts(), e);
+            fail(job, e.getClass().getSimpleName() + ": " + e.getMessage(), maxAttempts);
+        }
+    }
+
+    private void fail(IssueGenerationJob job, String error, int attempts) {
+        try {
+            count(queue.fail(job, error, attempts, retryBackoff) ? "retry" : "failed");
+        } catch (DataAccessException e) {
+            log.error("이슈 생성 작업 실패 처리 실패 (jobId: {})", job.getId(), e);
+        }
+    }
+
+    // 생성기에 넘길 이슈/차트 정보 (삭제됐거나 차트가 없으면 null)
+    private IssueGenerationRequest toRequest(IssueGenerationJob job) {
+        Issue issue = issueRepository.findById(job.getIssueId()).orElse(null);
+        if (issue == null || issue.isDeleted() || issue.getChart() == null) {
+            return null;
+        }
+        Chart chart = issue.getChart();
+        return new IssueGenerationRequest(issue.getId(), job.getCoinId(), chart.getId(),
+                issue.getCoin().getKoreanName(), issue.getCoin().getCode(), issue.getDate(),
+                chart.getOpeningPrice(), chart.getHighPrice(), chart.getLowPrice(),
+                chart.getTradePrice(), chart.getChangeRate(),
+                issue.getTitle(), issue.getContent());
+    }
+
+    private void count(String result) {
+        meterRegistry.counter("issue.generation.jobs", "result", result).increment();
+    }
+}
@@ -0,0 +1,70 @@
+package com.cryptory.be.issue.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 이슈별 AI 생성 요청 횟수 (Issue.requestCount) 카운터
+ * - 요청마다 DB 행을 잠그지 않도록 메모리의 LongAdder에 누적
+ * - 주기적으로 누적분만 batch UPDATE (request_count = request_count + ?)
+ * - 종료 시(@PreDestroy) 남은 누적분까지 반영
+ */
+@Slf4j
+@Component
+public class IssueRequestCounter {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final WriteBehindCounter counter =
+            new WriteBehindCounter("UPDATE issues SET request_count = COALESCE(request_count, 0) + ? WHERE id = ?");
+
+    private final Counter flushedRequests;
+    private final Counter flushFailures;
+
+    public IssueRequestCounter(JdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate,
+                               MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.flushedRequests = meterRegistry.counter("issue.request.count.flushed");
+        this.flushFailures = meterRegistry.counter("issue.request.count.flush.failures");
+        meterRegistry.gauge("issue.request.count.pending", this, IssueRequestCounter::getPending);
+    }
+
+    public void increment(Long issueId) {
+        counter.increment(issueId);
+    }
+
+    // 아직 DB에 반영되지 않은 요청 수
+    public long getPending() {
+        return counter.pending();
+    }
+
+    @Scheduled(initialDelayString = "${issue.request-count.flush-ms:5000}",
+            fixedDelayString = "${issue.request-count.flush-ms:5000}")
+    public void flush() {
+        try {
+            flushedRequests.increment(counter.flush(jdbcTemplate, transactionTemplate));
+        } catch (DataAccessException | TransactionException e) {
+            // 반영하지 못한 누적분은 다음 주기에 다시 시도
+            flushFailures.increment();
+            log.error("이슈 요청 횟수 반영 실패", e);
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+        long pending = getPending();
+        if (pending > 0) {
+            log.warn("종료 시 이슈 요청 횟수 {}건을 반영하지 못했습니다.", pending);
+        }
+    }
+}
@@ -5,8 +5,12 @@ import com.cryptory.be.chart.repository.ChartRepository;
 import com.cryptory.be.coin.domain.Coin;
 import com.cryptory.be.coin.repository.CoinRepository;
 import com.cryptory.be.issue.domain.Issue;
+import com.cryptory.be.global.response.ResourceVersion;
 import com.cryptory.be.issue.dto.IssueDetailDto;
+import com.cryptory.be.issue.dto.IssueDetailRow;
+import com.cryptory.be.issue.dto.TrendingIssueDto;
 import com.cryptory.be.issue.dto.feign.FeignIssueCreateRequestDto;
+import com.cryptory.be.issue.dto.feign.FeignIssueDeleteResponseDto;
 import com.cryptory.be.issue.dto.feign.FeignIssueDetailResponseDto;
 import com.cryptory.be.issue.dto.feign.FeignIssueListResponseDto;
 import com.cryptory.be.issue.dto.feign.FeignIssueUpdateRequestDto;
@@ -15,12 +19,13 @@ import com.cryptory.be.issue.exception.IssueException;
 import com.cryptory.be.issue.repository.IssueRepository;
 import lombok.RequiredArgsConstructor;
 
+import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
-import java.util.List;
-import java.util.NoSuchElementException;
-import java.util.Optional;
+import java.util.*;
 
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.*;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -34,6 +39,13 @@ public class IssueService { // 인터페이스 없이 바로 클래스 구현
     private final IssueRepository issueRepository;
     private final CoinRepository coinRepository;
     private final ChartRepository chartRepository;
+    private final IssueDetailCache issueDetailCache;
+    private final ApplicationEventPublisher eventPublisher;
+    private final IssueRequestCounter issueRequestCounter;
+    private final IssueViewTracker issueViewTracker;
+    private final ObjectProvider<IssueGenerationQueue> issueGenerationQueue; // 생성기가 없으면 등록되지 않음
+
+    private static final int DELETE_CHUNK_SIZE = 1000; // IN 절 파라미터 수 제한
 
     /**
      * 관리자: 특정 코인의 이슈 목록 조회 (페이징)
@@ -91,6 +103,7 @@ public class IssueService { // 인터페이스 없이 바로 클래스 구현
                 .build();
 
         Issue savedIssue = issueRepository.save(newIssue);
+        eventPublisher.publishEvent(IssuesChangedEvent.of(savedIssue.getId()));
         log.info("관리자 이슈 생성됨 (ID: {}) by Admin ID: {}", savedIssue.getId(), adminUserId);
         return savedIssue.getId();
     }
@@ -115,32 +128,93 @@ public class IssueService { // 인터페이스 없이 바로 클래스 구현
                 // 관리자는 삭제된 이슈도 수정 가능? -> 여기서는 isDeleted=false 조건 제거
                 .orElseThrow(() -> new NoSuchElementException("수정할 이슈를 찾을 수 없습니다. ID: " + issueId));
         issue.update(requestDto.getTitle(), requestDto.getContent(), requestDto.getNewsTitle(), requestDto.getSource());
+        eventPublisher.publishEvent(IssuesChangedEvent.of(issueId));
         log.info("관리자 이슈 수정됨 (ID: {})", issueId);
     }
 
     /**
      * 관리자: 이슈 삭제 (논리적 삭제)
+     * 엔티티를 불러오지 않고 청크 단위 UPDATE로 처리
      */
     @Transactional
-    public void deleteIssues(List<Long> ids) {
-        List<Issue> issues = issueRepository.findAllById(ids);
-        if (issues.size() != ids.size()) {
-            log.warn("삭제 요청된 이슈 ID 중 일부가 존재하지 않을 수 있습니다. 요청 ID: {}, 찾은 개수: {}", ids, issues.size());
-            // 필요시 여기서 예외 발생
+    public FeignIssueDeleteResponseDto deleteIssues(List<Long> ids) {
+        List<Long> distinctIds = List.copyOf(new LinkedHashSet<>(ids));
+        LocalDateTime now = LocalDateTime.now();
+
+        Set<Long> existingIds = new HashSet<>();
+        int affectedCount = 0;
+        for (int from = 0; from < distinctIds.size(); from += DELETE_CHUNK_SIZE) {
+            List<Long> chunk = distinctIds.subList(from, Math.min(from + DELETE_CHUNK_SIZE, distinctIds.size()));
+            existingIds.addAll(issueRepository.findExistingIds(chunk));
+            affectedCount += issueRepository.softDeleteByIds(chunk, now);
+        }
+
+        List<Long> missingIds = distinctIds.stream()
+                .filter(id -> !existingIds.contains(id))
+                .toList();
+        if (!missingIds.isEmpty()) {
+            log.warn("삭제 요청된 이슈 ID 중 존재하지 않는 ID가 있습니다. 없는 ID: {}", missingIds);
         }
-        issues.forEach(Issue::delete);
-        issueRepository.saveAll(issues); // 변경 감지 또는 명시적 저장
-        log.info("관리자 이슈 논리적 삭제 완료 (IDs: {})", ids);
+
+        eventPublisher.publishEvent(IssuesChangedEvent.of(existingIds));
+        log.info("관리자 이슈 논리적 삭제 완료 (요청: {}건, 삭제: {}건)", distinctIds.size(), affectedCount);
+        return FeignIssueDeleteResponseDto.builder()
+                .affectedCount(affectedCount)
+                .missingIds(missingIds)
+                .build();
     }
 
 
-    // --- 일반 사용자용 이슈 상세 조회 (기존 코드) ---
+    // --- 일반 사용자용 이슈 상세 조회 (캐시 사용) ---
     public IssueDetailDto getIssueDetail(Long coinId, Long issueId) {
-        Issue issue = issueRepository.findById(issueId)
-                .filter(i -> !i.isDeleted()) // 일반 사용자는 삭제되지 않은 것만 조회
+        IssueDetailDto issueDetail = findIssueDetail(coinId, issueId);
+        issueViewTracker.recordView(issueId);
+        return issueDetail;
+    }
+
+
+    // 이슈 상세 ETag/Last-Modified (캐시된 상세 프로젝션의 updatedAt 기준, 본문 변환 없이)
+    public ResourceVersion getIssueDetailVersion(Long coinId, Long issueId) {
+        IssueDetailRow row = findIssueRow(coinId, issueId);
+        return ResourceVersion.of(row.updatedAt(), "issue", issueId, row.updatedAt());
+    }
+
+    // 304로 응답해도 조회는 조회이므로 집계
+    public void recordView(Long issueId) {
+        issueViewTracker.recordView(issueId);
+    }
+
+
+    // --- 일반 사용자용 이슈 AI 생성 요청 ---
+    // 요청 횟수는 IssueRequestCounter에 누적 후 주기적으로 DB 반영
+    // 생성은 작업 큐에 등록만 하고 IssueGenerationWorker가 비동기로 처리 (같은 차트는 한 번만)
+    public void requestGeneration(Long coinId, Long issueId) {
+        IssueDetailRow issue = findIssueRow(coinId, issueId); // 존재 여부/코인 일치 확인
+        issueRequestCounter.increment(issueId); // 생성 기능을 꺼 두어도 요청 횟수는 집계
+
+        IssueGenerationQueue queue = issueGenerationQueue.getIfAvailable();
+        if (queue == null) {
+            throw new IssueException(IssueErrorCode.ISSUE_GENERATION_UNAVAILABLE);
+        }
+        queue.enqueue(issue);
+    }
+
+
+    // --- 일반 사용자용 인기 이슈 (메모리 스냅샷) ---
+    public List<TrendingIssueDto> getTrendingIssues(int limit) {
+        return issueViewTracker.getTrending(Math.max(1, Math.min(limit, issueViewTracker.getMaxSize())));
+    }
+
+
+    private IssueDetailDto findIssueDetail(Long coinId, Long issueId) {
+        return findIssueRow(coinId, issueId).toDto(); // 일반 사용자에게 필요한 정보만 담은 DTO 반환
+    }
+
+    private IssueDetailRow findIssueRow(Long coinId, Long issueId) {
+        return issueDetailCache.get(issueId)
+                .filter(row -> !row.deleted()) // 일반 사용자는 삭제되지 않은 것만 조회
+                .filter(row -> row.coinId() != null && row.coinId().equals(coinId)) // 다른 코인의 이슈 id로 조회 방지
                 .orElseThrow(() -> new IssueException(IssueErrorCode.NOT_EXIST_ISSUE));
-        // 일반 사용자에게 필요한 정보만 담은 DTO 반환
-        return new IssueDetailDto(issue.getTitle(), issue.getContent(), issue.getNewsTitle(), issue.getSource());
     }
 
 
@@ -0,0 +1,148 @@
+package com.cryptory.be.issue.service;
+
+import com.cryptory.be.issue.dto.IssueDetailRow;
+import com.cryptory.be.issue.dto.TrendingIssueDto;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.*;
+
+/**
+ * 이슈 조회수 집계와 인기 이슈 목록
+ * - 조회 기록은 LongAdder 증가만 (잠금 없음)
+ * - 조회수는 주기적으로 issues.view_count에 더함
+ * - 인기 점수는 반감기(half-life)로 감쇠하는 조회수, 몇 초마다 다시 계산해 상위 목록을 스냅샷으로 교체
+ * 인기 이슈 요청은 스냅샷만 읽으므로 DB를 조회하지 않는다.
+ */
+@Slf4j
+@Component
+public class IssueViewTracker {
+
+    private static final double MIN_SCORE = 0.01; // 이보다 낮으면 목록에서 제외
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final IssueDetailCache issueDetailCache;
+    private final WriteBehindCounter views =
+            new WriteBehindCounter("UPDATE issues SET view_count = COALESCE(view_count, 0) + ? WHERE id = ?");
+
+    private final double decayPerNano;
+    private final int maxSize;
+
+    // 점수 계산 상태 (recompute()에서만 접근)
+    private final Map<Long, Score> scores = new HashMap<>();
+    private long lastRecomputedAt = System.nanoTime();
+
+    private volatile List<TrendingIssueDto> trending = List.of();
+
+    private final Counter flushFailures;
+
+    public IssueViewTracker(JdbcTemplate jdbcTemplate,
+                            TransactionTemplate transactionTemplate,
+                            IssueDetailCache issueDetailCache,
+                            @Value("${issue.trending.half-life-seconds:3600}") long halfLifeSeconds,
+                            @Value("${issue.trending.max-size:50}") int maxSize,
+                            MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.issueDetailCache = issueDetailCache;
+        this.decayPerNano = Math.log(2) / (halfLifeSeconds * 1_000_000_000.0);
+        this.maxSize = maxSize;
+        this.flushFailures = meterRegistry.counter("issue.view.count.flush.failures");
+        meterRegistry.gauge("issue.view.count.pending", views, WriteBehindCounter::pending);
+    }
+
+    public void recordView(Long issueId) {
+        views.increment(issueId);
+    }
+
+    // 최근 계산된 인기 이슈 상위 limit개
+    public List<TrendingIssueDto> getTrending(int limit) {
+        List<TrendingIssueDto> snapshot = trending;
+        return snapshot.subList(0, Math.min(Math.max(limit, 0), snapshot.size()));
+    }
+
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    @Scheduled(fixedDelayString = "${issue.trending.recompute-ms:5000}")
+    public synchronized void recompute() {
+        long now = System.nanoTime();
+        double decay = Math.exp(-decayPerNano * (now - lastRecomputedAt));
+        lastRecomputedAt = now;
+
+        // 지난 계산 이후 늘어난 조회수만큼 더하고 나머지는 감쇠
+        views.forEachTotal((issueId, total) -> {
+            Score score = scores.computeIfAbsent(issueId, id -> new Score());
+            score.value = score.value * decay + (total - score.seenViews);
+            score.seenViews = total;
+        });
+
+        // 점수 오름차순 min-heap으로 상위 maxSize개
+        PriorityQueue<Map.Entry<Long, Score>> heap = new PriorityQueue<>(maxSize + 1,
+                Comparator.comparingDouble((Map.Entry<Long, Score> e) -> e.getValue().value));
+        for (Map.Entry<Long, Score> entry : scores.entrySet()) {
+            if (entry.getValue().value < MIN_SCORE) {
+                continue;
+            }
+            if (heap.size() < maxSize) {
+                heap.add(entry);
+            } else if (entry.getValue().value > heap.peek().getValue().value) {
+                heap.poll();
+                heap.add(entry);
+            }
+        }
+
+        List<TrendingIssueDto> result = new ArrayList<>(heap.size());
+        while (!heap.isEmpty()) {
+            Map.Entry<Long, Score> entry = heap.poll();
+            // 제목/코인은 상세 캐시에서 (삭제된 이슈는 제외)
+            issueDetailCache.get(entry.getKey())
+                    .filter(row -> !row.deleted())
+                    .ifPresent(row -> result.add(toDto(row, entry.getValue().value)));
+        }
+        Collections.reverse(result);
+        trending = List.copyOf(result);
+    }
+
+    @Scheduled(initialDelayString = "${issue.view-count.flush-ms:10000}",
+            fixedDelayString = "${issue.view-count.flush-ms:10000}")
+    public void flush() {
+        try {
+            views.flush(jdbcTemplate, transactionTemplate);
+        } catch (DataAccessException | TransactionException e) {
+            // 반영하지 못한 조회수는 다음 주기에 다시 시도
+            flushFailures.increment();
+            log.error("이슈 조회수 반영 실패", e);
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    private static TrendingIssueDto toDto(IssueDetailRow row, double score) {
+        return TrendingIssueDto.builder()
+                .issueId(row.issueId())
+                .coinId(row.coinId())
+                .title(row.title())
+                .score(Math.round(score * 100) / 100.0)
+                .build();
+    }
+
+    private static final class Score {
+        private double value;
+        private long seenViews;
+    }
+}
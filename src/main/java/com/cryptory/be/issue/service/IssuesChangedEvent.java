@@ -0,0 +1,16 @@
+package com.cryptory.be.issue.service;
+
+import java.util.Collection;
+import java.util.List;
+
+// 이슈 생성/수정/삭제 이벤트 (캐시 무효화용, 트랜잭션 완료 후 처리)
+public record IssuesChangedEvent(List<Long> issueIds) {
+
+    public static IssuesChangedEvent of(Long issueId) {
+        return new IssuesChangedEvent(List.of(issueId));
+    }
+
+    public static IssuesChangedEvent of(Collection<Long> issueIds) {
+        return new IssuesChangedEvent(List.copyOf(issueIds));
+    }
+}
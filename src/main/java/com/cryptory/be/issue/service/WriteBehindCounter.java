@@ -0,0 +1,78 @@
+package com.cryptory.be.issue.service;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.ObjLongConsumer;
+
+/**
+ * 이슈 id별 누적 카운터 + DB 지연 반영
+ * - increment는 LongAdder만 건드리므로 잠금 없음
+ * - 누적값은 초기화하지 않고, 반영한 값(flushed)과의 차이만 DB에 더한다 (반영 중 들어온 증가분 유실 없음)
+ * - batch UPDATE는 한 트랜잭션으로 실행, 실패하면 전부 롤백되고 flushed를 그대로 두어 다음 반영 때 다시 시도
+ * 카운터는 이슈 수만큼만 생기므로 제거하지 않는다.
+ */
+final class WriteBehindCounter {
+
+    private final String flushSql;
+    private final ConcurrentHashMap<Long, LongAdder> totals = new ConcurrentHashMap<>();
+    private final Map<Long, Long> flushed = new HashMap<>(); // synchronized(this)
+
+    // flushSql 파라미터 순서: (증가분, 이슈 id)
+    WriteBehindCounter(String flushSql) {
+        this.flushSql = flushSql;
+    }
+
+    void increment(Long issueId) {
+        LongAdder adder = totals.get(issueId);
+        if (adder == null) {
+            adder = totals.computeIfAbsent(issueId, id -> new LongAdder());
+        }
+        adder.increment();
+    }
+
+    // 서버 시작 이후 누적값 (DB 반영 여부와 무관)
+    void forEachTotal(ObjLongConsumer<Long> consumer) {
+        totals.forEach((issueId, adder) -> consumer.accept(issueId, adder.sum()));
+    }
+
+    synchronized long pending() {
+        long pending = 0;
+        for (Map.Entry<Long, LongAdder> e : totals.entrySet()) {
+            pending += e.getValue().sum() - flushed.getOrDefault(e.getKey(), 0L);
+        }
+        return pending;
+    }
+
+    // 반영한 증가분 합계 반환, DB/트랜잭션 오류는 그대로 던진다
+    synchronized long flush(JdbcTemplate jdbcTemplate, TransactionOperations transactionOperations) {
+        List<Long> issueIds = new ArrayList<>();
+        List<Long> sums = new ArrayList<>();
+        List<Object[]> args = new ArrayList<>();
+        for (Map.Entry<Long, LongAdder> e : totals.entrySet()) {
+            long sum = e.getValue().sum();
+            long delta = sum - flushed.getOrDefault(e.getKey(), 0L);
+            if (delta > 0) {
+                issueIds.add(e.getKey());
+                sums.add(sum);
+                args.add(new Object[]{delta, e.getKey()});
+            }
+        }
+        if (args.isEmpty()) {
+            return 0;
+        }
+
+        // 일부 행만 반영된 채 실패하면 다음 반영 때 같은 증가분을 다시 더하게 되므로 전부 반영하거나 전부 롤백
+        transactionOperations.executeWithoutResult(status -> jdbcTemplate.batchUpdate(flushSql, args));
+
+        long total = 0;
+        for (int i = 0; i < issueIds.size(); i++) {
+            Long previous = flushed.put(issueIds.get(i), sums.get(i));
+            total += sums.get(i) - (previous == null ? 0L : previous);
+        }
+        return total;
+    }
+}
@@ -1,16 +1,22 @@
 package com.cryptory.be.news.controller;
 
 import com.cryptory.be.global.response.ApiResponse;
+import com.cryptory.be.global.response.CursorPage;
+import com.cryptory.be.global.response.ResourceVersion;
 import com.cryptory.be.news.dto.NewsDto;
+import com.cryptory.be.news.service.NewsArchiveService;
 import com.cryptory.be.news.service.NewsService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
+import java.util.Optional;
 
 @RestController
 @RequestMapping("/api/v1/news")
@@ -18,10 +24,28 @@ import java.util.List;
 public class NewsController {
 
     private final NewsService newsService;
+    private final NewsArchiveService newsArchiveService;
 
+    // 최신순, metadata.nextCursor를 cursor로 넘기면 다음 페이지 (가져온 시각이 같으면 304)
     @GetMapping
-    public ApiResponse<NewsDto> getNews() {
-        List<NewsDto> news = newsService.getNews();
+    public ApiResponse<NewsDto> getNews(@RequestParam(value = "cursor", required = false) String cursor,
+                                        @RequestParam(value = "size", defaultValue = "10") int size,
+                                        WebRequest webRequest) {
+        Optional<ResourceVersion> version = newsService.getNewsVersion(cursor, size);
+        if (version.isPresent() && version.get().checkNotModified(webRequest)) {
+            return null; // 304
+        }
+        CursorPage<NewsDto> news = newsService.getNews(cursor, size);
+
+        return new ApiResponse<>(HttpStatus.OK, news);
+    }
+
+    // 저장된 뉴스 검색 (coinId가 있으면 해당 코인 뉴스만)
+    @GetMapping("/search")
+    public ApiResponse<NewsDto> searchNews(@RequestParam("q") String query,
+                                           @RequestParam(value = "coinId", required = false) Long coinId,
+                                           @RequestParam(value = "size", defaultValue = "20") int size) {
+        List<NewsDto> news = newsArchiveService.search(query, coinId, size);
 
         return new ApiResponse<>(HttpStatus.OK, news);
     }
@@ -0,0 +1,31 @@
+package com.cryptory.be.news.controller;
+
+import com.cryptory.be.global.response.ApiResponse;
+import com.cryptory.be.news.dto.NewsDto;
+import com.cryptory.be.news.service.NewsService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Mono;
+
+// 뉴스 목록 API의 논블로킹 버전 (/api/v1/news와 같은 ApiResponse, 캐시 미스 시에도 요청 스레드를 점유하지 않음)
+@RestController
+@RequestMapping("/api/v1/reactive/news")
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "reactive.api.enabled", havingValue = "true", matchIfMissing = true)
+public class ReactiveNewsController {
+
+    private final NewsService newsService;
+
+    // 최신순, metadata.nextCursor를 cursor로 넘기면 다음 페이지
+    @GetMapping
+    public Mono<ApiResponse<NewsDto>> getNews(@RequestParam(value = "cursor", required = false) String cursor,
+                                              @RequestParam(value = "size", defaultValue = "10") int size) {
+        return newsService.getNewsReactive(cursor, size)
+                .map(news -> new ApiResponse<NewsDto>(HttpStatus.OK, news));
+    }
+}
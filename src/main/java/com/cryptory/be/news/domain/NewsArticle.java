@@ -0,0 +1,71 @@
+package com.cryptory.be.news.domain;
+
+import com.cryptory.be.global.entity.BaseTimeEntity;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.Set;
+
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Entity
+@Table(name = "news_articles", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_news_articles_normalized_link", columnNames = "normalized_link"),
+        @UniqueConstraint(name = "uk_news_articles_content_hash", columnNames = "content_hash")
+})
+public class NewsArticle extends BaseTimeEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(length = 500)
+    private String title;
+
+    @Column(length = 1000)
+    private String link;
+
+    // 중복 판별용 정규화 링크
+    @Column(name = "normalized_link", nullable = false, length = 700)
+    private String normalizedLink;
+
+    // 제목 + 요약 SHA-256
+    @Column(name = "content_hash", nullable = false, length = 64)
+    private String contentHash;
+
+    @Column(columnDefinition = "TEXT")
+    private String description;
+
+    // 기사 발행 시각
+    private LocalDateTime publishedAt;
+
+    // 이 기사가 검색된 검색어 (코인 한글 이름, "코인")
+    @ElementCollection(fetch = FetchType.LAZY)
+    @CollectionTable(name = "news_article_keywords", joinColumns = @JoinColumn(name = "news_article_id"))
+    @Column(name = "keyword", length = 100)
+    private Set<String> keywords = new HashSet<>();
+
+    @Builder
+    public NewsArticle(String title, String link, String normalizedLink, String contentHash,
+                       String description, LocalDateTime publishedAt, String keyword) {
+        this.title = title;
+        this.link = link;
+        this.normalizedLink = normalizedLink;
+        this.contentHash = contentHash;
+        this.description = description;
+        this.publishedAt = publishedAt;
+        if (keyword != null) {
+            this.keywords.add(keyword);
+        }
+    }
+
+    // 새로 추가된 검색어면 true
+    public boolean addKeyword(String keyword) {
+        return keywords.add(keyword);
+    }
+}
@@ -9,7 +9,9 @@ import org.springframework.http.HttpStatus;
 @RequiredArgsConstructor
 public enum NewsErrorCode implements ErrorCode {
 
-    NEWS_LOAD_FAILED(HttpStatus.NOT_FOUND, "네이버 API 오류입니다. 뉴스를 가져오는 중 오류가 발생했습니다.");
+    NEWS_LOAD_FAILED(HttpStatus.NOT_FOUND, "네이버 API 오류입니다. 뉴스를 가져오는 중 오류가 발생했습니다."),
+    INVALID_SEARCH_QUERY(HttpStatus.BAD_REQUEST, "검색어를 입력해 주세요."),
+    INVALID_CURSOR(HttpStatus.BAD_REQUEST, "올바르지 않은 커서입니다.");
 
     private final HttpStatus httpStatus;
     private final String message;
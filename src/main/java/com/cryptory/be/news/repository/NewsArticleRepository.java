@@ -0,0 +1,25 @@
+package com.cryptory.be.news.repository;
+
+import com.cryptory.be.news.domain.NewsArticle;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface NewsArticleRepository extends JpaRepository<NewsArticle, Long> {
+
+    @Query("SELECT a FROM NewsArticle a WHERE a.normalizedLink IN :links OR a.contentHash IN :hashes")
+    List<NewsArticle> findDuplicates(@Param("links") Collection<String> links, @Param("hashes") Collection<String> hashes);
+
+    // 색인 재구성용 id 순 페이지 조회 (offset 없이 마지막 id 기준)
+    @Query("SELECT a FROM NewsArticle a WHERE a.id > :lastId ORDER BY a.id")
+    List<NewsArticle> findNextChunk(@Param("lastId") Long lastId, Pageable pageable);
+
+    @Query("SELECT a.id, k FROM NewsArticle a JOIN a.keywords k WHERE a.id IN :ids")
+    List<Object[]> findKeywordsByIdIn(@Param("ids") Collection<Long> ids);
+}
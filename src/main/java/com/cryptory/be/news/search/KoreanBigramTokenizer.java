@@ -0,0 +1,66 @@
+package com.cryptory.be.news.search;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 뉴스 검색용 토크나이저
+ * - 한글 연속 구간: 2글자씩 겹치게 자른 bigram ("비트코인" -> 비트, 트코, 코인), 한 글자면 그대로
+ * - 영문/숫자 연속 구간: 소문자 단어 하나 ("ETF" -> etf)
+ * - 그 외 문자(공백, 문장부호, 태그 기호)는 구분자로 취급
+ * 형태소 분석 없이도 조사가 붙은 단어("비트코인이")와 부분 검색("코인")이 맞아 떨어진다.
+ */
+public class KoreanBigramTokenizer {
+
+    private static final int NONE = 0;
+    private static final int HANGUL = 1;
+    private static final int ALNUM = 2;
+
+    private KoreanBigramTokenizer() {
+    }
+
+    public static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null || text.isEmpty()) {
+            return tokens;
+        }
+
+        int runStart = 0;
+        int runType = NONE;
+        for (int i = 0; i <= text.length(); i++) {
+            int type = i < text.length() ? typeOf(text.charAt(i)) : NONE;
+            if (type == runType) {
+                continue;
+            }
+            emit(text, runStart, i, runType, tokens);
+            runStart = i;
+            runType = type;
+        }
+        return tokens;
+    }
+
+    private static void emit(String text, int start, int end, int type, List<String> tokens) {
+        if (type == HANGUL) {
+            if (end - start == 1) {
+                tokens.add(text.substring(start, end));
+                return;
+            }
+            for (int i = start; i + 1 < end; i++) {
+                tokens.add(text.substring(i, i + 2));
+            }
+        } else if (type == ALNUM) {
+            tokens.add(text.substring(start, end).toLowerCase(Locale.ROOT));
+        }
+    }
+
+    private static int typeOf(char c) {
+        if (c >= '가' && c <= '힣') { // 완성형 한글 음절
+            return HANGUL;
+        }
+        if ((c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9')) {
+            return ALNUM;
+        }
+        return NONE;
+    }
+}
@@ -0,0 +1,227 @@
+package com.cryptory.be.news.search;
+
+import com.cryptory.be.global.util.NewsTextUtils;
+
+import java.util.*;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 뉴스 제목/요약 역색인 (프로세스 내 메모리)
+ * - 문서는 추가 순서대로 0부터 docId를 받고, posting 목록은 docId 오름차순으로 쌓인다.
+ * - 점수는 BM25, 제목 토큰은 가중치 2배
+ * - 검색어(코인 이름)별 문서 집합을 BitSet으로 들고 있어 코인 필터는 비트 확인 한 번으로 끝난다.
+ * - 점수는 검색마다 검색어 posting 수 크기의 맵에 누적 (전체 문서 수 크기 버퍼를 스레드마다 들고 있지 않음)
+ * 쓰기는 write lock, 검색은 read lock으로 보호한다.
+ */
+public class NewsSearchIndex {
+
+    private static final float K1 = 1.2f;
+    private static final float B = 0.75f;
+    private static final int TITLE_WEIGHT = 2;
+    private static final int MAX_TF = Byte.MAX_VALUE;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final Map<String, Postings> postings = new HashMap<>();
+    private final Map<String, BitSet> keywordDocs = new HashMap<>();
+    private final Map<Long, Integer> docIdByArticleId = new HashMap<>();
+
+    private long[] articleIds = new long[1024];
+    private int[] docLengths = new int[1024];
+    private int docCount;
+    private long totalLength;
+
+    // 기사 추가, 이미 색인된 기사면 검색어만 추가
+    public void add(long articleId, String title, String description, Collection<String> keywords) {
+        lock.writeLock().lock();
+        try {
+            Integer existing = docIdByArticleId.get(articleId);
+            if (existing != null) {
+                addKeywords(existing, keywords);
+                return;
+            }
+            addDocument(articleId, title, description, keywords);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return docCount;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 상위 k개 검색
+     * @param keyword null이면 전체, 아니면 해당 검색어로 수집된 기사만
+     */
+    public List<Hit> search(String query, String keyword, int k) {
+        List<String> terms = distinct(KoreanBigramTokenizer.tokenize(NewsTextUtils.stripHtml(query)));
+        if (terms.isEmpty() || k <= 0) {
+            return List.of();
+        }
+
+        lock.readLock().lock();
+        try {
+            if (docCount == 0) {
+                return List.of();
+            }
+            BitSet filter = null;
+            if (keyword != null) {
+                filter = keywordDocs.get(keyword);
+                if (filter == null) {
+                    return List.of();
+                }
+            }
+
+            List<Postings> matched = new ArrayList<>(terms.size());
+            int maxHits = 0;
+            for (String term : terms) {
+                Postings p = postings.get(term);
+                if (p != null) {
+                    matched.add(p);
+                    maxHits += p.size;
+                }
+            }
+            if (matched.isEmpty()) {
+                return List.of();
+            }
+
+            ScoreMap scores = new ScoreMap(Math.min(maxHits, filter == null ? docCount : filter.cardinality()));
+            float avgLength = (float) totalLength / docCount;
+
+            for (Postings p : matched) {
+                float idf = (float) Math.log(1 + (docCount - p.size + 0.5) / (p.size + 0.5));
+                for (int i = 0; i < p.size; i++) {
+                    int doc = p.docs[i];
+                    if (filter != null && !filter.get(doc)) {
+                        continue;
+                    }
+                    int tf = p.tfs[i];
+                    float norm = K1 * (1 - B + B * docLengths[doc] / avgLength);
+                    scores.add(doc, idf * tf * (K1 + 1) / (tf + norm));
+                }
+            }
+
+            return topK(scores, k);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private List<Hit> topK(ScoreMap scores, int k) {
+        // 점수 오름차순 min-heap, 동점이면 먼저 색인된(오래된) 문서가 밀려남 (맵 순회 순서와 관계없이 같은 결과)
+        PriorityQueue<Hit> heap = new PriorityQueue<>(k + 1,
+                Comparator.comparingDouble(Hit::score).thenComparingLong(Hit::articleId));
+        for (int slot = 0; slot < scores.docs.length; slot++) {
+            int doc = scores.docs[slot];
+            if (doc == ScoreMap.EMPTY) {
+                continue;
+            }
+            float score = scores.values[slot];
+            long articleId = articleIds[doc];
+            if (heap.size() < k) {
+                heap.add(new Hit(articleId, score));
+                continue;
+            }
+            Hit min = heap.peek();
+            if (score > min.score() || (score == min.score() && articleId > min.articleId())) {
+                heap.poll();
+                heap.add(new Hit(articleId, score));
+            }
+        }
+
+        List<Hit> hits = new ArrayList<>(heap);
+        hits.sort(Comparator.comparingDouble(Hit::score).reversed().thenComparing(Comparator.comparingLong(Hit::articleId).reversed()));
+        return hits;
+    }
+
+    private void addDocument(long articleId, String title, String description, Collection<String> keywords) {
+        Map<String, Integer> termFreq = new HashMap<>();
+        int length = 0;
+        for (String token : KoreanBigramTokenizer.tokenize(NewsTextUtils.stripHtml(title))) {
+            termFreq.merge(token, TITLE_WEIGHT, Integer::sum);
+            length += TITLE_WEIGHT;
+        }
+        for (String token : KoreanBigramTokenizer.tokenize(NewsTextUtils.stripHtml(description))) {
+            termFreq.merge(token, 1, Integer::sum);
+            length++;
+        }
+
+        int docId = docCount;
+        if (docId == articleIds.length) {
+            articleIds = Arrays.copyOf(articleIds, docId * 2);
+            docLengths = Arrays.copyOf(docLengths, docId * 2);
+        }
+        articleIds[docId] = articleId;
+        docLengths[docId] = length;
+        docCount++;
+        totalLength += length;
+        docIdByArticleId.put(articleId, docId);
+
+        termFreq.forEach((term, tf) -> postings.computeIfAbsent(term, t -> new Postings()).add(docId, Math.min(tf, MAX_TF)));
+        addKeywords(docId, keywords);
+    }
+
+    private void addKeywords(int docId, Collection<String> keywords) {
+        if (keywords == null) {
+            return;
+        }
+        for (String keyword : keywords) {
+            keywordDocs.computeIfAbsent(keyword, kw -> new BitSet()).set(docId);
+        }
+    }
+
+    private static List<String> distinct(List<String> tokens) {
+        return new ArrayList<>(new LinkedHashSet<>(tokens));
+    }
+
+    public record Hit(long articleId, float score) {
+    }
+
+    private static final class Postings {
+        private int[] docs = new int[4];
+        private byte[] tfs = new byte[4];
+        private int size;
+
+        private void add(int docId, int tf) {
+            if (size == docs.length) {
+                docs = Arrays.copyOf(docs, size * 2);
+                tfs = Arrays.copyOf(tfs, size * 2);
+            }
+            docs[size] = docId;
+            tfs[size] = (byte) tf;
+            size++;
+        }
+    }
+
+    // 검색 한 번의 docId -> 점수 (open addressing, 크기는 검색어 posting 수 합에 비례)
+    private static final class ScoreMap {
+        private static final int EMPTY = -1;
+
+        private final int[] docs;
+        private final float[] values;
+        private final int mask;
+
+        private ScoreMap(int expected) {
+            int capacity = Integer.highestOneBit(Math.max(2, expected) * 2 - 1) << 1; // 채움 비율 0.5 이하
+            docs = new int[capacity];
+            values = new float[capacity];
+            mask = capacity - 1;
+            Arrays.fill(docs, EMPTY);
+        }
+
+        private void add(int doc, float score) {
+            int slot = doc * 0x9E3779B9 & mask;
+            while (docs[slot] != EMPTY && docs[slot] != doc) {
+                slot = (slot + 1) & mask;
+            }
+            docs[slot] = doc;
+            values[slot] += score;
+        }
+    }
+}
@@ -0,0 +1,213 @@
+package com.cryptory.be.news.service;
+
+import com.cryptory.be.coin.exception.CoinErrorCode;
+import com.cryptory.be.coin.exception.CoinException;
+import com.cryptory.be.coin.repository.CoinRepository;
+import com.cryptory.be.global.util.DateFormat;
+import com.cryptory.be.global.util.NewsTextUtils;
+import com.cryptory.be.news.domain.NewsArticle;
+import com.cryptory.be.news.dto.NewsDto;
+import com.cryptory.be.news.exception.NewsErrorCode;
+import com.cryptory.be.news.exception.NewsException;
+import com.cryptory.be.news.repository.NewsArticleRepository;
+import com.cryptory.be.news.search.NewsSearchIndex;
+import com.cryptory.be.openapi.dto.NaverNews;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.*;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 네이버에서 받아온 뉴스를 저장하고 검색 색인을 유지
+ * - 정규화 링크 또는 본문 해시가 같으면 같은 기사로 보고 검색어만 추가
+ * - 저장/색인은 단일 스레드(newsArchiveExecutor)에서 순서대로 처리
+ */
+@Slf4j
+@Service
+public class NewsArchiveService {
+
+    private static final int INDEX_BUILD_CHUNK = 1000;
+    private static final int MAX_SEARCH_SIZE = 50;
+
+    private final NewsArticleRepository newsArticleRepository;
+    private final CoinRepository coinRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final Executor archiveExecutor;
+
+    private final NewsSearchIndex searchIndex = new NewsSearchIndex();
+
+    public NewsArchiveService(NewsArticleRepository newsArticleRepository,
+                              CoinRepository coinRepository,
+                              TransactionTemplate transactionTemplate,
+                              @Qualifier("newsArchiveExecutor") Executor archiveExecutor) {
+        this.newsArticleRepository = newsArticleRepository;
+        this.coinRepository = coinRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.archiveExecutor = archiveExecutor;
+    }
+
+    // 서버 시작 시 저장된 기사로 색인 재구성
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildIndex() {
+        submit(this::loadIndex);
+    }
+
+    @EventListener
+    public void onNewsFetched(NewsFetchedEvent event) {
+        submit(() -> ingest(event.keyword(), event.items()));
+    }
+
+    public void ingest(String keyword, List<NaverNews> items) {
+        if (items == null || items.isEmpty()) {
+            return;
+        }
+
+        // 같은 응답 안에서 먼저 중복 제거
+        Map<String, NaverNews> byLink = new LinkedHashMap<>();
+        Map<String, String> hashByLink = new HashMap<>();
+        Set<String> hashes = new HashSet<>();
+        for (NaverNews news : items) {
+            String normalizedLink = NewsTextUtils.normalizeLink(news.getLink());
+            String hash = NewsTextUtils.contentHash(news.getTitle(), news.getDescription());
+            if (normalizedLink.isEmpty() || byLink.containsKey(normalizedLink) || !hashes.add(hash)) {
+                continue;
+            }
+            byLink.put(normalizedLink, news);
+            hashByLink.put(normalizedLink, hash);
+        }
+        if (byLink.isEmpty()) {
+            return;
+        }
+
+        List<NewsArticle> touched = transactionTemplate.execute(status -> {
+            List<NewsArticle> duplicates = newsArticleRepository.findDuplicates(byLink.keySet(), hashes);
+            Set<String> knownLinks = new HashSet<>();
+            Set<String> knownHashes = new HashSet<>();
+            for (NewsArticle article : duplicates) {
+                article.addKeyword(keyword);
+                article.getKeywords().size(); // 색인용으로 트랜잭션 안에서 초기화
+                knownLinks.add(article.getNormalizedLink());
+                knownHashes.add(article.getContentHash());
+            }
+
+            List<NewsArticle> created = byLink.entrySet().stream()
+                    .filter(entry -> !knownLinks.contains(entry.getKey()))
+                    .filter(entry -> !knownHashes.contains(hashByLink.get(entry.getKey())))
+                    .map(entry -> NewsArticle.builder()
+                            .title(entry.getValue().getTitle())
+                            .link(entry.getValue().getLink())
+                            .normalizedLink(entry.getKey())
+                            .contentHash(hashByLink.get(entry.getKey()))
+                            .description(entry.getValue().getDescription())
+                            .publishedAt(parsePublishedAt(entry.getValue().getPubDate()))
+                            .keyword(keyword)
+                            .build())
+                    .toList();
+            newsArticleRepository.saveAll(created);
+
+            List<NewsArticle> result = new ArrayList<>(duplicates);
+            result.addAll(created);
+            return result;
+        });
+
+        // 커밋된 기사만 색인
+        for (NewsArticle article : touched) {
+            searchIndex.add(article.getId(), article.getTitle(), article.getDescription(), Set.copyOf(article.getKeywords()));
+        }
+        log.debug("뉴스 아카이브 저장. keyword: {}, 수신: {}, 반영: {}", keyword, items.size(), touched.size());
+    }
+
+    /**
+     * 저장된 기사 검색
+     * @param coinId 있으면 해당 코인 이름으로 수집된 기사만
+     */
+    public List<NewsDto> search(String query, Long coinId, int size) {
+        if (query == null || query.isBlank()) {
+            throw new NewsException(NewsErrorCode.INVALID_SEARCH_QUERY);
+        }
+
+        String keyword = null;
+        if (coinId != null) {
+            keyword = coinRepository.findById(coinId)
+                    .orElseThrow(() -> new CoinException(CoinErrorCode.COIN_DATA_MISSING))
+                    .getKoreanName();
+        }
+
+        List<NewsSearchIndex.Hit> hits = searchIndex.search(query, keyword, Math.max(1, Math.min(size, MAX_SEARCH_SIZE)));
+        if (hits.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, NewsArticle> articles = newsArticleRepository.findAllById(hits.stream().map(NewsSearchIndex.Hit::articleId).toList())
+                .stream()
+                .collect(Collectors.toMap(NewsArticle::getId, Function.identity()));
+
+        return hits.stream()
+                .map(hit -> articles.get(hit.articleId()))
+                .filter(Objects::nonNull)
+                .map(article -> new NewsDto(article.getTitle(), article.getLink(), article.getDescription(),
+                        article.getPublishedAt() == null ? null : DateFormat.formatDate(article.getPublishedAt())))
+                .toList();
+    }
+
+    private void loadIndex() {
+        long startTime = System.currentTimeMillis();
+        long lastId = 0L;
+        List<NewsArticle> chunk;
+        do {
+            chunk = newsArticleRepository.findNextChunk(lastId, PageRequest.of(0, INDEX_BUILD_CHUNK));
+            if (chunk.isEmpty()) {
+                break;
+            }
+
+            Map<Long, List<String>> keywords = new HashMap<>();
+            for (Object[] row : newsArticleRepository.findKeywordsByIdIn(chunk.stream().map(NewsArticle::getId).toList())) {
+                keywords.computeIfAbsent((Long) row[0], id -> new ArrayList<>()).add((String) row[1]);
+            }
+            for (NewsArticle article : chunk) {
+                searchIndex.add(article.getId(), article.getTitle(), article.getDescription(),
+                        keywords.getOrDefault(article.getId(), List.of()));
+            }
+            lastId = chunk.get(chunk.size() - 1).getId();
+        } while (chunk.size() == INDEX_BUILD_CHUNK);
+
+        log.info("뉴스 검색 색인 구성 완료. 기사 수: {}, 경과시간: {} ms", searchIndex.size(), System.currentTimeMillis() - startTime);
+    }
+
+    private void submit(Runnable task) {
+        try {
+            archiveExecutor.execute(() -> {
+                try {
+                    task.run();
+                } catch (RuntimeException e) {
+                    log.error("뉴스 아카이브 작업 실패", e);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            log.warn("뉴스 아카이브 작업 대기열이 가득 찼습니다. 이번 결과는 저장하지 않습니다.");
+        }
+    }
+
+    private LocalDateTime parsePublishedAt(String pubDate) {
+        if (pubDate == null) {
+            return null;
+        }
+        try {
+            return DateFormat.parseNewsDateTime(pubDate);
+        } catch (DateTimeParseException e) {
+            log.debug("pubDate 파싱 실패: {}", pubDate);
+            return null;
+        }
+    }
+}
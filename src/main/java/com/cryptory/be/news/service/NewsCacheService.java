@@ -0,0 +1,195 @@
+package com.cryptory.be.news.service;
+
+import com.cryptory.be.openapi.dto.NaverNews;
+import com.cryptory.be.openapi.service.NaverQuotaCounter;
+import com.cryptory.be.openapi.service.NaverService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Supplier;
+
+/**
+ * 검색어별 네이버 뉴스 캐시
+ * - TTL 이내: 캐시 그대로 반환
+ * - TTL 초과 ~ stale 허용 구간: 캐시를 반환하고 백그라운드에서 갱신 (stale-while-revalidate)
+ * - stale 허용 구간 초과 또는 캐시 없음: 동기 조회
+ * 같은 검색어의 조회는 동시에 하나만 실행되고 나머지는 그 결과를 기다린다. (getNews, getNewsReactive 공통)
+ */
+@Slf4j
+@Service
+public class NewsCacheService {
+
+    private final NaverService naverService;
+    private final NaverQuotaCounter naverQuotaCounter;
+    private final Executor refreshExecutor;
+    private final ApplicationEventPublisher eventPublisher;
+
+    private final long ttlMillis;
+    private final long staleMillis;
+
+    private final ConcurrentHashMap<String, CachedNews> cache = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, CompletableFuture<CachedNews>> inFlight = new ConcurrentHashMap<>();
+
+    private final Counter freshHits;
+    private final Counter staleHits;
+    private final Counter misses;
+
+    public NewsCacheService(NaverService naverService,
+                            NaverQuotaCounter naverQuotaCounter,
+                            @Qualifier("newsRefreshExecutor") Executor refreshExecutor,
+                            @Value("${news.cache.ttl-seconds:300}") long ttlSeconds,
+                            @Value("${news.cache.stale-seconds:3600}") long staleSeconds,
+                            ApplicationEventPublisher eventPublisher,
+                            MeterRegistry meterRegistry) {
+        this.naverService = naverService;
+        this.naverQuotaCounter = naverQuotaCounter;
+        this.refreshExecutor = refreshExecutor;
+        this.eventPublisher = eventPublisher;
+        this.ttlMillis = ttlSeconds * 1000;
+        this.staleMillis = staleSeconds * 1000;
+
+        this.freshHits = meterRegistry.counter("news.cache.requests", "result", "fresh");
+        this.staleHits = meterRegistry.counter("news.cache.requests", "result", "stale");
+        this.misses = meterRegistry.counter("news.cache.requests", "result", "miss");
+    }
+
+    public List<NaverNews> getNews(String word) {
+        CachedNews cached = cache.get(word);
+        List<NaverNews> hit = fromCache(word, cached);
+        if (hit != null) {
+            return hit;
+        }
+
+        misses.increment();
+        try {
+            // 호출한 스레드에서 바로 조회 (이미 조회 중이면 그 결과를 기다림)
+            return load(word, () -> fetch(word, Runnable::run)).join().items();
+        } catch (CompletionException e) {
+            if (cached != null) {
+                log.warn("뉴스 갱신 실패, 만료된 캐시로 응답합니다. word: {}, error: {}", word, e.getCause().getMessage());
+                return cached.items();
+            }
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    // getNews의 논블로킹 버전, 캐시 미스 시 WebClient로 조회 (기다리는 동안 스레드를 점유하지 않음)
+    public Mono<List<NaverNews>> getNewsReactive(String word) {
+        CachedNews cached = cache.get(word);
+        List<NaverNews> hit = fromCache(word, cached);
+        if (hit != null) {
+            return Mono.just(hit);
+        }
+
+        misses.increment();
+        // 구독 취소가 다른 요청이 함께 기다리는 조회를 취소하지 않도록 suppressCancel
+        return Mono.fromFuture(() -> load(word, () -> naverService.getNaverNewsWithWordReactive(word).toFuture()), true)
+                .map(CachedNews::items)
+                .onErrorResume(e -> cached != null, e -> {
+                    log.warn("뉴스 갱신 실패, 만료된 캐시로 응답합니다. word: {}, error: {}", word, e.getMessage());
+                    return Mono.just(cached.items());
+                });
+    }
+
+    // TTL 이내면 캐시, stale 허용 구간이면 캐시 + 백그라운드 갱신, 그 외엔 null (조회 필요)
+    private List<NaverNews> fromCache(String word, CachedNews cached) {
+        if (cached == null) {
+            return null;
+        }
+        long age = System.currentTimeMillis() - cached.fetchedAt();
+        if (age < ttlMillis) {
+            freshHits.increment();
+            return cached.items();
+        }
+        if (age < ttlMillis + staleMillis) {
+            staleHits.increment();
+            refreshInBackground(word);
+            return cached.items();
+        }
+        return null;
+    }
+
+    // 백그라운드 갱신 요청, 호출 한도에 가까우면 갱신하지 않음
+    public boolean refreshInBackground(String word) {
+        if (!naverQuotaCounter.hasBackgroundBudget()) {
+            log.debug("네이버 API 호출 한도 보호로 백그라운드 갱신 생략. word: {}", word);
+            return false;
+        }
+        load(word, () -> fetch(word, refreshExecutor));
+        return true;
+    }
+
+    // 마지막 조회 이후 경과 시간(ms), 캐시가 없으면 -1
+    public long getAgeMillis(String word) {
+        CachedNews cached = cache.get(word);
+        return cached == null ? -1 : System.currentTimeMillis() - cached.fetchedAt();
+    }
+
+    // TTL 이내 캐시를 가져온 시각(epoch ms), 없거나 만료됐으면 -1 (응답 검증자용, getNews가 같은 캐시를 반환함이 보장될 때만)
+    public long getFreshFetchedAt(String word) {
+        CachedNews cached = cache.get(word);
+        if (cached == null || System.currentTimeMillis() - cached.fetchedAt() >= ttlMillis) {
+            return -1;
+        }
+        return cached.fetchedAt();
+    }
+
+    // 같은 검색어로 조회 중이면 그 future, 아니면 fetcher로 새로 조회해 캐시에 넣고 이벤트 발행
+    private CompletableFuture<CachedNews> load(String word, Supplier<CompletableFuture<List<NaverNews>>> fetcher) {
+        CompletableFuture<CachedNews> future = new CompletableFuture<>();
+        CompletableFuture<CachedNews> running = inFlight.putIfAbsent(word, future);
+        if (running != null) {
+            return running;
+        }
+
+        CompletableFuture<List<NaverNews>> fetched;
+        try {
+            fetched = fetcher.get();
+        } catch (RejectedExecutionException e) {
+            log.warn("뉴스 갱신 작업이 거절되었습니다. word: {}", word);
+            inFlight.remove(word, future);
+            future.completeExceptionally(e);
+            return future;
+        }
+
+        fetched.whenComplete((items, error) -> {
+            try {
+                if (error != null) {
+                    future.completeExceptionally(error instanceof CompletionException && error.getCause() != null
+                            ? error.getCause() : error);
+                    return;
+                }
+                CachedNews loaded = new CachedNews(items, System.currentTimeMillis());
+                cache.put(word, loaded);
+                future.complete(loaded);
+                eventPublisher.publishEvent(new NewsFetchedEvent(word, loaded.items()));
+            } finally {
+                inFlight.remove(word, future);
+            }
+        });
+        return future;
+    }
+
+    // 기존 블로킹 조회를 executor에서 실행 (Runnable::run이면 호출한 스레드에서)
+    private CompletableFuture<List<NaverNews>> fetch(String word, Executor executor) {
+        return CompletableFuture.supplyAsync(() -> naverService.getNaverNewsWithWord(word), executor);
+    }
+
+    private record CachedNews(List<NaverNews> items, long fetchedAt) {
+    }
+}
@@ -0,0 +1,91 @@
+package com.cryptory.be.news.service;
+
+import com.cryptory.be.global.response.CursorPage;
+import com.cryptory.be.global.util.DateFormat;
+import com.cryptory.be.global.util.NewsTextUtils;
+import com.cryptory.be.news.exception.NewsErrorCode;
+import com.cryptory.be.news.exception.NewsException;
+import com.cryptory.be.openapi.dto.NaverNews;
+
+import java.nio.charset.StandardCharsets;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+
+/**
+ * 뉴스 목록 정렬 키와 커서
+ * 정렬: 발행 시각 내림차순 -> 정규화 링크 오름차순
+ * 커서: 마지막으로 내려준 기사의 (발행 시각, 정규화 링크)를 base64url로 인코딩한 값
+ * 위치(offset)가 아닌 키 기준이라 그사이 캐시가 갱신되어도 중복/누락 없이 이어진다.
+ */
+public final class NewsCursor {
+
+    private static final char SEPARATOR = '|';
+    private static final int MAX_PAGE_SIZE = 100;
+
+    private NewsCursor() {
+    }
+
+    public static SortKey sortKey(NaverNews news) {
+        return new SortKey(epochSecond(news.getPubDate()), NewsTextUtils.normalizeLink(news.getLink()));
+    }
+
+    // 정렬된 목록에서 커서 다음부터 size개 (1~100)
+    public static CursorPage<NaverNews> page(List<NaverNews> sorted, String cursor, int size) {
+        size = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        SortKey after = cursor == null || cursor.isBlank() ? null : decode(cursor);
+
+        List<NaverNews> items = new ArrayList<>(size);
+        SortKey last = null;
+        boolean hasMore = false;
+        for (NaverNews news : sorted) {
+            SortKey key = sortKey(news);
+            if (after != null && key.compareTo(after) <= 0) {
+                continue;
+            }
+            if (items.size() == size) {
+                hasMore = true;
+                break;
+            }
+            items.add(news);
+            last = key;
+        }
+
+        return new CursorPage<>(items, hasMore ? encode(last) : null);
+    }
+
+    private static String encode(SortKey key) {
+        String raw = key.epochSecond() + String.valueOf(SEPARATOR) + key.link();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static SortKey decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.indexOf(SEPARATOR);
+            return new SortKey(Long.parseLong(raw.substring(0, separator)), raw.substring(separator + 1));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException e) {
+            throw new NewsException(NewsErrorCode.INVALID_CURSOR);
+        }
+    }
+
+    private static long epochSecond(String pubDate) {
+        if (pubDate == null) {
+            return Long.MIN_VALUE;
+        }
+        try {
+            return DateFormat.parseNewsEpochSecond(pubDate);
+        } catch (DateTimeParseException e) {
+            return Long.MIN_VALUE;
+        }
+    }
+
+    public record SortKey(long epochSecond, String link) implements Comparable<SortKey> {
+        @Override
+        public int compareTo(SortKey other) {
+            int byTime = Long.compare(other.epochSecond, epochSecond); // 최신순
+            return byTime != 0 ? byTime : link.compareTo(other.link);
+        }
+    }
+}
@@ -0,0 +1,9 @@
+package com.cryptory.be.news.service;
+
+import com.cryptory.be.openapi.dto.NaverNews;
+
+import java.util.List;
+
+// 네이버에서 뉴스를 새로 가져왔을 때 발행 (아카이브 저장용)
+public record NewsFetchedEvent(String keyword, List<NaverNews> items) {
+}
@@ -0,0 +1,144 @@
+package com.cryptory.be.news.service;
+
+import com.cryptory.be.coin.domain.Coin;
+import com.cryptory.be.coin.repository.CoinRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 노출 중인 코인(Coin.koreanName)과 일반 뉴스 검색어("코인")의 뉴스를 미리 갱신
+ * 검색어마다 다음 갱신 시각을 따로 두고 jitter를 더해 한 번에 몰리지 않게 분산한다.
+ * 갱신 주기는 캐시 TTL보다 짧게 두어 정상 상태에서는 요청이 네이버를 기다리지 않는다.
+ */
+@Slf4j
+@Component
+public class NewsPrefetchScheduler {
+
+    private final NewsCacheService newsCacheService;
+    private final CoinRepository coinRepository;
+    private final MeterRegistry meterRegistry;
+
+    private final boolean enabled;
+    private final long intervalMillis;
+    private final long jitterMillis;
+    private final int maxRefreshPerTick;
+
+    private final Map<String, PrefetchTarget> targets = new ConcurrentHashMap<>();
+
+    public NewsPrefetchScheduler(NewsCacheService newsCacheService,
+                                 CoinRepository coinRepository,
+                                 MeterRegistry meterRegistry,
+                                 @Value("${news.prefetch.enabled:true}") boolean enabled,
+                                 @Value("${news.prefetch.interval-seconds:240}") long intervalSeconds,
+                                 @Value("${news.prefetch.jitter-seconds:30}") long jitterSeconds,
+                                 @Value("${news.prefetch.max-refresh-per-tick:5}") int maxRefreshPerTick) {
+        this.newsCacheService = newsCacheService;
+        this.coinRepository = coinRepository;
+        this.meterRegistry = meterRegistry;
+        this.enabled = enabled;
+        this.intervalMillis = intervalSeconds * 1000;
+        this.jitterMillis = jitterSeconds * 1000;
+        this.maxRefreshPerTick = maxRefreshPerTick;
+    }
+
+    // 노출 코인 목록 동기화 (코인 노출 설정 변경 반영)
+    @Scheduled(initialDelayString = "${news.prefetch.initial-delay-ms:15000}",
+            fixedDelayString = "${news.prefetch.sync-targets-ms:60000}")
+    public void syncTargets() {
+        if (!enabled) {
+            return;
+        }
+
+        Map<String, Long> wanted = new HashMap<>();
+        wanted.put(NewsService.QUERY_WORD, null);
+        for (Coin coin : coinRepository.findDisplayedCoins()) {
+            wanted.putIfAbsent(coin.getKoreanName(), coin.getId());
+        }
+
+        targets.entrySet().removeIf(entry -> {
+            if (wanted.containsKey(entry.getKey())) {
+                return false;
+            }
+            meterRegistry.remove(entry.getValue().freshness);
+            return true;
+        });
+
+        long now = System.currentTimeMillis();
+        wanted.forEach((keyword, coinId) -> targets.computeIfAbsent(keyword, k -> {
+            // 처음 등록된 검색어는 한 주기 안에서 무작위로 시작 시각을 흩뿌림
+            long firstDue = now + ThreadLocalRandom.current().nextLong(Math.max(1, intervalMillis));
+            return new PrefetchTarget(firstDue, registerFreshnessGauge(k, coinId));
+        }));
+    }
+
+    @Scheduled(initialDelayString = "${news.prefetch.initial-delay-ms:15000}",
+            fixedDelayString = "${news.prefetch.tick-ms:5000}")
+    public void prefetch() {
+        if (!enabled) {
+            return;
+        }
+
+        long now = System.currentTimeMillis();
+        int refreshed = 0;
+        for (Map.Entry<String, PrefetchTarget> entry : targets.entrySet()) {
+            PrefetchTarget target = entry.getValue();
+            if (target.nextDueAt > now) {
+                continue;
+            }
+            if (refreshed >= maxRefreshPerTick) {
+                break; // 나머지는 다음 tick에서 처리
+            }
+
+            if (!newsCacheService.refreshInBackground(entry.getKey())) {
+                // 호출 한도 보호 중이면 더 이상 갱신하지 않고 다음 주기로 미룸
+                targets.values().forEach(t -> t.nextDueAt = Math.max(t.nextDueAt, now + intervalMillis));
+                return;
+            }
+            target.nextDueAt = now + intervalMillis + jitter();
+            refreshed++;
+        }
+
+        if (refreshed > 0) {
+            log.debug("뉴스 프리패치 {}건 요청", refreshed);
+        }
+    }
+
+    private long jitter() {
+        if (jitterMillis <= 0) {
+            return 0;
+        }
+        return ThreadLocalRandom.current().nextLong(-jitterMillis, jitterMillis + 1);
+    }
+
+    // 검색어별 캐시 경과 시간(초), 캐시가 없으면 -1
+    private Gauge registerFreshnessGauge(String keyword, Long coinId) {
+        return Gauge.builder("news.cache.age.seconds", newsCacheService,
+                        service -> {
+                            long age = service.getAgeMillis(keyword);
+                            return age < 0 ? -1 : age / 1000.0;
+                        })
+                .description("뉴스 캐시 마지막 갱신 이후 경과 시간")
+                .tag("keyword", keyword)
+                .tag("coinId", coinId == null ? "none" : String.valueOf(coinId))
+                .register(meterRegistry);
+    }
+
+    private static final class PrefetchTarget {
+        private volatile long nextDueAt;
+        private final Gauge freshness;
+
+        private PrefetchTarget(long nextDueAt, Gauge freshness) {
+            this.nextDueAt = nextDueAt;
+            this.freshness = freshness;
+        }
+    }
+}
@@ -1,33 +1,56 @@
 package com.cryptory.be.news.service;
 
+import com.cryptory.be.global.response.CursorPage;
+import com.cryptory.be.global.response.ResourceVersion;
 import com.cryptory.be.global.util.DateFormat;
 import com.cryptory.be.news.dto.NewsDto;
-import com.cryptory.be.openapi.service.NaverService;
+import com.cryptory.be.openapi.dto.NaverNews;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
 
 import java.text.ParseException;
 import java.util.List;
+import java.util.Optional;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class NewsService {
 
-    private final static String QUERY_WORD = "코인";
+    public final static String QUERY_WORD = "코인";
 
-    private final NaverService naverService;
+    private final NewsCacheService newsCacheService;
 
-    public List<NewsDto> getNews() {
-        return naverService.getNaverNewsWithWord(QUERY_WORD).stream()
+    // 뉴스 목록 ETag/Last-Modified (캐시된 뉴스를 가져온 시각 기준, 캐시가 만료됐으면 없음)
+    public Optional<ResourceVersion> getNewsVersion(String cursor, int size) {
+        long fetchedAt = newsCacheService.getFreshFetchedAt(QUERY_WORD);
+        if (fetchedAt < 0) {
+            return Optional.empty();
+        }
+        return Optional.of(ResourceVersion.of(fetchedAt, "news", fetchedAt, cursor, size));
+    }
+
+    // 최신순 목록에서 cursor 다음 size개
+    public CursorPage<NewsDto> getNews(String cursor, int size) {
+        return page(newsCacheService.getNews(QUERY_WORD), cursor, size);
+    }
+
+    // getNews의 논블로킹 버전 (캐시 미스 시 네이버 조회를 기다리는 동안 스레드를 점유하지 않음)
+    public Mono<CursorPage<NewsDto>> getNewsReactive(String cursor, int size) {
+        return newsCacheService.getNewsReactive(QUERY_WORD)
+                .map(news -> page(news, cursor, size));
+    }
+
+    private static CursorPage<NewsDto> page(List<NaverNews> news, String cursor, int size) {
+        return NewsCursor.page(news, cursor, size)
                 .map(naverNews -> {
                     try {
                         return new NewsDto(naverNews.getTitle(), naverNews.getLink(), naverNews.getDescription(), DateFormat.formatNewsDate(naverNews.getPubDate()));
                     } catch (ParseException e) {
                         throw new RuntimeException(e);
                     }
-                })
-                .toList();
+                });
     }
 }
@@ -3,18 +3,16 @@ package com.cryptory.be.openapi.client;
 import com.cryptory.be.openapi.dto.NaverNews;
 
 
+import com.cryptory.be.news.exception.NewsErrorCode;
+import com.cryptory.be.news.exception.NewsException;
 import com.google.gson.Gson;
-import com.google.gson.JsonArray;
-import com.google.gson.JsonObject;
-import jakarta.annotation.PostConstruct;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.modelmapper.TypeToken;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.RestTemplate;
 
-import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
@@ -23,6 +21,7 @@ import java.net.MalformedURLException;
 import java.net.URL;
 import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -44,42 +43,64 @@ public class NaverClient {
     private final static int DISPLAY = 10;
     private final static int START = 1;
     private final static String SORT = "sim"; // "date" 날짜순
+    private final static String ITEMS = "items";
+
+    // Gson과 TypeAdapter는 thread-safe 하므로 요청마다 만들지 않고 공유
+    private final static Gson GSON = new Gson();
+    private final static TypeAdapter<NaverNews> NEWS_ADAPTER = GSON.getAdapter(NaverNews.class);
 
 
     public List<NaverNews> getNaverNewsWithWord(String coinName) {
-        String requestUrl = NAVER_NEWS_URL+ "?query=" + URLEncoder.encode(coinName, StandardCharsets.UTF_8)
-                + "&display=" + DISPLAY + "&start=" + START + "&sort=" + SORT;
+        return getNaverNews(coinName, DISPLAY, START, SORT);
+    }
+
+    /**
+     * 뉴스 검색 한 페이지 조회
+     * @param display 한 페이지 결과 수 (최대 100)
+     * @param start 검색 시작 위치 (1부터, 최대 1000)
+     * @param sort "sim" 정확도순, "date" 날짜순
+     */
+    public List<NaverNews> getNaverNews(String query, int display, int start, String sort) {
+        return get(newsUrl(query, display, start, sort), requestHeaders());
+    }
 
-        log.info("clientId: {}", clientId);
-        log.info("secret: {}", secret);
+    // 뉴스 검색 URL, query는 인코딩 전 문자열을 받아 여기서 UTF-8로 인코딩 (ReactiveNaverClient와 공유)
+    static String newsUrl(String query, int display, int start, String sort) {
+        return NAVER_NEWS_URL + "?query=" + URLEncoder.encode(query, StandardCharsets.UTF_8)
+                + "&display=" + display + "&start=" + start + "&sort=" + sort;
+    }
 
+    // 인증 헤더 (ReactiveNaverClient와 공유)
+    Map<String, String> requestHeaders() {
         Map<String, String> requestHeaders = new HashMap<>();
         requestHeaders.put("X-Naver-Client-Id", clientId);
         requestHeaders.put("X-Naver-Client-Secret", secret);
-        String responseBody = get(requestUrl, requestHeaders);
-
-        return parseItemsFromJson(responseBody);
+        return requestHeaders;
     }
 
-    // 지피티 코드 참고
-    private List<NaverNews> parseItemsFromJson(String responseBody) {
-        // Gson 객체 생성
+    // 응답 스트림에서 "items" 배열만 한 번에 읽어 NaverNews로 변환 (나머지 필드는 건너뜀)
+    static List<NaverNews> readItems(InputStream body) throws IOException {
+        JsonReader reader = new JsonReader(new InputStreamReader(body, StandardCharsets.UTF_8));
+        List<NaverNews> items = new ArrayList<>();
 
-        Gson gson = new Gson();
-
-        // JSON 응답을 JsonObject로 파싱
-        JsonObject jsonObject = gson.fromJson(responseBody, JsonObject.class);
-
-        // "items" 필드를 JsonArray로 추출
-
-
-        JsonArray itemsArray = jsonObject.getAsJsonArray("items");
+        reader.beginObject();
+        while (reader.hasNext()) {
+            if (!ITEMS.equals(reader.nextName())) {
+                reader.skipValue();
+                continue;
+            }
+            reader.beginArray();
+            while (reader.hasNext()) {
+                items.add(NEWS_ADAPTER.read(reader));
+            }
+            reader.endArray();
+        }
+        reader.endObject();
 
-        // JsonArray를 List<NaverNews>로 변환
-        return gson.fromJson(itemsArray, new TypeToken<List<NaverNews>>(){}.getType());
+        return items;
     }
 
-    private static String get(String apiUrl, Map<String, String> requestHeaders){
+    private static List<NaverNews> get(String apiUrl, Map<String, String> requestHeaders){
         HttpURLConnection con = connect(apiUrl);
         try {
             con.setRequestMethod("GET");
@@ -87,13 +108,16 @@ public class NaverClient {
                 con.setRequestProperty(header.getKey(), header.getValue());
             }
 
-
             int responseCode = con.getResponseCode();
             if (responseCode == HttpURLConnection.HTTP_OK) { // 정상 호출
-                return readBody(con.getInputStream());
-            } else { // 오류 발생
-                return readBody(con.getErrorStream());
+                try (InputStream body = con.getInputStream()) {
+                    return readItems(body);
+                }
             }
+
+            // 오류 발생
+            log.error("네이버 API 오류 응답. code: {}, body: {}", responseCode, readErrorBody(con.getErrorStream()));
+            throw new NewsException(NewsErrorCode.NEWS_LOAD_FAILED);
         } catch (IOException e) {
             throw new RuntimeException("API 요청과 응답 실패", e);
         } finally {
@@ -114,23 +138,14 @@ public class NaverClient {
     }
 
 
-    private static String readBody(InputStream body){
-        InputStreamReader streamReader = new InputStreamReader(body);
-
-
-        try (BufferedReader lineReader = new BufferedReader(streamReader)) {
-            StringBuilder responseBody = new StringBuilder();
-
-
-            String line;
-            while ((line = lineReader.readLine()) != null) {
-                responseBody.append(line);
-            }
-
-
-            return responseBody.toString();
+    private static String readErrorBody(InputStream body) {
+        if (body == null) {
+            return "";
+        }
+        try (body) {
+            return new String(body.readAllBytes(), StandardCharsets.UTF_8);
         } catch (IOException e) {
-            throw new RuntimeException("API 응답을 읽는 데 실패했습니다.", e);
+            return "API 오류 응답을 읽는 데 실패했습니다.";
         }
     }
 }
@@ -0,0 +1,59 @@
+package com.cryptory.be.openapi.client;
+
+import com.cryptory.be.news.exception.NewsErrorCode;
+import com.cryptory.be.news.exception.NewsException;
+import com.cryptory.be.openapi.dto.NaverNews;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.util.List;
+
+// 네이버 뉴스 검색 논블로킹 클라이언트 (NaverClient의 WebClient 버전, URL/헤더/응답 파싱은 NaverClient와 같음)
+@Slf4j
+@Component
+public class ReactiveNaverClient {
+
+    private final NaverClient naverClient;
+    private final WebClient webClient;
+
+    public ReactiveNaverClient(NaverClient naverClient, @Qualifier("naverWebClient") WebClient webClient) {
+        this.naverClient = naverClient;
+        this.webClient = webClient;
+    }
+
+    public Mono<List<NaverNews>> getNaverNews(String query, int display, int start, String sort) {
+        return webClient.get()
+                .uri(URI.create(NaverClient.newsUrl(query, display, start, sort))) // 이미 인코딩된 URL
+                .headers(headers -> naverClient.requestHeaders().forEach(headers::set))
+                .exchangeToMono(response -> {
+                    if (response.statusCode().is2xxSuccessful()) {
+                        // 본문을 모두 받은 뒤 "items"만 읽음 (메모리 안의 버퍼라 블로킹 없음)
+                        return DataBufferUtils.join(response.bodyToFlux(DataBuffer.class))
+                                .map(ReactiveNaverClient::readItems)
+                                .defaultIfEmpty(List.of());
+                    }
+                    return response.bodyToMono(String.class)
+                            .defaultIfEmpty("")
+                            .flatMap(body -> {
+                                log.error("네이버 API 오류 응답. code: {}, body: {}", response.statusCode().value(), body);
+                                return Mono.error(new NewsException(NewsErrorCode.NEWS_LOAD_FAILED));
+                            });
+                });
+    }
+
+    private static List<NaverNews> readItems(DataBuffer buffer) {
+        try (InputStream body = buffer.asInputStream(true)) {
+            return NaverClient.readItems(body);
+        } catch (IOException e) {
+            throw new RuntimeException("API 요청과 응답 실패", e);
+        }
+    }
+}
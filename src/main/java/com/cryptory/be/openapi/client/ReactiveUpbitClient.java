@@ -0,0 +1,30 @@
+package com.cryptory.be.openapi.client;
+
+import com.cryptory.be.openapi.dto.Ticker;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+// 업비트 API 논블로킹 클라이언트 (UpbitClient의 WebClient 버전, 응답을 기다리는 동안 스레드를 점유하지 않음)
+@Component
+public class ReactiveUpbitClient {
+
+    private final WebClient webClient;
+
+    public ReactiveUpbitClient(@Qualifier("upbitWebClient") WebClient webClient) {
+        this.webClient = webClient;
+    }
+
+    // 코인들 현재가 가져오기
+    public Mono<List<Ticker>> getTickers(String... market) {
+        return webClient.get()
+                .uri("ticker?markets={markets}", String.join(",", market))
+                .retrieve()
+                .bodyToMono(new ParameterizedTypeReference<List<Ticker>>() {
+                });
+    }
+}
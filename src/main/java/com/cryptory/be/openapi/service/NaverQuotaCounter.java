@@ -0,0 +1,86 @@
+package com.cryptory.be.openapi.service;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+// 네이버 검색 API 일일 호출량 집계 (한도는 한국 시간 자정에 초기화)
+@Slf4j
+@Component
+public class NaverQuotaCounter {
+
+    private static final ZoneId KST = ZoneId.of("Asia/Seoul");
+
+    private final int dailyLimit;
+
+    // 사용자 요청을 위해 남겨두는 호출 수, 이 구간에 들어서면 백그라운드 갱신 중단
+    private final int backgroundReserve;
+
+    private final AtomicReference<DailyUsage> usage = new AtomicReference<>(new DailyUsage(LocalDate.now(KST)));
+
+    public NaverQuotaCounter(@Value("${naver.quota.daily-limit:25000}") int dailyLimit,
+                             @Value("${naver.quota.background-reserve:2500}") int backgroundReserve,
+                             MeterRegistry meterRegistry) {
+        this.dailyLimit = dailyLimit;
+        this.backgroundReserve = backgroundReserve;
+
+        Gauge.builder("naver.quota.used", this, NaverQuotaCounter::getUsedToday)
+                .description("오늘 사용한 네이버 검색 API 호출 수")
+                .register(meterRegistry);
+        Gauge.builder("naver.quota.limit", this, counter -> counter.dailyLimit)
+                .description("네이버 검색 API 일일 호출 한도")
+                .register(meterRegistry);
+    }
+
+    // API 호출 1회 기록 후 오늘 누적 호출 수 반환
+    public int record() {
+        int used = current().count.incrementAndGet();
+        if (used == dailyLimit - backgroundReserve) {
+            log.warn("네이버 API 호출량이 백그라운드 한도에 도달했습니다. used: {}, limit: {}", used, dailyLimit);
+        }
+        return used;
+    }
+
+    public int getUsedToday() {
+        return current().count.get();
+    }
+
+    public int getDailyLimit() {
+        return dailyLimit;
+    }
+
+    // 백그라운드 갱신(키워드 재조회, 프리패치)을 해도 되는지 여부
+    public boolean hasBackgroundBudget() {
+        return getUsedToday() < dailyLimit - backgroundReserve;
+    }
+
+    private DailyUsage current() {
+        DailyUsage current = usage.get();
+        LocalDate today = LocalDate.now(KST);
+        if (current.date.equals(today)) {
+            return current;
+        }
+
+        // 날짜가 바뀌면 한 스레드만 교체하고 나머지는 교체된 값을 사용
+        if (usage.compareAndSet(current, new DailyUsage(today))) {
+            log.info("네이버 API 호출량 초기화. {} 사용량: {}", current.date, current.count.get());
+        }
+        return usage.get();
+    }
+
+    private static final class DailyUsage {
+        private final LocalDate date;
+        private final AtomicInteger count = new AtomicInteger();
+
+        private DailyUsage(LocalDate date) {
+            this.date = date;
+        }
+    }
+}
@@ -2,33 +2,165 @@ package com.cryptory.be.openapi.service;
 
 import com.cryptory.be.news.exception.NewsErrorCode;
 import com.cryptory.be.news.exception.NewsException;
+import com.cryptory.be.news.service.NewsCursor;
 import com.cryptory.be.openapi.client.NaverClient;
+import com.cryptory.be.openapi.client.ReactiveNaverClient;
 import com.cryptory.be.openapi.dto.NaverNews;
-import jakarta.annotation.PostConstruct;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
-import java.util.List;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
 
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class NaverService {
 
+    private final static String SORT_SIM = "sim";
+    private final static String SORT_DATE = "date";
+    private final static int MAX_DISPLAY = 100;
+    private final static int MAX_START = 1000;
+
     private final NaverClient naverClient;
+    private final ReactiveNaverClient reactiveNaverClient;
+    private final NaverQuotaCounter naverQuotaCounter;
+    private final Executor fetchExecutor;
+
+    // 정렬 방식별로 가져올 페이지 수 (1이면 기존처럼 정확도순 한 번만 호출)
+    private final int pages;
+    private final int display;
 
+    // 논블로킹 조회 시 동시 요청 수 (naverFetchExecutor 스레드 수와 같은 설정)
+    private final int maxConcurrency;
+
+    public NaverService(NaverClient naverClient,
+                        ReactiveNaverClient reactiveNaverClient,
+                        NaverQuotaCounter naverQuotaCounter,
+                        @Qualifier("naverFetchExecutor") Executor fetchExecutor,
+                        @Value("${naver.news.pages:1}") int pages,
+                        @Value("${naver.news.display:10}") int display,
+                        @Value("${naver.news.max-concurrency:8}") int maxConcurrency) {
+        this.naverClient = naverClient;
+        this.reactiveNaverClient = reactiveNaverClient;
+        this.naverQuotaCounter = naverQuotaCounter;
+        this.fetchExecutor = fetchExecutor;
+        this.pages = Math.max(1, pages);
+        this.display = Math.max(1, Math.min(display, MAX_DISPLAY));
+        this.maxConcurrency = Math.max(1, maxConcurrency);
+    }
+
+    /**
+     * 검색어로 뉴스 조회 후 최신순 정렬, 링크 기준 중복 제거
+     * pages > 1이면 정확도순/날짜순 각 pages 페이지를 병렬로 가져와 합친다.
+     * 기본값(pages = 1)도 정확도순(sim) 한 페이지를 받아 최신순으로 다시 정렬하므로, 응답 순서는 네이버 정확도순이 아니다.
+     */
     public List<NaverNews> getNaverNewsWithWord(String coinName) {
+        if (pages == 1) {
+            return merge(List.of(fetchPage(coinName, 1, SORT_SIM)));
+        }
+
+        List<CompletableFuture<List<NaverNews>>> futures = new ArrayList<>();
+        for (String sort : List.of(SORT_SIM, SORT_DATE)) {
+            for (int page = 0; page < pages; page++) {
+                int start = 1 + page * display;
+                if (start > MAX_START) {
+                    break;
+                }
+                futures.add(CompletableFuture.supplyAsync(() -> fetchPage(coinName, start, sort), fetchExecutor));
+            }
+        }
+
+        // 일부 페이지가 실패해도 받은 페이지만으로 응답, 전부 실패하면 오류
+        List<List<NaverNews>> fetched = new ArrayList<>();
+        for (CompletableFuture<List<NaverNews>> future : futures) {
+            try {
+                fetched.add(future.join());
+            } catch (RuntimeException e) {
+                printLog(e.getMessage());
+            }
+        }
+        if (fetched.isEmpty()) {
+            throw new NewsException(NewsErrorCode.NEWS_LOAD_FAILED);
+        }
+        return merge(fetched);
+    }
+
+    // getNaverNewsWithWord의 논블로킹 버전, 페이지 병렬 조회를 스레드 대신 동시 요청으로 (실패 처리 동일)
+    public Mono<List<NaverNews>> getNaverNewsWithWordReactive(String coinName) {
+        if (pages == 1) {
+            return fetchPageReactive(coinName, 1, SORT_SIM).map(page -> merge(List.of(page)));
+        }
+
+        List<Mono<List<NaverNews>>> requests = new ArrayList<>();
+        for (String sort : List.of(SORT_SIM, SORT_DATE)) {
+            for (int page = 0; page < pages; page++) {
+                int start = 1 + page * display;
+                if (start > MAX_START) {
+                    break;
+                }
+                requests.add(fetchPageReactive(coinName, start, sort)
+                        .onErrorResume(RuntimeException.class, e -> {
+                            printLog(e.getMessage());
+                            return Mono.empty();
+                        }));
+            }
+        }
+
+        return Flux.fromIterable(requests)
+                .flatMap(Function.identity(), maxConcurrency)
+                .collectList()
+                .flatMap(fetched -> fetched.isEmpty()
+                        ? Mono.error(new NewsException(NewsErrorCode.NEWS_LOAD_FAILED))
+                        : Mono.just(merge(fetched)));
+    }
+
+    private Mono<List<NaverNews>> fetchPageReactive(String coinName, int start, String sort) {
+        return Mono.defer(() -> {
+                    naverQuotaCounter.record();
+                    return reactiveNaverClient.getNaverNews(coinName, display, start, sort);
+                })
+                .onErrorMap(NewsException.class, e -> {
+                    printLog(e.getMessage());
+                    return new NewsException(NewsErrorCode.NEWS_LOAD_FAILED);
+                });
+    }
+
+    private List<NaverNews> fetchPage(String coinName, int start, String sort) {
+        naverQuotaCounter.record();
         try {
-            return naverClient.getNaverNewsWithWord(coinName);
+            return naverClient.getNaverNews(coinName, display, start, sort);
         } catch (NewsException e) {
             printLog(e.getMessage());
             throw new NewsException(NewsErrorCode.NEWS_LOAD_FAILED);
         }
     }
 
+    // 정규화 링크 기준 중복 제거 후 최신순 정렬 (NewsCursor 정렬 기준과 동일)
+    private static List<NaverNews> merge(List<List<NaverNews>> pages) {
+        Map<String, Keyed> byLink = new HashMap<>();
+        for (List<NaverNews> page : pages) {
+            for (NaverNews news : page) {
+                NewsCursor.SortKey key = NewsCursor.sortKey(news);
+                byLink.putIfAbsent(key.link(), new Keyed(key, news));
+            }
+        }
+
+        return byLink.values().stream()
+                .sorted(Comparator.comparing(Keyed::key))
+                .map(Keyed::news)
+                .toList();
+    }
+
     private void printLog(String message) {
         log.error("error: {}", message);
     }
 
+    private record Keyed(NewsCursor.SortKey key, NaverNews news) {
+    }
 }
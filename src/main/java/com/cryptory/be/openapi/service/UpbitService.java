@@ -4,6 +4,7 @@ import com.cryptory.be.chart.exception.ChartErrorCode;
 import com.cryptory.be.chart.exception.ChartException;
 import com.cryptory.be.coin.exception.CoinErrorCode;
 import com.cryptory.be.coin.exception.CoinException;
+import com.cryptory.be.openapi.client.ReactiveUpbitClient;
 import com.cryptory.be.openapi.client.UpbitClient;
 import com.cryptory.be.openapi.dto.Candle;
 import com.cryptory.be.openapi.dto.Market;
@@ -11,6 +12,7 @@ import com.cryptory.be.openapi.dto.Ticker;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
 
 import java.util.List;
 
@@ -20,6 +22,7 @@ import java.util.List;
 public class UpbitService {
 
     private final UpbitClient upbitClient;
+    private final ReactiveUpbitClient reactiveUpbitClient;
 
     private final static String START_UNIT = "KRW";
 
@@ -62,4 +65,16 @@ public class UpbitService {
         }
     }
 
+    // 코인들 현재가 가져오기 - 논블로킹 (실패 시 getTickers와 같은 예외로 끝나는 Mono)
+    public Mono<List<Ticker>> getTickersReactive(String... market) {
+        for (String m : market) {
+            if (!m.startsWith(START_UNIT)) {
+                return Mono.error(new ChartException(ChartErrorCode.TICKER_LOAD_FAILED));
+            }
+        }
+
+        return reactiveUpbitClient.getTickers(market)
+                .onErrorMap(e -> new ChartException(ChartErrorCode.TICKER_LOAD_FAILED));
+    }
+
 }
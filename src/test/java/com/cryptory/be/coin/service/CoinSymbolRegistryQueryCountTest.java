@@ -0,0 +1,105 @@
+package com.cryptory.be.coin.service;
+
+import com.cryptory.be.coin.domain.Coin;
+import com.cryptory.be.coin.domain.CoinSymbol;
+import com.cryptory.be.coin.domain.CoinSymbolEnum;
+import com.cryptory.be.coin.dto.CoinListResponseDto;
+import com.cryptory.be.coin.repository.CoinRepository;
+import com.cryptory.be.coin.repository.CoinSymbolRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Page;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+/**
+ * 관리자 코인 목록이 페이지 크기와 관계없이 같은 수의 쿼리로 처리되는지 확인
+ * (심볼을 CoinSymbolRegistry에서 조회하므로 코인마다 coin_symbols 조회가 나가지 않아야 함)
+ */
+@DataJpaTest(properties = {
+        "spring.cloud.config.enabled=false",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+class CoinSymbolRegistryQueryCountTest {
+
+    private static final int COIN_COUNT = 60;
+
+    @Autowired
+    private CoinRepository coinRepository;
+
+    @Autowired
+    private CoinSymbolRepository coinSymbolRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private CoinServiceImpl coinService;
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        List<CoinSymbol> symbols = coinSymbolRepository.saveAll(Arrays.stream(CoinSymbolEnum.values())
+                .map(CoinSymbolEnum::toCoinSymbol)
+                .toList());
+        for (int i = 0; i < COIN_COUNT; i++) {
+            CoinSymbol symbol = symbols.get(i % symbols.size());
+            coinRepository.save(Coin.builder()
+                    .koreanName("코인" + i)
+                    .englishName("coin" + i)
+                    .code("KRW-" + symbol.getCode())
+                    .coinSymbol(symbol)
+                    .isDisplayed(false)
+                    .build());
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        CoinSymbolRegistry registry = new CoinSymbolRegistry(coinSymbolRepository);
+        registry.refresh();
+        coinService = new CoinServiceImpl(null, null, coinRepository, null, null, registry, null, null);
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    void adminCoinListRunsConstantNumberOfQueries() {
+        long small = countQueries(() -> coinService.getCoinListForAdmin(null, 0, 5, null));
+        long large = countQueries(() -> coinService.getCoinListForAdmin(null, 0, 50, null));
+
+        assertEquals(small, large);
+    }
+
+    @Test
+    void adminCoinListResolvesSymbolWithoutLoadingAssociation() {
+        Page<CoinListResponseDto> page = coinService.getCoinListForAdmin(null, 0, 10, null);
+
+        page.getContent().forEach(dto -> assertNotNull(dto.getLogoUrl()));
+    }
+
+    @Test
+    void fromMarketMapsSpecialCasesAndUnknownMarkets() {
+        assertEquals(CoinSymbolEnum.INCH, CoinSymbolEnum.fromMarket("KRW-1INCH"));
+        assertEquals(CoinSymbolEnum.ETH, CoinSymbolEnum.fromMarket("KRW-ETH"));
+        assertEquals(CoinSymbolEnum.BTC, CoinSymbolEnum.fromMarket("KRW-NOT-LISTED"));
+    }
+
+    private long countQueries(Runnable action) {
+        entityManager.clear();
+        statistics.clear();
+        action.run();
+        return statistics.getPrepareStatementCount();
+    }
+}
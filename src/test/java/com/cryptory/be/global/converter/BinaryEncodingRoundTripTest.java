@@ -0,0 +1,194 @@
+package com.cryptory.be.global.converter;
+
+import com.cryptory.be.chart.dto.ChartDto;
+import com.cryptory.be.coin.domain.CoinSymbol;
+import com.cryptory.be.coin.domain.CoinSymbolEnum;
+import com.cryptory.be.coin.dto.CoinDetailDto;
+import com.cryptory.be.coin.dto.CoinDto;
+import com.cryptory.be.global.response.ApiResponse;
+import com.cryptory.be.issue.dto.IssueDto;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.protobuf.ProtobufFactory;
+import org.junit.jupiter.api.Test;
+import org.msgpack.jackson.dataformat.MessagePackFactory;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.GenericHttpMessageConverter;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.mock.http.MockHttpOutputMessage;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * JSON으로 쓴 응답과 CBOR/MessagePack/Protobuf로 쓴 뒤 다시 읽은 응답이 같은지 확인
+ * 숫자 타입 차이(int/long)는 JSON으로 한 번 다시 써서 맞춘 뒤 비교한다.
+ */
+class BinaryEncodingRoundTripTest {
+
+    private final ObjectMapper json = new ObjectMapper();
+    private final MappingJackson2CborHttpMessageConverter cbor =
+            new MappingJackson2CborHttpMessageConverter(json.copyWith(new CBORFactory()));
+    private final MessagePackHttpMessageConverter messagePack = new MessagePackHttpMessageConverter(json);
+    private final ProtobufJacksonHttpMessageConverter protobuf = new ProtobufJacksonHttpMessageConverter(json);
+
+    @Test
+    void coinListRoundTrips() throws IOException {
+        ApiResponse<CoinDto> response = new ApiResponse<>(HttpStatus.OK, List.of(coin(1L, "BTC"), coin(2L, "ETH")));
+
+        assertRoundTrips(response, new ParameterizedTypeReference<ApiResponse<CoinDto>>() {
+        }.getType(), CoinDto.class);
+    }
+
+    @Test
+    void coinDetailRoundTrips() throws IOException {
+        ApiResponse<CoinDetailDto> response = new ApiResponse<>(HttpStatus.OK, coinDetail(300));
+
+        assertRoundTrips(response, new ParameterizedTypeReference<ApiResponse<CoinDetailDto>>() {
+        }.getType(), CoinDetailDto.class);
+    }
+
+    @Test
+    void candleSeriesRoundTrips() throws IOException {
+        ApiResponse<ChartDto> response = new ApiResponse<>(HttpStatus.OK, charts(200));
+
+        assertRoundTrips(response, new ParameterizedTypeReference<ApiResponse<ChartDto>>() {
+        }.getType(), ChartDto.class);
+    }
+
+    @Test
+    void protobufWritesStatusOnlyResponses() throws IOException {
+        ApiResponse<Void> response = new ApiResponse<>(HttpStatus.ACCEPTED);
+        Type type = new ParameterizedTypeReference<ApiResponse<Void>>() {
+        }.getType();
+
+        byte[] encoded = write(protobuf, response, type, BinaryMediaTypes.PROTOBUF);
+
+        JsonNode decoded = json.copyWith(new ProtobufFactory()).readerFor(JsonNode.class)
+                .with(protobuf.writer(response, Void.class).getSchema())
+                .readValue(encoded);
+        assertEquals(json.readTree(json.writeValueAsBytes(response)), normalize(decoded));
+    }
+
+    @Test
+    void protobufRejectsTypesWithoutSchema() {
+        Type type = new ParameterizedTypeReference<ApiResponse<IssueDto>>() {
+        }.getType();
+
+        assertFalse(protobuf.canWrite(type, ApiResponse.class, BinaryMediaTypes.PROTOBUF));
+    }
+
+    @Test
+    void binaryFormatsAreOnlyChosenWhenExplicitlyAccepted() {
+        assertTrue(BinaryMediaTypes.isRequested("application/x-protobuf"));
+        assertTrue(BinaryMediaTypes.isRequested("application/cbor, application/json;q=0.5"));
+        assertFalse(BinaryMediaTypes.isRequested("*/*"));
+        assertFalse(BinaryMediaTypes.isRequested("application/json, text/plain, */*"));
+        assertFalse(BinaryMediaTypes.isRequested("application/x-msgpack;q=0"));
+        assertFalse(BinaryMediaTypes.isRequested(null));
+    }
+
+    private void assertRoundTrips(ApiResponse<?> response, Type type, Class<?> resultType) throws IOException {
+        JsonNode expected = json.readTree(json.writeValueAsBytes(response));
+
+        JsonNode fromCbor = json.copyWith(new CBORFactory())
+                .readTree(write(cbor, response, type, BinaryMediaTypes.CBOR));
+        JsonNode fromMessagePack = json.copyWith(new MessagePackFactory())
+                .readTree(write(messagePack, response, type, BinaryMediaTypes.MESSAGE_PACK));
+        JsonNode fromProtobuf = json.copyWith(new ProtobufFactory()).readerFor(JsonNode.class)
+                .with(protobuf.schema(resultType))
+                .readValue(write(protobuf, response, type, BinaryMediaTypes.PROTOBUF));
+
+        assertEquals(expected, normalize(fromCbor), "cbor");
+        assertEquals(expected, normalize(fromMessagePack), "msgpack");
+        assertEquals(expected, normalize(fromProtobuf), "protobuf");
+    }
+
+    private static byte[] write(GenericHttpMessageConverter<Object> converter, Object value, Type type, MediaType mediaType)
+            throws IOException {
+        assertTrue(converter.canWrite(type, value.getClass(), mediaType));
+        MockHttpOutputMessage output = new MockHttpOutputMessage();
+        converter.write(value, type, mediaType, output);
+        return output.getBodyAsBytes();
+    }
+
+    private JsonNode normalize(JsonNode node) throws IOException {
+        return json.readTree(json.writeValueAsBytes(node));
+    }
+
+    private static CoinDto coin(Long id, String code) {
+        return CoinDto.builder()
+                .coinId(id)
+                .koreanName("코인" + id)
+                .englishName("coin" + id)
+                .code(code)
+                .coinSymbol(symbol(CoinSymbolEnum.valueOf(code)))
+                .tradePrice(143_250_000.5)
+                .signedChangePrice(-1_250_000.0)
+                .signedChangeRate(-0.00865)
+                .build();
+    }
+
+    private static CoinDetailDto coinDetail(int candles) {
+        List<ChartDto> charts = charts(candles);
+        List<IssueDto> issues = new ArrayList<>();
+        for (int i = 0; i < charts.size(); i += 50) {
+            ChartDto chart = charts.get(i);
+            issues.add(IssueDto.builder()
+                    .issueId((long) i + 1)
+                    .chartId(chart.getChartId())
+                    .date(chart.getDate())
+                    .openingPrice(chart.getOpeningPrice())
+                    .highPrice(chart.getHighPrice())
+                    .lowPrice(chart.getLowPrice())
+                    .tradePrice(chart.getTradePrice())
+                    .build());
+        }
+        return CoinDetailDto.builder()
+                .coinId(1L)
+                .koreanName("비트코인")
+                .englishName("Bitcoin")
+                .code("BTC")
+                .coinSymbol(symbol(CoinSymbolEnum.BTC))
+                .tradePrice(143_250_000.5)
+                .signedChangeRate(-0.00865)
+                .signedChangePrice(-1_250_000.0)
+                .timestamp("2025-01-01 09:00:00")
+                .chartList(charts)
+                .issueList(issues)
+                .build();
+    }
+
+    private static List<ChartDto> charts(int count) {
+        List<ChartDto> charts = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            double open = 100_000_000 + i * 12_345.67;
+            charts.add(ChartDto.builder()
+                    .chartId((long) i + 1)
+                    .date(String.format("2024-%02d-%02dT00:00:00", i / 28 % 12 + 1, i % 28 + 1))
+                    .openingPrice(open)
+                    .highPrice(open * 1.031)
+                    .lowPrice(open * 0.977)
+                    .tradePrice(open * 1.004)
+                    .changeRate(0.004 + i * 1e-6)
+                    .build());
+        }
+        return charts;
+    }
+
+    private static CoinSymbol symbol(CoinSymbolEnum value) {
+        CoinSymbol symbol = value.toCoinSymbol();
+        ReflectionTestUtils.setField(symbol, "id", (long) value.ordinal() + 1);
+        return symbol;
+    }
+}
@@ -0,0 +1,187 @@
+package com.cryptory.be.global.datasource;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 메모리 H2 두 개(primary, replica)로 라우팅/복제 지연 fallback 확인
+ * 실제 복제는 없으므로 replica의 heartbeat 값을 직접 써서 지연을 흉내 낸다.
+ */
+class ReadReplicaRoutingDataSourceTest {
+
+    private static final long NOW = 1_700_000_000_000L;
+    private static final Duration MAX_LAG = Duration.ofSeconds(3);
+
+    private JdbcTemplate primaryJdbc;
+    private JdbcTemplate replicaJdbc;
+    private DataSource replicaDataSource;
+    private ReplicaLagMonitor monitor;
+    private JdbcTemplate routedJdbc;
+    private TransactionTemplate readOnly;
+    private TransactionTemplate readWrite;
+
+    @BeforeEach
+    void setUp() {
+        DataSource primary = h2("primary");
+        DataSource replica = h2("replica");
+        replicaDataSource = replica;
+        primaryJdbc = new JdbcTemplate(primary);
+        replicaJdbc = new JdbcTemplate(replica);
+        for (JdbcTemplate jdbc : new JdbcTemplate[]{primaryJdbc, replicaJdbc}) {
+            jdbc.execute("CREATE TABLE whoami (name VARCHAR(20))");
+            jdbc.execute(ReplicaLagMonitor.CREATE_TABLE);
+        }
+        primaryJdbc.update("INSERT INTO whoami VALUES ('primary')");
+        replicaJdbc.update("INSERT INTO whoami VALUES ('replica')");
+
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        monitor = new ReplicaLagMonitor(primary, replica, MAX_LAG,
+                Clock.fixed(Instant.ofEpochMilli(NOW), ZoneOffset.UTC), registry);
+
+        DataSource routed = new LazyConnectionDataSourceProxy(
+                new ReadReplicaRoutingDataSource(primary, replica, monitor, registry));
+        routedJdbc = new JdbcTemplate(routed);
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(routed);
+        readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        readWrite = new TransactionTemplate(transactionManager);
+    }
+
+    @Test
+    void readOnlyTransactionGoesToReplicaWhenLagIsLow() {
+        replicaJdbc.update(ReplicaLagMonitor.INSERT_BEAT, NOW - 500);
+        monitor.probe();
+
+        assertTrue(monitor.isReplicaAvailable());
+        assertEquals("replica", readOnly.execute(status -> whoami()));
+        assertEquals("primary", readWrite.execute(status -> whoami()));
+        assertEquals("primary", whoami()); // 트랜잭션 밖
+    }
+
+    @Test
+    void fallsBackToPrimaryWhenReplicaLagsBehind() {
+        replicaJdbc.update(ReplicaLagMonitor.INSERT_BEAT, NOW - MAX_LAG.toMillis() - 1);
+        monitor.probe();
+
+        assertFalse(monitor.isReplicaAvailable());
+        assertEquals(MAX_LAG.toMillis() + 1, monitor.getLagMillis());
+        assertEquals("primary", readOnly.execute(status -> whoami()));
+    }
+
+    @Test
+    void fallsBackToPrimaryWhenReplicaHasNoHeartbeat() {
+        replicaJdbc.execute("DROP TABLE replica_heartbeat");
+        monitor.probe();
+
+        assertFalse(monitor.isReplicaAvailable());
+        assertEquals("primary", readOnly.execute(status -> whoami()));
+    }
+
+    @Test
+    void usesPrimaryUntilFirstProbe() {
+        replicaJdbc.update(ReplicaLagMonitor.INSERT_BEAT, NOW);
+
+        assertEquals("primary", readOnly.execute(status -> whoami()));
+    }
+
+    @Test
+    void lagIsMeasuredAgainstPreviousBeat() {
+        AtomicLong now = new AtomicLong(NOW);
+        ReplicaLagMonitor stepping = new ReplicaLagMonitor(h2WithHeartbeat(), replicaDataSource, MAX_LAG,
+                new SteppingClock(now), new SimpleMeterRegistry());
+        stepping.probe(); // NOW를 씀, replica에는 아직 없음
+
+        // 직전 값(NOW)까지 복제된 상태에서 한 주기 뒤 측정하면 지연 0 (현재 시각 기준이면 주기만큼 지연으로 잡힘)
+        replicaJdbc.update(ReplicaLagMonitor.INSERT_BEAT, NOW);
+        now.addAndGet(MAX_LAG.toMillis());
+        stepping.probe();
+        assertEquals(0, stepping.getLagMillis());
+        assertTrue(stepping.isReplicaAvailable());
+
+        // replica가 NOW에 멈춘 채 직전 값보다 max-lag 넘게 뒤처지면 미사용
+        now.addAndGet(MAX_LAG.toMillis() + 1);
+        stepping.probe();
+        assertEquals(MAX_LAG.toMillis(), stepping.getLagMillis());
+        now.addAndGet(1);
+        stepping.probe();
+        assertEquals(2 * MAX_LAG.toMillis() + 1, stepping.getLagMillis());
+        assertFalse(stepping.isReplicaAvailable());
+    }
+
+    @Test
+    void probeCreatesMissingHeartbeatTable() {
+        primaryJdbc.execute("DROP TABLE replica_heartbeat");
+        monitor.probe();
+
+        assertEquals(NOW, primaryJdbc.queryForObject(ReplicaLagMonitor.SELECT_BEAT, Long.class));
+    }
+
+    @Test
+    void probeWritesHeartbeatToPrimary() {
+        monitor.probe();
+
+        assertEquals(NOW, primaryJdbc.queryForObject(ReplicaLagMonitor.SELECT_BEAT, Long.class));
+    }
+
+    private String whoami() {
+        return routedJdbc.queryForObject("SELECT name FROM whoami", String.class);
+    }
+
+    private static DataSource h2WithHeartbeat() {
+        DataSource dataSource = h2("stepping");
+        new JdbcTemplate(dataSource).execute(ReplicaLagMonitor.CREATE_TABLE);
+        return dataSource;
+    }
+
+    // probe마다 시각을 직접 옮기는 시계
+    private static final class SteppingClock extends Clock {
+        private final AtomicLong millis;
+
+        private SteppingClock(AtomicLong millis) {
+            this.millis = millis;
+        }
+
+        @Override
+        public long millis() {
+            return millis.get();
+        }
+
+        @Override
+        public Instant instant() {
+            return Instant.ofEpochMilli(millis.get());
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+    }
+
+    private static DataSource h2(String name) {
+        return new DriverManagerDataSource("jdbc:h2:mem:" + name + "-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1", "sa", "");
+    }
+}
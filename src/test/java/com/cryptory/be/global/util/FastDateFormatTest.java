@@ -0,0 +1,137 @@
+package com.cryptory.be.global.util;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.text.SimpleDateFormat;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Locale;
+import java.util.concurrent.Callable;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * FastDateFormat 빠른 경로가 기존 방식(SimpleDateFormat, DateTimeFormatter)과 같은 결과를 내는지 확인
+ * - 빠른 경로가 처리한 입력은 기존 방식과 값이 같아야 한다.
+ * - 빠른 경로가 거절한 입력(null/INVALID)은 DateFormat이 기존 방식으로 처리하므로 결과(예외 포함)가 같아야 한다.
+ */
+class FastDateFormatTest {
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "Mon, 17 Feb 2025 14:30:00 +0900",
+            "Mon, 03 Feb 2025 00:00:00 +0900",
+            "Mon, 3 Feb 2025 00:00:00 +0900",     // 한 자리 일
+            "Sat, 1 Mar 2025 08:59:59 +0900",
+            "Thu, 29 Feb 2024 23:59:59 +0900",   // 윤일
+            "Tue, 29 Feb 2000 12:00:00 +0000",
+            "Fri, 01 Mar 2024 00:00:00 +0900",
+            "Wed, 31 Dec 2025 23:59:59 -0500",   // 음수 오프셋 (서버 시간대 기준 다음 날)
+            "Thu, 1 Jan 1970 00:00:00 +0000",
+            "Wed, 31 Dec 1969 23:00:00 -0100",   // 1970년 이전 연도는 빠른 경로에서 제외
+            "Mon, 10 Mar 2025 02:30:00 +0530",
+            "Sun, 09 Mar 2025 02:30:00 -0800",   // 미국 서머타임 시작 무렵
+            "Tue, 17 Feb 2025 14:30:00 +0900",   // 요일이 날짜와 맞지 않음
+            "Mon, 17 Feb 2025 14:30:00 GMT",     // 숫자 오프셋이 아닌 표기
+            "Mon, 17 Feb 2025 14:30 +0900",      // 초 없음
+            "Mon, 17 Feb 2025 24:00:00 +0900",
+            "Sat, 29 Feb 2025 10:00:00 +0900",   // 없는 날짜
+            "mon, 17 feb 2025 14:30:00 +0900"
+    })
+    void newsDateMatchesLegacy(String pubDate) throws Exception {
+        String fast = FastDateFormat.formatNewsDateUncached(pubDate);
+        Outcome legacy = Outcome.of(() -> legacyNewsDate(pubDate));
+        if (fast != null) {
+            assertEquals(legacy, Outcome.value(fast), pubDate);
+        }
+        assertEquals(legacy, Outcome.of(() -> DateFormat.formatNewsDate(pubDate)), pubDate);
+        assertEquals(legacy, Outcome.of(() -> DateFormat.formatNewsDate(pubDate)), pubDate + " (캐시)");
+
+        long epochSecond = FastDateFormat.parseRfc1123EpochSecond(pubDate);
+        Outcome legacyEpoch = Outcome.of(() -> ZonedDateTime.parse(pubDate, DateTimeFormatter.RFC_1123_DATE_TIME).toEpochSecond());
+        if (epochSecond != FastDateFormat.INVALID) {
+            assertEquals(legacyEpoch, Outcome.value(epochSecond), pubDate);
+        }
+        assertEquals(legacyEpoch, Outcome.of(() -> DateFormat.parseNewsEpochSecond(pubDate)), pubDate);
+
+        Outcome legacyDateTime = Outcome.of(() -> ZonedDateTime.parse(pubDate, DateTimeFormatter.RFC_1123_DATE_TIME)
+                .withZoneSameInstant(ZoneId.systemDefault())
+                .toLocalDateTime());
+        assertEquals(legacyDateTime, Outcome.of(() -> DateFormat.parseNewsDateTime(pubDate)), pubDate);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "Tue, 17 Feb 2025 14:30:00 +0900",
+            "Mon, 17 Feb 2025 14:30:00 GMT",
+            "Mon, 17 Feb 1969 14:30:00 +0900",
+            "Sat, 29 Feb 2025 10:00:00 +0900"
+    })
+    void fastPathRejectsFormsItDoesNotHandle(String pubDate) {
+        assertNull(FastDateFormat.formatNewsDateUncached(pubDate));
+        assertEquals(FastDateFormat.INVALID, FastDateFormat.parseRfc1123EpochSecond(pubDate));
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+            "20250217, 143005",
+            "20250101, 000000",
+            "20241231, 235959",  // 연말 마지막 초
+            "20240229, 120000",  // 윤일
+            "20000229, 000059",
+            "19700101, 000000",
+            "00010101, 000000",
+            "99991231, 235959",
+            "20250229, 120000",  // 없는 날짜
+            "20250230, 000000",
+            "20251301, 000000",
+            "20250217, 240000",
+            "20250217, 235960",
+            "2025021, 143005",
+            "20250217, 14300a"
+    })
+    void tradeTimeMatchesLegacy(String tradeDate, String tradeTime) {
+        String fast = FastDateFormat.formatTradeTimeUncached(tradeDate, tradeTime);
+        Outcome legacy = Outcome.of(() -> legacyTradeTime(tradeDate, tradeTime));
+        if (fast != null) {
+            assertEquals(legacy, Outcome.value(fast), tradeDate + tradeTime);
+        }
+        assertEquals(legacy, Outcome.of(() -> DateFormat.formatTradeTime(tradeDate, tradeTime)), tradeDate + tradeTime);
+        assertEquals(legacy, Outcome.of(() -> DateFormat.formatTradeTime(tradeDate, tradeTime)), tradeDate + tradeTime + " (캐시)");
+    }
+
+    // FastDateFormat 도입 전 DateFormat.formatNewsDate
+    private static String legacyNewsDate(String pubDate) throws Exception {
+        SimpleDateFormat inputFormat = new SimpleDateFormat("EEE, dd MMM yyyy HH:mm:ss Z", Locale.ENGLISH);
+        return new SimpleDateFormat("yyyy-MM-dd").format(inputFormat.parse(pubDate));
+    }
+
+    // FastDateFormat 도입 전 DateFormat.formatTradeTime
+    private static String legacyTradeTime(String tradeDate, String tradeTime) {
+        LocalDate date = LocalDate.parse(tradeDate, DateTimeFormatter.ofPattern("yyyyMMdd"));
+        LocalTime time = LocalTime.parse(tradeTime, DateTimeFormatter.ofPattern("HHmmss"));
+        return LocalDateTime.of(date, time).format(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm"));
+    }
+
+    // 값 또는 예외 종류 (예외 메시지는 비교하지 않음)
+    private record Outcome(Object value, Class<?> error) {
+
+        static Outcome value(Object value) {
+            return new Outcome(value, null);
+        }
+
+        static Outcome of(Callable<?> call) {
+            try {
+                return value(call.call());
+            } catch (Exception e) {
+                return new Outcome(null, e.getClass());
+            }
+        }
+    }
+}
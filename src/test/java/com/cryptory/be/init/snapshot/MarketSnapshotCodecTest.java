@@ -0,0 +1,165 @@
+package com.cryptory.be.init.snapshot;
+
+import com.cryptory.be.openapi.dto.Candle;
+import com.cryptory.be.openapi.dto.Market;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// 스냅샷 파일 왕복과 손상된 파일(잘림, 바이트 변경, 다른 버전) 거부 확인
+class MarketSnapshotCodecTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void roundTripKeepsMarketsAndCandlesInOrder() throws IOException {
+        MarketSnapshot snapshot = snapshot();
+        Path path = dir.resolve("market.snapshot");
+
+        MarketSnapshotCodec.write(snapshot, path);
+        MarketSnapshot read = MarketSnapshotCodec.read(path);
+
+        assertEquals(snapshot.createdAt(), read.createdAt());
+        assertEquals(snapshot.markets().size(), read.markets().size());
+        for (int i = 0; i < snapshot.markets().size(); i++) {
+            Market expected = snapshot.markets().get(i);
+            Market actual = read.markets().get(i);
+            assertEquals(expected.getMarket(), actual.getMarket());
+            assertEquals(expected.getKoreanName(), actual.getKoreanName());
+            assertEquals(expected.getEnglishName(), actual.getEnglishName());
+        }
+
+        assertEquals(List.copyOf(snapshot.candles().keySet()), List.copyOf(read.candles().keySet()));
+        for (Map.Entry<String, List<Candle>> series : snapshot.candles().entrySet()) {
+            List<Candle> actualSeries = read.candles().get(series.getKey());
+            assertEquals(series.getValue().size(), actualSeries.size());
+            for (int i = 0; i < actualSeries.size(); i++) {
+                Candle expected = series.getValue().get(i);
+                Candle actual = actualSeries.get(i);
+                assertEquals(series.getKey(), actual.getMarket());
+                assertEquals(expected.getCandleDateTime(), actual.getCandleDateTime());
+                assertEquals(expected.getOpeningPrice(), actual.getOpeningPrice());
+                assertEquals(expected.getHighPrice(), actual.getHighPrice());
+                assertEquals(expected.getLowPrice(), actual.getLowPrice());
+                assertEquals(expected.getTradePrice(), actual.getTradePrice());
+                assertEquals(expected.getChangeRate(), actual.getChangeRate());
+                assertEquals(expected.getChangePrice(), actual.getChangePrice());
+            }
+        }
+    }
+
+    @Test
+    void writeReplacesExistingFileWithoutLeavingTempFiles() throws IOException {
+        Path path = dir.resolve("market.snapshot");
+        MarketSnapshotCodec.write(new MarketSnapshot(1L, List.of(), Map.of()), path);
+        MarketSnapshotCodec.write(snapshot(), path);
+
+        assertEquals(snapshot().markets().size(), MarketSnapshotCodec.read(path).markets().size());
+        try (var files = Files.list(dir)) {
+            assertEquals(List.of(path), files.toList());
+        }
+    }
+
+    // 헤더 안, 헤더 끝, 본문 중간, 마지막 1바이트 전
+    @ParameterizedTest
+    @ValueSource(ints = {0, 10, MarketSnapshotCodec.HEADER_SIZE, MarketSnapshotCodec.HEADER_SIZE + 7, -1})
+    void rejectsTruncatedFile(int length) throws IOException {
+        byte[] bytes = encoded();
+        Path path = dir.resolve("truncated.snapshot");
+        Files.write(path, Arrays.copyOf(bytes, length < 0 ? bytes.length + length : length));
+
+        assertThrows(IOException.class, () -> MarketSnapshotCodec.read(path));
+    }
+
+    @Test
+    void rejectsFlippedBodyByte() throws IOException {
+        byte[] bytes = encoded();
+        for (int offset : new int[]{MarketSnapshotCodec.HEADER_SIZE, bytes.length / 2, bytes.length - 1}) {
+            byte[] corrupted = bytes.clone();
+            corrupted[offset] ^= 0x01;
+            Path path = dir.resolve("flipped-" + offset + ".snapshot");
+            Files.write(path, corrupted);
+
+            IOException e = assertThrows(IOException.class, () -> MarketSnapshotCodec.read(path));
+            assertTrue(e.getMessage().contains("CRC"), e.getMessage());
+        }
+    }
+
+    @Test
+    void rejectsWrongMagic() throws IOException {
+        byte[] bytes = encoded();
+        bytes[0] ^= 0x01;
+        Path path = dir.resolve("magic.snapshot");
+        Files.write(path, bytes);
+
+        assertThrows(IOException.class, () -> MarketSnapshotCodec.read(path));
+    }
+
+    @ParameterizedTest
+    @ValueSource(shorts = {0, 2, Short.MAX_VALUE})
+    void rejectsOtherVersion(short version) throws IOException {
+        byte[] bytes = encoded();
+        ByteBuffer.wrap(bytes).putShort(Integer.BYTES, version);
+        Path path = dir.resolve("version.snapshot");
+        Files.write(path, bytes);
+
+        IOException e = assertThrows(IOException.class, () -> MarketSnapshotCodec.read(path));
+        assertTrue(e.getMessage().contains(String.valueOf(version)), e.getMessage());
+    }
+
+    private byte[] encoded() throws IOException {
+        Path path = dir.resolve("source.snapshot");
+        MarketSnapshotCodec.write(snapshot(), path);
+        return Files.readAllBytes(path);
+    }
+
+    private static MarketSnapshot snapshot() {
+        List<Market> markets = List.of(market("KRW-BTC", "비트코인", "Bitcoin"),
+                market("KRW-ETH", "이더리움", "Ethereum"),
+                market("KRW-XRP", "리플", "Ripple"));
+
+        Map<String, List<Candle>> candles = new LinkedHashMap<>();
+        candles.put("KRW-ETH", List.of(
+                candle("KRW-ETH", "2025-01-01T00:00:00", 5_000_000, 5_200_000, 4_900_000, 5_100_000, 0.02, 100_000),
+                candle("KRW-ETH", "2025-01-02T00:00:00", 5_100_000, 5_150_000, 4_800_000, 4_850_000, -0.049, -250_000)));
+        candles.put("KRW-BTC", List.of(
+                candle("KRW-BTC", "2024-02-29T09:30:15", 143_250_000.5, 145_000_000, 140_000_000, 141_000_000, -0.0157, -2_250_000.5)));
+        candles.put("KRW-XRP", List.of());
+        return new MarketSnapshot(1_735_689_600_123L, markets, candles);
+    }
+
+    private static Market market(String code, String koreanName, String englishName) {
+        Market market = new Market();
+        market.setMarket(code);
+        market.setKoreanName(koreanName);
+        market.setEnglishName(englishName);
+        return market;
+    }
+
+    private static Candle candle(String market, String dateTime, double open, double high, double low,
+                                 double trade, double changeRate, double changePrice) {
+        Candle candle = new Candle();
+        candle.setMarket(market);
+        candle.setCandleDateTime(dateTime);
+        candle.setOpeningPrice(open);
+        candle.setHighPrice(high);
+        candle.setLowPrice(low);
+        candle.setTradePrice(trade);
+        candle.setChangeRate(changeRate);
+        candle.setChangePrice(changePrice);
+        return candle;
+    }
+}
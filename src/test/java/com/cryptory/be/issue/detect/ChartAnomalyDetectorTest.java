@@ -0,0 +1,189 @@
+package com.cryptory.be.issue.detect;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// 10년치 합성 일봉(코인 20개)으로 감지 성능 확인
+// 평상시 정규분포 변화율 + 1~2년마다 변동성 국면 전환 + 60~120일마다 큰 충격(급등/급락)을 넣고
+// 충격은 대부분 잡으면서 평상시 오탐은 적은지, 코인별 병렬 실행 결과가 순차 실행과 같은지 본다.
+class ChartAnomalyDetectorTest {
+
+    private static final int COINS = 20;
+    private static final int DAYS = 3650;
+    private static final long SEED = 20250417L;
+
+    @Test
+    void detectsInjectedShocksWithFewFalsePositives() throws Exception {
+        List<SyntheticCoin> dataset = generate();
+        Map<Integer, List<Anomaly>> detected = detectInParallel(dataset, 4);
+
+        int shocks = 0;
+        int caught = 0;
+        int falsePositives = 0;
+        for (SyntheticCoin coin : dataset) {
+            Set<Long> hits = new HashSet<>();
+            for (Anomaly anomaly : detected.get(coin.id)) {
+                hits.add(anomaly.chartId());
+                if (!coin.shockDays.contains((int) (anomaly.chartId() % DAYS))) {
+                    falsePositives++;
+                }
+            }
+            for (int day : coin.shockDays) {
+                shocks++;
+                if (hits.contains(chartId(coin.id, day))) {
+                    caught++;
+                }
+            }
+        }
+
+        double recall = (double) caught / shocks;
+        double falsePositivesPerCoinYear = falsePositives / (COINS * DAYS / 365.0);
+        assertTrue(shocks > COINS * 25, "충격 수: " + shocks);
+        assertTrue(recall >= 0.95, "재현율: " + recall);
+        assertTrue(falsePositivesPerCoinYear <= 3.0, "코인-연당 오탐: " + falsePositivesPerCoinYear);
+    }
+
+    @Test
+    void shockDirectionMatchesKind() {
+        SyntheticCoin coin = generate().get(0);
+        ChartAnomalyDetector detector = new ChartAnomalyDetector(ChartAnomalyDetector.Settings.defaults());
+        for (int day = 0; day < DAYS; day++) {
+            Anomaly anomaly = coin.feed(detector, day);
+            if (anomaly != null && coin.shockDays.contains(day) && anomaly.kind() != Anomaly.Kind.VOLATILITY) {
+                assertEquals(coin.changeRates[day] > 0 ? Anomaly.Kind.SURGE : Anomaly.Kind.PLUNGE, anomaly.kind());
+            }
+        }
+    }
+
+    @Test
+    void parallelRunMatchesSequentialRun() throws Exception {
+        List<SyntheticCoin> dataset = generate();
+        assertEquals(detectInParallel(dataset, 1), detectInParallel(dataset, 8));
+    }
+
+    @Test
+    void noDetectionBeforeWindowIsFull() {
+        ChartAnomalyDetector detector = new ChartAnomalyDetector(ChartAnomalyDetector.Settings.defaults());
+        for (int day = 0; day < ChartAnomalyDetector.Settings.defaults().window(); day++) {
+            double change = day == 10 ? 0.5 : 0.001;
+            assertNull(detector.accept((long) day, change, 110, 90, 100));
+        }
+    }
+
+    // 저장 실패 시 버리는 복사본에 반영해도 원래 감지기 상태는 바뀌지 않아야 함
+    @Test
+    void copyDoesNotShareState() {
+        SyntheticCoin coin = generate().get(0);
+        ChartAnomalyDetector original = new ChartAnomalyDetector(ChartAnomalyDetector.Settings.defaults());
+        ChartAnomalyDetector reference = new ChartAnomalyDetector(ChartAnomalyDetector.Settings.defaults());
+        int half = DAYS / 2;
+        for (int day = 0; day < half; day++) {
+            coin.feed(original, day);
+            coin.feed(reference, day);
+        }
+
+        ChartAnomalyDetector discarded = original.copy();
+        for (int day = half; day < DAYS; day++) {
+            coin.feed(discarded, day);
+        }
+
+        for (int day = half; day < DAYS; day++) {
+            assertEquals(coin.feed(reference, day), coin.feed(original, day));
+        }
+    }
+
+    private static Map<Integer, List<Anomaly>> detectInParallel(List<SyntheticCoin> dataset, int threads) throws Exception {
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        try {
+            Map<Integer, Future<List<Anomaly>>> futures = new TreeMap<>();
+            for (SyntheticCoin coin : dataset) {
+                futures.put(coin.id, pool.submit(() -> {
+                    ChartAnomalyDetector detector = new ChartAnomalyDetector(ChartAnomalyDetector.Settings.defaults());
+                    List<Anomaly> found = new ArrayList<>();
+                    for (int day = 0; day < DAYS; day++) {
+                        Anomaly anomaly = coin.feed(detector, day);
+                        if (anomaly != null) {
+                            found.add(anomaly);
+                        }
+                    }
+                    return found;
+                }));
+            }
+            Map<Integer, List<Anomaly>> result = new TreeMap<>();
+            for (Map.Entry<Integer, Future<List<Anomaly>>> entry : futures.entrySet()) {
+                result.put(entry.getKey(), entry.getValue().get());
+            }
+            return result;
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    private static List<SyntheticCoin> generate() {
+        Random random = new Random(SEED);
+        List<SyntheticCoin> coins = new ArrayList<>();
+        for (int id = 0; id < COINS; id++) {
+            coins.add(new SyntheticCoin(id, random));
+        }
+        return coins;
+    }
+
+    private static long chartId(int coinId, int day) {
+        return (long) coinId * DAYS + day;
+    }
+
+    private static final class SyntheticCoin {
+        private final int id;
+        private final double[] changeRates = new double[DAYS];
+        private final double[] highs = new double[DAYS];
+        private final double[] lows = new double[DAYS];
+        private final double[] closes = new double[DAYS];
+        private final Set<Integer> shockDays = new HashSet<>();
+
+        private SyntheticCoin(int id, Random random) {
+            this.id = id;
+            double baseVolatility = 0.015 + random.nextDouble() * 0.035;
+            double regime = 1.0;
+            int nextRegimeChange = 365 + random.nextInt(365);
+            int nextShock = 60 + random.nextInt(61);
+            double close = 1000 + random.nextDouble() * 100000;
+
+            for (int day = 0; day < DAYS; day++) {
+                if (day == nextRegimeChange) {
+                    regime = regime == 1.0 ? 1.8 : 1.0;
+                    nextRegimeChange += 365 + random.nextInt(365);
+                }
+                double volatility = baseVolatility * regime;
+                double change = random.nextGaussian() * volatility;
+                double intraday = Math.abs(random.nextGaussian()) * volatility * 0.8;
+                if (day == nextShock) {
+                    change = (random.nextBoolean() ? 1 : -1) * (7 + random.nextDouble() * 3) * volatility;
+                    intraday *= 2;
+                    shockDays.add(day);
+                    nextShock += 60 + random.nextInt(61);
+                }
+                change = Math.max(change, -0.9);
+
+                double previousClose = close;
+                close = previousClose * (1 + change);
+                double high = Math.max(previousClose, close) * (1 + intraday / 2);
+                double low = Math.min(previousClose, close) * (1 - intraday / 2);
+
+                changeRates[day] = change;
+                highs[day] = high;
+                lows[day] = low;
+                closes[day] = close;
+            }
+        }
+
+        private Anomaly feed(ChartAnomalyDetector detector, int day) {
+            return detector.accept(chartId(id, day), changeRates[day], highs[day], lows[day], closes[day]);
+        }
+    }
+}
@@ -0,0 +1,132 @@
+package com.cryptory.be.issue.service;
+
+import com.cryptory.be.issue.domain.IssueGenerationJob;
+import com.cryptory.be.issue.domain.IssueGenerationJobStatus;
+import com.cryptory.be.issue.dto.IssueDetailRow;
+import com.cryptory.be.issue.repository.IssueGenerationJobRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 이슈 생성 작업 큐의 등록/임대/완료/임대 상실 확인
+ * 큐가 REQUIRES_NEW로 동작하므로 테스트 트랜잭션 없이 실행하고 끝나면 직접 지운다.
+ */
+@DataJpaTest(properties = "spring.cloud.config.enabled=false")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class IssueGenerationQueueTest {
+
+    @Autowired
+    private IssueGenerationJobRepository jobRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @AfterEach
+    void tearDown() {
+        jobRepository.deleteAll();
+    }
+
+    @Test
+    void enqueueCreatesOneJobPerChart() {
+        IssueGenerationQueue queue = queue(120);
+
+        assertTrue(queue.enqueue(row(1L, 10L, 100L)));
+        assertFalse(queue.enqueue(row(2L, 10L, 100L)));
+        assertFalse(queue.enqueue(row(3L, 10L, null)));
+
+        assertEquals(1, jobRepository.count());
+        assertEquals(1, queue.countPending());
+    }
+
+    @Test
+    void claimLeasesJobOnlyOnce() {
+        IssueGenerationQueue queue = queue(120);
+        queue.enqueue(row(1L, 10L, 100L));
+
+        List<IssueGenerationJob> first = queue.claim("worker-1", 10);
+        List<IssueGenerationJob> second = queue.claim("worker-2", 10);
+
+        assertEquals(1, first.size());
+        assertEquals(IssueGenerationJobStatus.RUNNING, first.get(0).getStatus());
+        assertEquals("worker-1", first.get(0).getLeaseOwner());
+        assertEquals(1, first.get(0).getAttempts());
+        assertTrue(second.isEmpty());
+    }
+
+    @Test
+    void completeMarksJobDone() {
+        IssueGenerationQueue queue = queue(120);
+        queue.enqueue(row(1L, 10L, 100L));
+        IssueGenerationJob job = queue.claim("worker-1", 10).get(0);
+
+        assertTrue(complete(queue, job));
+
+        IssueGenerationJob saved = jobRepository.findById(job.getId()).orElseThrow();
+        assertEquals(IssueGenerationJobStatus.DONE, saved.getStatus());
+        assertNull(saved.getLeaseOwner());
+        assertTrue(queue.claim("worker-2", 10).isEmpty());
+    }
+
+    @Test
+    void expiredLeaseIsReclaimedAndOldOwnerCannotComplete() {
+        IssueGenerationQueue queue = queue(0); // 임대 즉시 만료
+        queue.enqueue(row(1L, 10L, 100L));
+
+        IssueGenerationJob lost = queue.claim("worker-1", 10).get(0);
+        IssueGenerationJob reclaimed = queue.claim("worker-2", 10).get(0);
+
+        assertEquals(lost.getId(), reclaimed.getId());
+        assertEquals(2, reclaimed.getAttempts());
+        assertFalse(complete(queue, lost));
+        queue.fail(lost, "late", 1, Duration.ZERO); // 임대를 잃은 워커의 실패 처리도 반영되지 않음
+        assertEquals("worker-2", jobRepository.findById(lost.getId()).orElseThrow().getLeaseOwner());
+        assertTrue(complete(queue, reclaimed));
+        assertEquals(IssueGenerationJobStatus.DONE, jobRepository.findById(lost.getId()).orElseThrow().getStatus());
+    }
+
+    @Test
+    void failRequeuesUntilMaxAttemptsThenFails() {
+        IssueGenerationQueue queue = queue(120);
+        queue.enqueue(row(1L, 10L, 100L));
+
+        IssueGenerationJob job = queue.claim("worker-1", 10).get(0);
+        assertTrue(queue.fail(job, "timeout", 2, Duration.ZERO));
+        assertEquals(IssueGenerationJobStatus.PENDING, jobRepository.findById(job.getId()).orElseThrow().getStatus());
+
+        job = queue.claim("worker-2", 10).get(0);
+        assertFalse(queue.fail(job, "timeout", 2, Duration.ZERO));
+        assertEquals(IssueGenerationJobStatus.FAILED, jobRepository.findById(job.getId()).orElseThrow().getStatus());
+
+        // 최종 실패한 작업은 다시 요청하면 대기 상태로
+        assertTrue(queue.enqueue(row(1L, 10L, 100L)));
+        assertEquals(1, queue.countPending());
+    }
+
+    private IssueGenerationQueue queue(long leaseSeconds) {
+        return new IssueGenerationQueue(jobRepository, transactionManager, leaseSeconds);
+    }
+
+    // 워커처럼 결과 반영 트랜잭션 안에서 완료 처리
+    private boolean complete(IssueGenerationQueue queue, IssueGenerationJob job) {
+        return Boolean.TRUE.equals(new TransactionTemplate(transactionManager)
+                .execute(status -> queue.completeInCurrentTransaction(job)));
+    }
+
+    private static IssueDetailRow row(Long issueId, Long coinId, Long chartId) {
+        return new IssueDetailRow(issueId, coinId, chartId, false, "제목", "내용", null, null, null);
+    }
+}
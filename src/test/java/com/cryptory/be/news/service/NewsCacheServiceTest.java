@@ -0,0 +1,163 @@
+package com.cryptory.be.news.service;
+
+import com.cryptory.be.openapi.dto.NaverNews;
+import com.cryptory.be.openapi.service.NaverQuotaCounter;
+import com.cryptory.be.openapi.service.NaverService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * 뉴스 캐시의 fresh/stale/miss 처리 확인
+ * 시각은 System.currentTimeMillis()를 그대로 쓰므로 ttl/stale 설정으로 구간을 만든다.
+ * (ttl 300초면 방금 넣은 캐시는 fresh, ttl 0초 + stale 3600초면 stale, 둘 다 0초면 만료)
+ */
+class NewsCacheServiceTest {
+
+    private static final String WORD = "비트코인";
+
+    private NaverService naverService;
+    private MeterRegistry meterRegistry;
+    private List<Runnable> backgroundTasks;
+    private List<Object> events;
+
+    @BeforeEach
+    void setUp() {
+        naverService = mock(NaverService.class);
+        meterRegistry = new SimpleMeterRegistry();
+        backgroundTasks = new CopyOnWriteArrayList<>();
+        events = new CopyOnWriteArrayList<>();
+    }
+
+    @Test
+    void freshHitDoesNotFetchAgain() {
+        when(naverService.getNaverNewsWithWord(WORD)).thenReturn(news("첫 기사"));
+        NewsCacheService service = service(300, 3600, budget(true));
+
+        List<NaverNews> first = service.getNews(WORD);
+        List<NaverNews> second = service.getNews(WORD);
+
+        assertSame(first, second);
+        verify(naverService, times(1)).getNaverNewsWithWord(WORD);
+        assertTrue(backgroundTasks.isEmpty());
+        assertEquals(1, count("miss"));
+        assertEquals(1, count("fresh"));
+        assertEquals(1, events.size());
+    }
+
+    @Test
+    void staleHitsReturnCacheAndTriggerOneRefresh() {
+        when(naverService.getNaverNewsWithWord(WORD)).thenReturn(news("이전 기사"), news("새 기사"));
+        NewsCacheService service = service(0, 3600, budget(true));
+        List<NaverNews> initial = service.getNews(WORD);
+
+        for (int i = 0; i < 5; i++) {
+            assertSame(initial, service.getNews(WORD));
+        }
+        assertEquals(1, backgroundTasks.size()); // 갱신 중에는 같은 검색어로 다시 요청하지 않음
+        assertEquals(5, count("stale"));
+
+        backgroundTasks.get(0).run();
+
+        verify(naverService, times(2)).getNaverNewsWithWord(WORD);
+        assertEquals("새 기사", service.getNews(WORD).get(0).getTitle());
+        assertEquals(2, events.size());
+    }
+
+    @Test
+    void concurrentMissesShareOneFetch() throws Exception {
+        CountDownLatch fetching = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(naverService.getNaverNewsWithWord(WORD)).thenAnswer(invocation -> {
+            fetching.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return news("공유 기사");
+        });
+        NewsCacheService service = service(300, 3600, budget(true));
+
+        int callers = 8;
+        ExecutorService pool = Executors.newFixedThreadPool(callers);
+        try {
+            List<Future<List<NaverNews>>> results = new ArrayList<>();
+            for (int i = 0; i < callers; i++) {
+                results.add(pool.submit(() -> service.getNews(WORD)));
+            }
+            assertTrue(fetching.await(5, TimeUnit.SECONDS));
+            Thread.sleep(100); // 나머지 요청이 진행 중인 조회를 기다리도록
+            release.countDown();
+
+            List<NaverNews> first = results.get(0).get(5, TimeUnit.SECONDS);
+            for (Future<List<NaverNews>> result : results) {
+                assertSame(first, result.get(5, TimeUnit.SECONDS));
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+        verify(naverService, times(1)).getNaverNewsWithWord(WORD);
+        assertEquals(1, events.size());
+    }
+
+    @Test
+    void failedFetchFallsBackToExpiredCache() {
+        when(naverService.getNaverNewsWithWord(WORD))
+                .thenReturn(news("만료된 기사"))
+                .thenThrow(new IllegalStateException("네이버 오류"));
+        NewsCacheService service = service(0, 0, budget(true));
+        List<NaverNews> expired = service.getNews(WORD);
+
+        assertSame(expired, service.getNews(WORD));
+        verify(naverService, times(2)).getNaverNewsWithWord(WORD);
+        assertEquals(2, count("miss"));
+    }
+
+    @Test
+    void failedFetchWithoutCacheThrows() {
+        when(naverService.getNaverNewsWithWord(WORD)).thenThrow(new IllegalStateException("네이버 오류"));
+        NewsCacheService service = service(300, 3600, budget(true));
+
+        assertThrows(IllegalStateException.class, () -> service.getNews(WORD));
+        assertEquals(-1, service.getAgeMillis(WORD));
+    }
+
+    @Test
+    void staleHitSkipsRefreshWithoutBackgroundBudget() {
+        when(naverService.getNaverNewsWithWord(WORD)).thenReturn(news("이전 기사"));
+        NewsCacheService service = service(0, 3600, budget(false));
+        List<NaverNews> initial = service.getNews(WORD);
+
+        assertSame(initial, service.getNews(WORD));
+        assertFalse(service.refreshInBackground(WORD));
+        assertTrue(backgroundTasks.isEmpty());
+        verify(naverService, times(1)).getNaverNewsWithWord(WORD);
+        assertEquals(1, count("stale"));
+    }
+
+    private NewsCacheService service(long ttlSeconds, long staleSeconds, NaverQuotaCounter quotaCounter) {
+        return new NewsCacheService(naverService, quotaCounter, backgroundTasks::add,
+                ttlSeconds, staleSeconds, events::add, meterRegistry);
+    }
+
+    // reserve가 한도와 같으면 백그라운드 예산 없음
+    private NaverQuotaCounter budget(boolean available) {
+        return new NaverQuotaCounter(100, available ? 0 : 100, meterRegistry);
+    }
+
+    private double count(String result) {
+        return meterRegistry.counter("news.cache.requests", "result", result).count();
+    }
+
+    private static List<NaverNews> news(String title) {
+        NaverNews news = new NaverNews();
+        news.setTitle(title);
+        news.setPubDate("Mon, 17 Feb 2025 14:30:00 +0900");
+        return List.of(news);
+    }
+}